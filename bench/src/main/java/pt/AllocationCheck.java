@@ -0,0 +1,197 @@
+package pt;
+
+import java.lang.management.ManagementFactory;
+
+
+/**
+ * Fails the build when a turn of TheCarver's parts starts allocating
+ * <p/>
+ * Replays the recorded scans through the same pipeline TheCarver runs
+ * (sense, predict, radar, gun, tank, with the CPU budget timing each stage)
+ * on a MemoryRobot, in 1v1 with each movement and in melee. After warming
+ * up, ThreadMXBean.getThreadAllocatedBytes is read around a few thousand
+ * ticks; more than MAX_BYTES_PER_TICK on average in any mode is an error.
+ * <p/>
+ * Runs in the verify phase of the bench module (mvn verify), or by hand:
+ * java -cp bench/target/benchmarks.jar:robocode.jar pt.AllocationCheck
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+public final class AllocationCheck
+{
+    ///Bytes a tick may allocate on average
+    static final double MAX_BYTES_PER_TICK = 8;
+
+    ///Ticks run before measuring (lets the JIT settle)
+    private static final int WARMUP_TICKS = 20000;
+
+    ///Ticks measured
+    private static final int MEASURED_TICKS = 5000;
+
+
+    /**
+     * No instances
+     */
+    private AllocationCheck()
+    {
+    }
+
+
+    /**
+     * Replays recorded scans through one set of parts
+     */
+    private static final class Replay
+    {
+        ///Recorded scans
+        private final ScanFrames.Frame[] frames;
+
+        ///Robot, knowledge and radar
+        private final BenchParts parts;
+
+        ///The turn, as TheCarver runs it
+        private final TickPipeline pipeline = new TickPipeline();
+
+        ///Frame of the current tick
+        private int index;
+
+
+        /**
+         * Constructor for Replay
+         *
+         * @param frames   recorded scans
+         * @param others   other robots on the field
+         * @param movement chosenMovement the 1v1 tank starts from (0
+         *                 oscillates, 150 stops and goes, 250 surfs)
+         */
+        Replay( ScanFrames.Frame[] frames, int others, int movement )
+        {
+            this.frames = frames;
+            parts = new BenchParts( others );
+
+            final BenchParts p = parts;
+            final RobotPart gun = new VirtualGuns( p.robot, p.state );
+            final RobotPart tank = others > 1 ?
+                            new TankMelee( p.robot, p.state ) :
+                            new Tank1v1( p.robot, p.state );
+            gun.init();
+            //Tank1v1 picks its movement from where the counter stands
+            p.state.profiles.get( frames[0].event.getName() )
+                            .chosenMovement = movement;
+            tank.init();
+
+            pipeline.setTimer( p.state.budget );
+            pipeline.setStage( TickPipeline.Stage.SENSE, new Runnable()
+            {
+                public void run()
+                {
+                    p.sense( Replay.this.frames[index] );
+                }
+            } );
+            pipeline.setStage( TickPipeline.Stage.PREDICT, new Runnable()
+            {
+                public void run()
+                {
+                    p.predict();
+                }
+            } );
+            pipeline.setStage( TickPipeline.Stage.RADAR, new Runnable()
+            {
+                public void run()
+                {
+                    p.radar.move();
+                }
+            } );
+            pipeline.setStage( TickPipeline.Stage.GUN, new Runnable()
+            {
+                public void run()
+                {
+                    gun.move();
+                }
+            } );
+            pipeline.setStage( TickPipeline.Stage.TANK, new Runnable()
+            {
+                public void run()
+                {
+                    tank.move();
+                }
+            } );
+        }
+
+
+        /**
+         * Runs ticks
+         *
+         * @param ticks number of ticks
+         */
+        void run( int ticks )
+        {
+            for ( int i = 0; i < ticks; i++ )
+            {
+                pipeline.runTick();
+                index = ( index + 1 == frames.length ) ? 0 : index + 1;
+            }
+        }
+    }
+
+
+    /**
+     * Measures the bytes one replay allocates per tick
+     *
+     * @param replay replay to measure
+     * @return bytes per tick
+     */
+    static double bytesPerTick( Replay replay )
+    {
+        com.sun.management.ThreadMXBean threads =
+                        (com.sun.management.ThreadMXBean)ManagementFactory
+                                        .getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        replay.run( WARMUP_TICKS );
+        long before = threads.getThreadAllocatedBytes( thread );
+        replay.run( MEASURED_TICKS );
+        long after = threads.getThreadAllocatedBytes( thread );
+        return (double)( after - before ) / MEASURED_TICKS;
+    }
+
+
+    /**
+     * Runs the check
+     *
+     * @param args not used
+     */
+    public static void main( String[] args )
+    {
+        ScanFrames.Frame[] oneVOne = ScanFrames.load( ScanFrames.ONE_V_ONE );
+        ScanFrames.Frame[] melee = ScanFrames.load( ScanFrames.MELEE );
+
+        String[] names = { "1v1 oscillate", "1v1 stop and go", "1v1 surf",
+                        "melee" };
+        Replay[] replays = { new Replay( oneVOne, 1, 0 ),
+                        new Replay( oneVOne, 1, 150 ),
+                        new Replay( oneVOne, 1, 250 ),
+                        new Replay( melee, 3, 0 ) };
+
+        boolean failed = false;
+        for ( int i = 0; i < replays.length; i++ )
+        {
+            double bytes = bytesPerTick( replays[i] );
+            boolean over = bytes > MAX_BYTES_PER_TICK;
+            failed |= over;
+            System.out.println( String.format( "%-16s %8.1f bytes/tick%s",
+                            names[i],
+                            bytes,
+                            over ? "  (limit " + MAX_BYTES_PER_TICK + ")" : "" ) );
+        }
+
+        if ( failed )
+        {
+            throw new IllegalStateException(
+                            "Per-tick path allocates; see the lines above" );
+        }
+    }
+}
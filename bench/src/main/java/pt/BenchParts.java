@@ -0,0 +1,138 @@
+package pt;
+
+import java.util.Random;
+
+
+/**
+ * TheCarver's knowledge and an in-memory robot, ready to measure a part
+ * <p/>
+ * Parts built on these run exactly as they do in the engine, but answer
+ * their getters from a MemoryRobot posed at a recorded frame.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+public class BenchParts
+{
+    ///Scans fed to a robot before it is measured
+    static final int HISTORY = 16;
+
+    ///Robot the parts drive
+    final MemoryRobot robot = new MemoryRobot();
+
+    ///Knowledge shared by the parts
+    final CarverState state = new CarverState(
+                    ProfileStore.create( ProfileStore.SharePolicy.ISOLATED ),
+                    new Random( 42 ) );
+
+    ///Radar deciding which scans to track
+    final Radar radar;
+
+
+    /**
+     * Constructor for BenchParts
+     *
+     * @param others other robots on the field (decides melee or 1v1 radar)
+     */
+    public BenchParts( int others )
+    {
+        robot.setOthers( others );
+        radar = others > 1 ?
+                        new RadarMelee( robot, state ) :
+                        new Radar1v1( robot, state );
+        state.isMeleeMode = others > 1;
+        radar.init();
+    }
+
+
+    /**
+     * Creates one set of parts per frame, each having seen the scans just
+     * before it
+     * <p/>
+     * Measuring a part on set i then costs only the part's own move, with
+     * the enemy state it would have had at that point of the battle.
+     *
+     * @param frames recorded frames
+     * @param others other robots on the field
+     * @return parts, one set per frame
+     */
+    static BenchParts[] warmedUp( ScanFrames.Frame[] frames, int others )
+    {
+        BenchParts[] parts = new BenchParts[frames.length];
+        for ( int i = 0; i < frames.length; i++ )
+        {
+            parts[i] = new BenchParts( others );
+            for ( int j = Math.max( 0, i - HISTORY ); j <= i; j++ )
+            {
+                parts[i].load( frames[j] );
+            }
+        }
+        return parts;
+    }
+
+
+    /**
+     * Moves the robot to a recorded frame, hands it the frame's scan and
+     * brings the estimates up to date (SENSE, then PREDICT)
+     *
+     * @param frame recorded frame
+     */
+    void load( ScanFrames.Frame frame )
+    {
+        sense( frame );
+        predict();
+    }
+
+
+    /**
+     * Moves the robot to a recorded frame and hands it the frame's scan
+     * (the SENSE stage)
+     *
+     * @param frame recorded frame
+     */
+    void sense( ScanFrames.Frame frame )
+    {
+        pose( frame );
+        state.snapshot.clear();
+        state.snapshot.addScan( frame.event );
+        state.sense( radar, robot );
+    }
+
+
+    /**
+     * Brings every enemy's estimate up to date (the PREDICT stage)
+     */
+    void predict()
+    {
+        state.predict( robot );
+    }
+
+
+    /**
+     * Moves the robot to a recorded frame without scanning
+     *
+     * @param frame recorded frame
+     */
+    void pose( ScanFrames.Frame frame )
+    {
+        robot.setState( frame.x, frame.y, frame.heading, frame.gunHeading,
+                        frame.radarHeading, frame.gunHeat, frame.velocity,
+                        frame.energy, frame.time );
+    }
+
+
+    /**
+     * Sum of the last commands
+     *
+     * @return command checksum
+     */
+    double commands()
+    {
+        return robot.getTurnRemainingRadians() + robot.getGunTurnRemaining()
+                        + robot.getRadarTurnRemaining() + robot.getAhead()
+                        + robot.getFirePower();
+    }
+}
@@ -0,0 +1,51 @@
+package pt;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Runs the benchmarks with allocation rates in every result
+ * <p/>
+ * Accepts the usual JMH command line (e.g. a benchmark regex, -wi, -i, -f)
+ * and always adds the GC profiler, so gc.alloc.rate.norm (bytes allocated
+ * per operation) is reported next to the time of each benchmark.
+ * <p/>
+ * Usage: java -jar bench/target/benchmarks.jar [JMH options]
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+public final class BenchmarkMain
+{
+    /**
+     * No instances
+     */
+    private BenchmarkMain()
+    {
+    }
+
+
+    /**
+     * Runs the benchmarks
+     *
+     * @param args JMH options
+     * @throws CommandLineOptionException if the options are invalid
+     * @throws RunnerException            if a benchmark fails
+     */
+    public static void main( String[] args )
+                    throws CommandLineOptionException, RunnerException
+    {
+        new Runner( new OptionsBuilder()
+                        .parent( new CommandLineOptions( args ) )
+                        .addProfiler( GCProfiler.class )
+                        .build() ).run();
+    }
+}
@@ -0,0 +1,77 @@
+package pt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Cost of one AdvancedEnemyBot.update on recorded 1v1 scans
+ * <p/>
+ * The recording is replayed in order, so the enemy sees the same sequence of
+ * scans (and heading changes) it saw in battle.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class EnemyBotBenchmark
+{
+    ///Recorded scans
+    private ScanFrames.Frame[] frames;
+
+    ///Robot doing the scanning
+    private BenchParts parts;
+
+    ///Enemy being updated
+    private AdvancedEnemyBot enemy;
+
+    ///Frame measured next
+    private int index;
+
+
+    /**
+     * Loads the recording
+     */
+    @Setup
+    public void setUp()
+    {
+        frames = ScanFrames.load( ScanFrames.ONE_V_ONE );
+        parts = new BenchParts( 1 );
+        enemy = new AdvancedEnemyBot();
+    }
+
+
+    /**
+     * Updates the enemy with the next scan
+     *
+     * @return predicted position (consumed by JMH)
+     */
+    @Benchmark
+    public double update()
+    {
+        int i = index;
+        index = ( i + 1 == frames.length ) ? 0 : i + 1;
+        ScanFrames.Frame frame = frames[i];
+        parts.pose( frame );
+        enemy.update( frame.event, parts.robot, frame.time );
+        return enemy.getX() + enemy.getY();
+    }
+}
@@ -0,0 +1,84 @@
+package pt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Cost of one Gun.move on recorded 1v1 scans
+ * <p/>
+ * linear forces linear aiming (as while oscillating); circular lets the gun
+ * pick, and against the spinner recording it nearly always iterates the
+ * circular prediction.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class GunBenchmark
+{
+    ///Aiming mode
+    @Param( { "linear", "circular" } )
+    String aim;
+
+    ///One set of parts per recorded frame
+    private BenchParts[] parts;
+
+    ///Gun of each robot
+    private Gun[] guns;
+
+    ///Frame measured next
+    private int index;
+
+
+    /**
+     * Loads the recording and builds a gun for every frame
+     */
+    @Setup
+    public void setUp()
+    {
+        parts = BenchParts.warmedUp(
+                        ScanFrames.load( ScanFrames.ONE_V_ONE ), 1 );
+        guns = new Gun[parts.length];
+        for ( int i = 0; i < parts.length; i++ )
+        {
+            parts[i].state.isMovementOne = aim.equals( "linear" );
+            guns[i] = new Gun( parts[i].robot, parts[i].state );
+            guns[i].init();
+        }
+    }
+
+
+    /**
+     * Aims at the next frame
+     *
+     * @return commands issued (consumed by JMH)
+     */
+    @Benchmark
+    public double move()
+    {
+        int i = index;
+        index = ( i + 1 == guns.length ) ? 0 : i + 1;
+        guns[i].move();
+        return parts[i].commands();
+    }
+}
@@ -0,0 +1,167 @@
+package pt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.geom.Point2D;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Circular prediction: the old fixed loop against CircularIntercept
+ * <p/>
+ * Every frame of the 1v1 recording is loaded into its own set of parts up
+ * front, so each call solves a real enemy state. loop is what Gun did
+ * before CircularIntercept: 10 rounds of Point2D.distance and
+ * getFutureXCircular/getFutureYCircular. solver solves the same power;
+ * solverThreePowers solves three in one call.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class InterceptBenchmark
+{
+    ///Iterations of the old loop
+    private static final int ITERATIONS = 10;
+
+    ///One set of parts per recorded frame
+    private BenchParts[] parts;
+
+    ///Solver under test
+    private final CircularIntercept intercept = new CircularIntercept();
+
+    ///Power Gun picks at each frame
+    private double[] power;
+
+    ///Powers solved together
+    private final double[] three = { 1, 2, 3 };
+
+    ///Single power handed to the solver
+    private final double[] one = new double[1];
+
+    ///Frame measured next
+    private int index;
+
+
+    /**
+     * Loads the recording
+     */
+    @Setup
+    public void setUp()
+    {
+        parts = BenchParts.warmedUp(
+                        ScanFrames.load( ScanFrames.ONE_V_ONE ), 1 );
+        power = new double[parts.length];
+        for ( int i = 0; i < parts.length; i++ )
+        {
+            power[i] = Gun.firePower( parts[i].robot, parts[i].state );
+        }
+    }
+
+
+    /**
+     * @return index of the frame to measure, moving on to the next
+     */
+    private int next()
+    {
+        int i = index;
+        index = ( i + 1 == parts.length ) ? 0 : i + 1;
+        return i;
+    }
+
+
+    /**
+     * The loop Gun ran before CircularIntercept
+     *
+     * @return predicted position (consumed by JMH)
+     */
+    @Benchmark
+    public double loop()
+    {
+        int i = next();
+        MemoryRobot robot = parts[i].robot;
+        AdvancedEnemyBot enemy = parts[i].state.enemy;
+        double bulletSpeed = 20 - power[i] * 3;
+
+        double futureX = enemy.getX();
+        double futureY = enemy.getY();
+        for ( int k = 0; k < ITERATIONS; k++ )
+        {
+            long time = (long)( Point2D.distance( robot.getX(),
+                            robot.getY(),
+                            futureX,
+                            futureY ) / bulletSpeed );
+            futureX = enemy.getFutureXCircular( time );
+            futureY = enemy.getFutureYCircular( time );
+        }
+        return futureX + futureY;
+    }
+
+
+    /**
+     * CircularIntercept for the same power
+     *
+     * @return predicted position (consumed by JMH)
+     */
+    @Benchmark
+    public double solver()
+    {
+        int i = next();
+        set( i );
+        one[0] = power[i];
+        intercept.solve( one, 1, ITERATIONS );
+        return intercept.getX( 0 ) + intercept.getY( 0 );
+    }
+
+
+    /**
+     * CircularIntercept for powers 1, 2 and 3 in one call
+     *
+     * @return predicted positions (consumed by JMH)
+     */
+    @Benchmark
+    public double solverThreePowers()
+    {
+        set( next() );
+        intercept.solve( three, three.length, ITERATIONS );
+        return intercept.getX( 0 ) + intercept.getX( 1 )
+                        + intercept.getX( 2 );
+    }
+
+
+    /**
+     * Hands a frame's robot and enemy to the solver
+     *
+     * @param i frame index
+     */
+    private void set( int i )
+    {
+        MemoryRobot robot = parts[i].robot;
+        AdvancedEnemyBot enemy = parts[i].state.enemy;
+        intercept.setShooter( robot.getX(), robot.getY() );
+        intercept.setField( robot.getBattleFieldWidth(),
+                        robot.getBattleFieldHeight() );
+        intercept.setTarget( enemy.getX(),
+                        enemy.getY(),
+                        Math.toRadians( enemy.getHeading() ),
+                        enemy.getVelocity(),
+                        enemy.getHeadingChange() );
+    }
+}
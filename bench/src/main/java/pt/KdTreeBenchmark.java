@@ -0,0 +1,126 @@
+package pt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Cost of one DynamicClusteringGun search in a KdTree
+ * <p/>
+ * The tree is filled the way a match fills it: situations drift from scan to
+ * scan rather than jumping, and past capacity the oldest bucket is dropped.
+ * visits is the node limit of the search (150 and 1500 are the gun's least
+ * and full effort; 0 searches without a limit).
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class KdTreeBenchmark
+{
+    ///Points added before measuring (a full tree drops the oldest)
+    @Param( { "2000", "32768", "100000" } )
+    int points;
+
+    ///Node limit of each search (0 for none)
+    @Param( { "150", "1500", "0" } )
+    int visits;
+
+    ///Neighbours asked for
+    private static final int K = 24;
+
+    ///Queries cycled through
+    private static final int QUERIES = 1024;
+
+    ///Tree searched
+    private KdTree tree;
+
+    ///Queries, Waves.FEATURES apiece
+    private double[][] queries;
+
+    ///Query measured next
+    private int index;
+
+
+    /**
+     * Fills the tree and makes the queries
+     */
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random( 42 );
+        tree = new KdTree( Waves.FEATURES, 4096, 8, K );
+        double[] point = situation( random, new double[Waves.FEATURES] );
+        for ( int i = 0; i < points; i++ )
+        {
+            //Drift a little, now and then change course
+            for ( int d = 0; d < point.length; d++ )
+            {
+                point[d] += ( random.nextDouble() - 0.5 ) * 0.05;
+            }
+            if ( random.nextInt( 20 ) == 0 )
+            {
+                situation( random, point );
+            }
+            tree.add( point, random.nextDouble() * 2 - 1 );
+        }
+
+        queries = new double[QUERIES][];
+        for ( int i = 0; i < QUERIES; i++ )
+        {
+            queries[i] = situation( random, new double[Waves.FEATURES] );
+        }
+    }
+
+
+    /**
+     * Fills in a random situation, each coordinate about 0 to 1
+     *
+     * @param random random numbers
+     * @param into   array to fill
+     * @return into
+     */
+    private static double[] situation( Random random, double[] into )
+    {
+        for ( int d = 0; d < into.length; d++ )
+        {
+            into[d] = random.nextDouble();
+        }
+        return into;
+    }
+
+
+    /**
+     * Searches for the next query's neighbours
+     *
+     * @return nodes visited (consumed by JMH)
+     */
+    @Benchmark
+    public int search()
+    {
+        int i = index;
+        index = ( i + 1 == QUERIES ) ? 0 : i + 1;
+        tree.search( queries[i], K, visits == 0 ? Integer.MAX_VALUE : visits );
+        return tree.getVisited();
+    }
+}
@@ -0,0 +1,112 @@
+package pt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Cost of one minimum risk choice against a field of enemies
+ * <p/>
+ * Enemies are placed at random on an 800 x 600 field, up to nine of them
+ * for a ten-robot melee; each call loads them all and scores every
+ * candidate, as TankMelee does each turn.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class MinimumRiskBenchmark
+{
+    ///Battlefield size
+    private static final double WIDTH = 800, HEIGHT = 600;
+
+    ///Positions measured in turn
+    private static final int LAYOUTS = 64;
+
+    ///Enemies on the field
+    @Param( { "3", "9" } )
+    public int enemies;
+
+    ///Enemy positions and energies, enemies per layout
+    private double[] enemyX, enemyY, enemyEnergy;
+
+    ///Our position in each layout
+    private final double[] ourX = new double[LAYOUTS];
+
+    ///Our position in each layout
+    private final double[] ourY = new double[LAYOUTS];
+
+    ///Chooser under test
+    private final MinimumRisk risk = new MinimumRisk();
+
+    ///Random numbers for the candidates
+    private final Random random = new Random( 42 );
+
+    ///Layout measured next
+    private int index;
+
+
+    /**
+     * Places the robots
+     */
+    @Setup
+    public void setUp()
+    {
+        Random layout = new Random( 7 );
+        enemyX = new double[LAYOUTS * enemies];
+        enemyY = new double[LAYOUTS * enemies];
+        enemyEnergy = new double[LAYOUTS * enemies];
+        for ( int i = 0; i < enemyX.length; i++ )
+        {
+            enemyX[i] = 18 + layout.nextDouble() * ( WIDTH - 36 );
+            enemyY[i] = 18 + layout.nextDouble() * ( HEIGHT - 36 );
+            enemyEnergy[i] = 10 + layout.nextDouble() * 90;
+        }
+        for ( int i = 0; i < LAYOUTS; i++ )
+        {
+            ourX[i] = 18 + layout.nextDouble() * ( WIDTH - 36 );
+            ourY[i] = 18 + layout.nextDouble() * ( HEIGHT - 36 );
+        }
+        risk.setField( WIDTH, HEIGHT );
+    }
+
+
+    /**
+     * Loads the next layout's enemies and chooses a destination
+     *
+     * @return destination (consumed by JMH)
+     */
+    @Benchmark
+    public double choose()
+    {
+        int i = index;
+        index = ( i + 1 == LAYOUTS ) ? 0 : i + 1;
+        risk.clearEnemies();
+        for ( int e = i * enemies; e < ( i + 1 ) * enemies; e++ )
+        {
+            risk.addEnemy( enemyX[e], enemyY[e], enemyEnergy[e], false );
+        }
+        risk.choose( ourX[i], ourY[i], 100, ourX[i], ourY[i], random );
+        return risk.getGoalX() + risk.getGoalY();
+    }
+}
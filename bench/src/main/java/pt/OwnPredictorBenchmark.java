@@ -0,0 +1,98 @@
+package pt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Own movement prediction over a plan of commands
+ * <p/>
+ * Each call predicts 500 ticks of a stop-and-go style plan: a stride of 50
+ * to 100 forward or back with a turn of up to a quarter, every 20 ticks.
+ * The plans are drawn up front, one per start position.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class OwnPredictorBenchmark
+{
+    ///Ticks predicted per call
+    private static final int TICKS = 500;
+
+    ///Ticks between commands
+    private static final int STRIDE = 20;
+
+    ///Plans measured in turn
+    private static final int PLANS = 16;
+
+    ///One predictor per plan, with its plan queued
+    private final OwnPredictor[] predictors = new OwnPredictor[PLANS];
+
+    ///Start of each plan: x, y, heading
+    private final double[] start = new double[PLANS * 3];
+
+    ///Plan measured next
+    private int index;
+
+
+    /**
+     * Draws the plans
+     */
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random( 7 );
+        for ( int i = 0; i < PLANS; i++ )
+        {
+            OwnPredictor own = new OwnPredictor();
+            own.setField( 800, 600 );
+            for ( int t = 0; t < TICKS; t += STRIDE )
+            {
+                double stride = 50 + random.nextDouble() * 50;
+                own.plan( t, random.nextBoolean() ? stride : -stride,
+                                ( random.nextDouble() - 0.5 ) * Math.PI / 2 );
+            }
+            predictors[i] = own;
+            start[i * 3] = 100 + random.nextDouble() * 600;
+            start[i * 3 + 1] = 100 + random.nextDouble() * 400;
+            start[i * 3 + 2] = random.nextDouble() * 2 * Math.PI;
+        }
+    }
+
+
+    /**
+     * Predicts the next plan from its start
+     *
+     * @return predicted position (consumed by JMH)
+     */
+    @Benchmark
+    public double plan()
+    {
+        int i = index;
+        index = ( i + 1 == PLANS ) ? 0 : i + 1;
+        OwnPredictor own = predictors[i];
+        own.setStart( start[i * 3], start[i * 3 + 1], start[i * 3 + 2], 0 );
+        own.run( TICKS );
+        return own.getX() + own.getY();
+    }
+}
@@ -0,0 +1,108 @@
+package pt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Precise enemy prediction on recorded 1v1 states
+ * <p/>
+ * Every frame of the 1v1 recording is loaded into its own set of parts up
+ * front, so each call starts from a real enemy estimate. untilReached is
+ * what the PRECISE gun does for one aim; hundredTicks predicts a fixed 100
+ * ticks, to show the cost per tick.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class PredictorBenchmark
+{
+    ///Ticks predicted by hundredTicks
+    private static final int TICKS = 100;
+
+    ///One set of parts per recorded frame
+    private BenchParts[] parts;
+
+    ///Predictor under test
+    private final EnemyPredictor predictor = new EnemyPredictor();
+
+    ///Frame measured next
+    private int index;
+
+
+    /**
+     * Loads the recording
+     */
+    @Setup
+    public void setUp()
+    {
+        parts = BenchParts.warmedUp(
+                        ScanFrames.load( ScanFrames.ONE_V_ONE ), 1 );
+        predictor.setField( parts[0].robot.getBattleFieldWidth(),
+                        parts[0].robot.getBattleFieldHeight() );
+    }
+
+
+    /**
+     * Starts the predictor from the next frame's enemy
+     *
+     * @return the frame's robot
+     */
+    private MemoryRobot next()
+    {
+        int i = index;
+        index = ( i + 1 == parts.length ) ? 0 : i + 1;
+        predictor.setEnemy( parts[i].state.enemy.getFilter() );
+        return parts[i].robot;
+    }
+
+
+    /**
+     * Predicts until a power 2 bullet fired now would reach the enemy
+     *
+     * @return predicted position (consumed by JMH)
+     */
+    @Benchmark
+    public double untilReached()
+    {
+        MemoryRobot robot = next();
+        predictor.stepUntilReached( robot.getX(), robot.getY(), 14, 150 );
+        return predictor.getX() + predictor.getY();
+    }
+
+
+    /**
+     * Predicts 100 ticks
+     *
+     * @return predicted position (consumed by JMH)
+     */
+    @Benchmark
+    public double hundredTicks()
+    {
+        next();
+        for ( int t = 0; t < TICKS; t++ )
+        {
+            predictor.step();
+        }
+        return predictor.getX() + predictor.getY();
+    }
+}
@@ -0,0 +1,77 @@
+package pt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Cost of one RadarMelee.move on recorded melee scans
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class RadarMeleeBenchmark
+{
+    ///Robots in the melee recording besides TheCarver
+    private static final int OTHERS = 3;
+
+    ///One set of parts per recorded frame
+    private BenchParts[] parts;
+
+    ///Radar of each robot
+    private RadarMelee[] radars;
+
+    ///Frame measured next
+    private int index;
+
+
+    /**
+     * Loads the recording and builds a radar for every frame
+     */
+    @Setup
+    public void setUp()
+    {
+        parts = BenchParts.warmedUp(
+                        ScanFrames.load( ScanFrames.MELEE ), OTHERS );
+        radars = new RadarMelee[parts.length];
+        for ( int i = 0; i < parts.length; i++ )
+        {
+            radars[i] = new RadarMelee( parts[i].robot, parts[i].state );
+            radars[i].init();
+        }
+    }
+
+
+    /**
+     * Moves the radar on the next frame
+     *
+     * @return commands issued (consumed by JMH)
+     */
+    @Benchmark
+    public double move()
+    {
+        int i = index;
+        index = ( i + 1 == radars.length ) ? 0 : i + 1;
+        radars[i].move();
+        return parts[i].commands();
+    }
+}
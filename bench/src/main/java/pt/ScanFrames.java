@@ -0,0 +1,129 @@
+package pt;
+
+import robocode.ScannedRobotEvent;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Scans recorded by pt.sim.ScanRecorder, loaded for replay
+ * <p/>
+ * Every frame holds TheCarver's own state when the scan arrived and the
+ * ScannedRobotEvent itself, built once so benchmarks do not measure parsing.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+public final class ScanFrames
+{
+    ///One on one recording (TheCarver against spinner)
+    static final String ONE_V_ONE = "scans-1v1.csv";
+
+    ///Melee recording (TheCarver against walker, oscillator and stopgo)
+    static final String MELEE = "scans-melee.csv";
+
+
+    /**
+     * One recorded scan
+     */
+    static final class Frame
+    {
+        ///TheCarver's state (degrees, like the Robocode getters)
+        final double x, y, heading, gunHeading, radarHeading, gunHeat,
+                        velocity, energy;
+
+        ///Time of the scan
+        final long time;
+
+        ///The scan
+        final ScannedRobotEvent event;
+
+
+        /**
+         * Parses one CSV line
+         *
+         * @param line line written by ScanRecorder
+         */
+        Frame( String line )
+        {
+            String[] f = line.split( "," );
+            time = Long.parseLong( f[0] );
+            x = Double.parseDouble( f[1] );
+            y = Double.parseDouble( f[2] );
+            heading = Double.parseDouble( f[3] );
+            gunHeading = Double.parseDouble( f[4] );
+            radarHeading = Double.parseDouble( f[5] );
+            gunHeat = Double.parseDouble( f[6] );
+            velocity = Double.parseDouble( f[7] );
+            energy = Double.parseDouble( f[8] );
+
+            event = new ScannedRobotEvent( f[9],
+                            Double.parseDouble( f[10] ),
+                            Double.parseDouble( f[11] ),
+                            Double.parseDouble( f[12] ),
+                            Double.parseDouble( f[13] ),
+                            Double.parseDouble( f[14] ),
+                            false );
+            event.setTime( time );
+        }
+    }
+
+
+    /**
+     * No instances
+     */
+    private ScanFrames()
+    {
+    }
+
+
+    /**
+     * Loads a recording from the classpath
+     *
+     * @param name recording name (ONE_V_ONE or MELEE)
+     * @return frames in recorded order
+     */
+    static Frame[] load( String name )
+    {
+        InputStream in = ScanFrames.class.getResourceAsStream( name );
+        if ( in == null )
+        {
+            throw new IllegalArgumentException( "No recording: " + name );
+        }
+
+        List<Frame> frames = new ArrayList<Frame>();
+        try
+        {
+            BufferedReader reader = new BufferedReader(
+                            new InputStreamReader( in, "UTF-8" ) );
+            try
+            {
+                String line;
+                while ( ( line = reader.readLine() ) != null )
+                {
+                    if ( line.length() > 0 )
+                    {
+                        frames.add( new Frame( line ) );
+                    }
+                }
+            }
+            finally
+            {
+                reader.close();
+            }
+        }
+        catch ( IOException e )
+        {
+            throw new IllegalStateException( "Could not read " + name, e );
+        }
+        return frames.toArray( new Frame[frames.size()] );
+    }
+}
@@ -0,0 +1,89 @@
+package pt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Cost of one Tank1v1 movement step on recorded 1v1 scans
+ * <p/>
+ * Both movements include their wall smoothing loop, which runs longer the
+ * closer the recorded position is to a wall.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class Tank1v1Benchmark
+{
+    ///Movement measured
+    @Param( { "oscillate", "stopAndGo" } )
+    String movement;
+
+    ///One set of parts per recorded frame
+    private BenchParts[] parts;
+
+    ///Tank of each robot
+    private Tank1v1[] tanks;
+
+    ///Frame measured next
+    private int index;
+
+
+    /**
+     * Loads the recording and builds a tank for every frame
+     */
+    @Setup
+    public void setUp()
+    {
+        parts = BenchParts.warmedUp(
+                        ScanFrames.load( ScanFrames.ONE_V_ONE ), 1 );
+        tanks = new Tank1v1[parts.length];
+        for ( int i = 0; i < parts.length; i++ )
+        {
+            tanks[i] = new Tank1v1( parts[i].robot, parts[i].state );
+            tanks[i].init();
+        }
+    }
+
+
+    /**
+     * Moves the tank on the next frame
+     *
+     * @return commands issued (consumed by JMH)
+     */
+    @Benchmark
+    public double move()
+    {
+        int i = index;
+        index = ( i + 1 == tanks.length ) ? 0 : i + 1;
+        if ( movement.equals( "oscillate" ) )
+        {
+            tanks[i].oscillate();
+        }
+        else
+        {
+            tanks[i].stopAndGo();
+        }
+        return parts[i].commands();
+    }
+}
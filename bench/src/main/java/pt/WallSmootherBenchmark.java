@@ -0,0 +1,139 @@
+package pt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Wall smoothing in the corners: the old stepping loop against WallSmoother
+ * <p/>
+ * Every case puts the robot within a stick's length of a corner, heading
+ * into it, and turning the long way out, which is the worst case for both.
+ * loop is what Tank1v1.oscillate did before WallSmoother: turn 0.1 radians
+ * and test the stick end against a Rectangle2D until it is inside. smoother
+ * smooths the same angles.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class WallSmootherBenchmark
+{
+    ///Battlefield size
+    private static final double WIDTH = 800, HEIGHT = 600;
+
+    ///Distance ahead that must stay inside the field (as oscillate used)
+    private static final double STICK = 120;
+
+    ///Turn per step of the old loop (radians)
+    private static final double STEP = 0.1;
+
+    ///Cases measured in turn
+    private static final int CASES = 64;
+
+    ///Robot position of each case
+    private final double[] x = new double[CASES], y = new double[CASES];
+
+    ///Wanted angle of each case (radians)
+    private final double[] angle = new double[CASES];
+
+    ///Way each case turns
+    private final int[] direction = new int[CASES];
+
+    ///Safe area of the old loop
+    private final Rectangle2D.Double field = new Rectangle2D.Double( 19, 19,
+                    WIDTH - 38, HEIGHT - 38 );
+
+    ///Smoother under test
+    private final WallSmoother smoother = new WallSmoother( 19, 19,
+                    WIDTH - 19, HEIGHT - 19 );
+
+    ///Case measured next
+    private int index;
+
+
+    /**
+     * Puts a robot near one of the four corners for each case
+     */
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random( 7 );
+        for ( int i = 0; i < CASES; i++ )
+        {
+            boolean east = ( i & 1 ) != 0;
+            boolean north = ( i & 2 ) != 0;
+            double inX = 20 + random.nextDouble() * 40;
+            double inY = 20 + random.nextDouble() * 40;
+            x[i] = east ? WIDTH - inX : inX;
+            y[i] = north ? HEIGHT - inY : inY;
+
+            //Straight into the corner, turning away along the near wall
+            angle[i] = Math.atan2( east ? 1 : -1, north ? 1 : -1 );
+            direction[i] = ( east == north ) ? -1 : 1;
+        }
+    }
+
+
+    /**
+     * Turns 0.1 radians at a time until the stick end is inside
+     *
+     * @return smoothed angle (consumed by JMH)
+     */
+    @Benchmark
+    public double loop()
+    {
+        int i = next();
+        double goal = angle[i];
+        while ( !field.contains( x[i] + Math.sin( goal ) * STICK,
+                        y[i] + Math.cos( goal ) * STICK ) )
+        {
+            goal += direction[i] * STEP;
+        }
+        return goal;
+    }
+
+
+    /**
+     * Smooths the same angle with WallSmoother
+     *
+     * @return smoothed angle (consumed by JMH)
+     */
+    @Benchmark
+    public double smoother()
+    {
+        int i = next();
+        return smoother.smooth( x[i], y[i], angle[i], direction[i], STICK );
+    }
+
+
+    /**
+     * @return case measured next
+     */
+    private int next()
+    {
+        int i = index;
+        index = ( i + 1 == CASES ) ? 0 : i + 1;
+        return i;
+    }
+}
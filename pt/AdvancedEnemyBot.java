@@ -1,6 +1,5 @@
 package pt;
 
-import robocode.Robot;
 import robocode.ScannedRobotEvent;
 import robocode.util.Utils;
 
@@ -32,15 +31,11 @@ public class AdvancedEnemyBot extends EnemyBot
     ///Store the last time robot was seen
     private long lastSeenTime = 0;
 
-    ///Stores the previous heading
-    // originally set to infinity to signify uninitializated state
-    private double prevHeadingRadians = Double.POSITIVE_INFINITY;
+    ///Movement estimate kept when no registry hands one over
+    private final EnemyFilter ownFilter = new EnemyFilter();
 
-    ///Stores the change in heading (in radians) enemy made
-    private double headingChange = 0;
-
-    ///Computed turn radius from headingChange and time delta
-    private double radius = 0;
+    ///Movement estimate predictions read from
+    private EnemyFilter filter = ownFilter;
 
     ///Store whether current movement is classified as linear
     private boolean isLinear = true;
@@ -55,17 +50,42 @@ public class AdvancedEnemyBot extends EnemyBot
     }
 
 
+    /**
+     * Update all values, keeping a movement estimate of our own
+     *
+     * @param e        scanned event
+     * @param robot    robot that scanned
+     * @param lastSeen event time
+     */
+    public void update( ScannedRobotEvent e, RobotView robot, long lastSeen )
+    {
+        //A different robot: what we estimated no longer applies
+        if ( !e.getName().equals( getName() ) )
+        {
+            ownFilter.reset();
+        }
+        update( e, robot, lastSeen, ownFilter );
+        ownFilter.scan( lastSeen, x, y, e.getHeadingRadians(),
+                        e.getVelocity() );
+        isLinear = turnsSlowly();
+    }
+
+
     /**
      * Update all values
      *
      * @param e        scanned event
-     * @param robot    robot object
+     * @param robot    robot that scanned
      * @param lastSeen event time
+     * @param filter   movement estimate of this robot, already fed the scan
      */
-    public void update( ScannedRobotEvent e, Robot robot, long lastSeen )
+    public void update( ScannedRobotEvent e, RobotView robot, long lastSeen,
+                    EnemyFilter filter )
     {
         //Update superclass values
         super.update( e );
+        this.filter = filter;
+        lastSeenTime = lastSeen;
 
         //Compute absolute heading and normalize it
         double absBearingDeg = ( robot.getHeading() + e.getBearing() );
@@ -78,38 +98,6 @@ public class AdvancedEnemyBot extends EnemyBot
         previousEnergy = energy;
         energy = e.getEnergy();
 
-        //Used if we do not have enough data points yet (we need at least two)
-        boolean incompleteScan = false;
-
-        //If previous heading is unitialized (no data so far)
-        if ( prevHeadingRadians == Double.POSITIVE_INFINITY )
-        {
-            //Update necessary values
-            prevHeadingRadians = e.getHeadingRadians();
-            lastSeenTime = lastSeen;
-            incompleteScan = true;
-        }
-        else if ( lastSeen - getLastSeenTime() > 0 )
-        {
-            //If we have at least two data points
-
-            //Compute the heading change and normalize it
-            headingChange = Utils.normalRelativeAngle(
-                            ( e.getHeadingRadians() - prevHeadingRadians ) / (
-                                            getLastSeenTime() - lastSeen ) );
-
-            //Compute radius from linear velocity
-            // From physics equation: v = r * w (take d/dTheta of s = rTheta)
-            // v is linear velocity
-            // r is radius
-            // w is angular velocity (radians/second)
-            radius = e.getVelocity() / headingChange;
-
-            //Update necessary values
-            prevHeadingRadians = e.getHeadingRadians();
-            lastSeenTime = lastSeen;
-        }
-
         //Update current enemy x and y positions using trigonometry
         //r*Cos(Theta) gives delta x (cos and sin are swapped though
         //as in Robocode 0 degrees is actually 90 degrees
@@ -119,9 +107,18 @@ public class AdvancedEnemyBot extends EnemyBot
         y = robot.getY() + Math.cos( Math.toRadians( absBearingDeg ) )
                         * e.getDistance();
 
-        //If the movement is linear or we don't have enough data points
-        //Use linear prediction instead
-        isLinear = Math.abs( headingChange ) <= 0.1 || incompleteScan;
+        isLinear = turnsSlowly();
+    }
+
+
+    /**
+     * @return whether the movement is linear or we don't have enough data
+     *         points yet (use linear prediction if so)
+     */
+    private boolean turnsSlowly()
+    {
+        return Math.abs( filter.getTurnRate() ) <= 0.1
+                        || filter.getScans() < 2;
     }
 
 
@@ -136,6 +133,28 @@ public class AdvancedEnemyBot extends EnemyBot
     }
 
 
+    /**
+     * Gets the smoothed change in heading per tick
+     *
+     * @return heading change (radians)
+     */
+    public double getHeadingChange()
+    {
+        return filter.getTurnRate();
+    }
+
+
+    /**
+     * Gets the movement estimate, moved on to the current tick
+     *
+     * @return filter
+     */
+    public EnemyFilter getFilter()
+    {
+        return filter;
+    }
+
+
     /**
      * Get current x
      *
@@ -170,9 +189,9 @@ public class AdvancedEnemyBot extends EnemyBot
 
 
     /**
-     * Gets future x using linear prediction
+     * Gets future x using linear prediction from the estimate
      *
-     * @param when time
+     * @param when ticks from the estimate's tick
      * @return future x assuming linear path
      */
     public double getFutureXLinear( long when )
@@ -180,15 +199,15 @@ public class AdvancedEnemyBot extends EnemyBot
         //getVelocity()*when gives hypotenuse distance
         //use deltaX = r*Cos(theta)
         //after taking into account that sin/cos are flipped
-        return x + Math.sin( Math.toRadians( getHeading() ) ) * getVelocity()
-                        * when;
+        return filter.getX() + Math.sin( filter.getHeading() )
+                        * filter.getVelocity() * when;
     }
 
 
     /**
-     * Gets future y assuming linear path
+     * Gets future y assuming linear path from the estimate
      *
-     * @param when time
+     * @param when ticks from the estimate's tick
      * @return future y assuming linear path
      */
     public double getFutureYLinear( long when )
@@ -196,35 +215,65 @@ public class AdvancedEnemyBot extends EnemyBot
         //getVelocity()*when gives hypotenuse distance
         //use deltaY = r*Sin(theta)
         //after taking into account that sin/cos are flipped
-        return y + Math.cos( Math.toRadians( getHeading() ) ) * getVelocity()
-                        * when;
+        return filter.getY() + Math.cos( filter.getHeading() )
+                        * filter.getVelocity() * when;
     }
 
 
+    /**
+     * Gets future y assuming a circular path at the estimated turn rate
+     *
+     * @param when ticks from the estimate's tick
+     * @return future y
+     */
     public double getFutureYCircular( long when )
     {
+        double turnRate = filter.getTurnRate();
+        if ( turnRate == 0 )
+        {
+            return getFutureYLinear( when );
+        }
+
         // (theta/time) * time gives delta theta, or total heading change
-        double totalHeadingChange = when * headingChange;
+        double totalHeadingChange = when * turnRate;
+
+        //Radius from linear velocity: v = r * w
+        double radius = filter.getVelocity() / turnRate;
 
         //Comes as a result of integrating
         //Integrate[enemyVelocity * Cos[initialHeading + turnRate*n], {n, 0, t}]
-        return y + ( Math.sin( Math.toRadians( getHeading() ) ) * radius ) - (
-                        Math.sin( Math.toRadians( getHeading() )
-                                        + totalHeadingChange ) * radius );
+        return filter.getY() + ( Math.sin( filter.getHeading()
+                        + totalHeadingChange )
+                        - Math.sin( filter.getHeading() ) ) * radius;
     }
 
 
+    /**
+     * Gets future x assuming a circular path at the estimated turn rate
+     *
+     * @param when ticks from the estimate's tick
+     * @return future x
+     */
     public double getFutureXCircular( long when )
     {
+        double turnRate = filter.getTurnRate();
+        if ( turnRate == 0 )
+        {
+            return getFutureXLinear( when );
+        }
+
         // (theta/time) * time gives delta theta, or total heading change
-        double totalHeadingChange = when * headingChange;
+        double totalHeadingChange = when * turnRate;
+
+        //Radius from linear velocity: v = r * w
+        double radius = filter.getVelocity() / turnRate;
 
         //Comes as a result of integrating
         //Integrate[enemyVelocity * Sin[initialHeading + turnRate*n], {n, 0, t}]
         //plus starting position which is x
-        return x + ( Math.cos( Math.toRadians( getHeading() ) ) * radius ) - (
-                        Math.cos( Math.toRadians( getHeading() )
-                                        + totalHeadingChange ) * radius );
+        return filter.getX() + ( Math.cos( filter.getHeading() )
+                        - Math.cos( filter.getHeading() + totalHeadingChange ) )
+                        * radius;
     }
 
 
@@ -261,9 +310,14 @@ public class AdvancedEnemyBot extends EnemyBot
         energy = 0;
         previousEnergy = 0;
         lastSeenTime = 0;
-        prevHeadingRadians = 0;
-        headingChange = 0;
-        radius = 0;
+        isLinear = true;
+
+        //EnemyBot's constructor resets before our fields are set up
+        if ( ownFilter != null )
+        {
+            ownFilter.reset();
+        }
+        filter = ownFilter;
     }
 
 }
\ No newline at end of file
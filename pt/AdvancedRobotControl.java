@@ -0,0 +1,171 @@
+package pt;
+
+import robocode.AdvancedRobot;
+
+
+/**
+ * Lets the parts drive a real AdvancedRobot
+ * <p/>
+ * Every call goes straight to the robot, so parts behave in the engine
+ * exactly as they did as inner classes.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+public class AdvancedRobotControl implements RobotControl
+{
+    ///Robot being driven
+    private final AdvancedRobot robot;
+
+
+    /**
+     * Constructor for AdvancedRobotControl
+     *
+     * @param robot robot to drive
+     */
+    public AdvancedRobotControl( AdvancedRobot robot )
+    {
+        this.robot = robot;
+    }
+
+
+    public double getX()
+    {
+        return robot.getX();
+    }
+
+
+    public double getY()
+    {
+        return robot.getY();
+    }
+
+
+    public double getHeading()
+    {
+        return robot.getHeading();
+    }
+
+
+    public double getHeadingRadians()
+    {
+        return robot.getHeadingRadians();
+    }
+
+
+    public double getGunHeading()
+    {
+        return robot.getGunHeading();
+    }
+
+
+    public double getRadarHeading()
+    {
+        return robot.getRadarHeading();
+    }
+
+
+    public double getGunHeat()
+    {
+        return robot.getGunHeat();
+    }
+
+
+    public double getGunTurnRemaining()
+    {
+        return robot.getGunTurnRemaining();
+    }
+
+
+    public double getTurnRemainingRadians()
+    {
+        return robot.getTurnRemainingRadians();
+    }
+
+
+    public double getEnergy()
+    {
+        return robot.getEnergy();
+    }
+
+
+    public double getVelocity()
+    {
+        return robot.getVelocity();
+    }
+
+
+    public double getBattleFieldWidth()
+    {
+        return robot.getBattleFieldWidth();
+    }
+
+
+    public double getBattleFieldHeight()
+    {
+        return robot.getBattleFieldHeight();
+    }
+
+
+    public int getOthers()
+    {
+        return robot.getOthers();
+    }
+
+
+    public long getTime()
+    {
+        return robot.getTime();
+    }
+
+
+    public void setAhead( double distance )
+    {
+        robot.setAhead( distance );
+    }
+
+
+    public void setTurnRightRadians( double radians )
+    {
+        robot.setTurnRightRadians( radians );
+    }
+
+
+    public void setTurnGunRight( double degrees )
+    {
+        robot.setTurnGunRight( degrees );
+    }
+
+
+    public void setTurnRadarRight( double degrees )
+    {
+        robot.setTurnRadarRight( degrees );
+    }
+
+
+    public void setFire( double power )
+    {
+        robot.setFire( power );
+    }
+
+
+    public void setAdjustGunForRobotTurn( boolean independent )
+    {
+        robot.setAdjustGunForRobotTurn( independent );
+    }
+
+
+    public void setAdjustRadarForGunTurn( boolean independent )
+    {
+        robot.setAdjustRadarForGunTurn( independent );
+    }
+
+
+    public void setAdjustRadarForRobotTurn( boolean independent )
+    {
+        robot.setAdjustRadarForRobotTurn( independent );
+    }
+}
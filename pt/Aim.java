@@ -0,0 +1,34 @@
+package pt;
+
+/**
+ * An aiming strategy: where a gun would fire, without moving the gun
+ * <p/>
+ * VirtualGuns asks every strategy each turn, scores them with virtual
+ * bullets and fires the real gun along the best one.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+public interface Aim
+{
+    /**
+     * Learns from this turn (waves, recordings); called every turn before
+     * aim
+     *
+     * @param power bullet power we would fire this turn
+     */
+    void update( double power );
+
+
+    /**
+     * Works out where to fire at the target this turn
+     *
+     * @param power bullet power
+     * @return absolute bearing to fire at (radians), or NaN if there is no
+     *         target or the strategy has nothing to go on yet
+     */
+    double aim( double power );
+}
@@ -0,0 +1,85 @@
+package pt;
+
+import java.awt.geom.Point2D;
+
+
+/**
+ * Angle helpers shared by TheCarver and its parts (all in degrees)
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+public final class Angles
+{
+    /**
+     * No instances
+     */
+    private Angles()
+    {
+    }
+
+
+    /**
+     * computes the absolute bearing between two points
+     *
+     * @param x1 point1x
+     * @param y1 point1y
+     * @param x2 point2x
+     * @param y2 point2y
+     * @return absolute bearing
+     */
+    public static double absoluteBearing( double x1, double y1, double x2,
+                    double y2 )
+    {
+        double xo = x2 - x1;
+        double yo = y2 - y1;
+        double hyp = Point2D.distance( x1, y1, x2, y2 );
+        double arcSin = Math.toDegrees( Math.asin( xo / hyp ) );
+        double bearing = 0;
+
+        if ( xo > 0 && yo > 0 )
+        { // both pos: lower-Left
+            bearing = arcSin;
+        }
+        else if ( xo < 0 && yo > 0 )
+        { // x neg, y pos: lower-right
+            bearing = 360 + arcSin; // arcsin is negative here, actually 360 -
+            // ang
+        }
+        else if ( xo > 0 && yo < 0 )
+        { // x pos, y neg: upper-left
+            bearing = 180 - arcSin;
+        }
+        else if ( xo < 0 && yo < 0 )
+        { // both neg: upper-right
+            bearing = 180 - arcSin; // arcsin is negative here, actually 180 +
+            // ang
+        }
+
+        return bearing;
+    }
+
+
+    /**
+     * Normalizes normalizes a bearing to between +180 and -180
+     *
+     * @param angle angle to normalize
+     * @return normalized
+     */
+    public static double normalizeBearing( double angle )
+    {
+        //Subtracts multiples of 360 degrees until angle is between [-180, 180]
+        while ( angle > 180 )
+        {
+            angle -= 360;
+        }
+        while ( angle < -180 )
+        {
+            angle += 360;
+        }
+        return angle;
+    }
+}
@@ -0,0 +1,308 @@
+package pt;
+
+import robocode.ScannedRobotEvent;
+
+import java.util.Random;
+
+
+/**
+ * What TheCarver knows, shared by its parts
+ * <p/>
+ * Parts read and update this instead of fields of the robot, so the same
+ * knowledge can be handed to parts running outside the engine.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+public class CarverState
+{
+    ///Hold information about currently targetted enemy (heading, speed, etc.)
+    final AdvancedEnemyBot enemy = new AdvancedEnemyBot();
+
+    ///Every enemy seen this round, with recent scans (looked up by id)
+    final EnemyRegistry enemies = new EnemyRegistry( 8 );
+
+    ///Registry id of the enemy we are tracking (EnemyRegistry.NONE if none)
+    int targetId = EnemyRegistry.NONE;
+
+    ///Events of the current turn
+    final TickSnapshot snapshot = new TickSnapshot();
+
+    ///Hold information about the last bullet that impacted me
+    final BulletLocation bul = new BulletLocation();
+
+    ///Whether we are in melee mode right now
+    boolean isMeleeMode = false;
+
+    ///Check whether our current movement schema is the first one (Oscillating)
+    boolean isMovementOne = true;
+
+    ///Prior win statistics for each enemy (outlives this round's robot)
+    final ProfileStore profiles;
+
+    ///Random numbers for movement (one per robot so robots never contend)
+    final Random random;
+
+    ///Thinking time per turn, and how much work expensive code may do
+    final CpuBudget budget = new CpuBudget();
+
+    ///Chooses bullet power from how often our bullets hit
+    final FirePower firePower;
+
+    ///Profile of each enemy, by registry id (null until first asked for)
+    private MovementHistory[] enemyProfiles = new MovementHistory[8];
+
+    ///Profile of the tracked enemy (null until first asked for)
+    private MovementHistory targetProfile;
+
+    ///Registry id targetProfile was looked up for
+    private int targetProfileId = EnemyRegistry.NONE;
+
+
+    /**
+     * Constructor for CarverState
+     *
+     * @param profiles profile store to learn into
+     * @param random   random numbers for movement
+     */
+    public CarverState( ProfileStore profiles, Random random )
+    {
+        this.profiles = profiles;
+        this.random = random;
+        firePower = new FirePower( this );
+    }
+
+
+    /**
+     * Takes in the whole turn at once (the SENSE stage)
+     * <p/>
+     * Bullet hits are handled first, as Robocode delivers them first, then
+     * what became of our own bullets. Every scan is then recorded in the
+     * registry and the target is chosen once over the turn's scans, so the
+     * tracked enemy is updated at most once.
+     *
+     * @param radar radar deciding what to track
+     * @param robot robot the events happened to
+     */
+    public void sense( Radar radar, RobotControl robot )
+    {
+        for ( int i = 0; i < snapshot.getHitCount(); i++ )
+        {
+            if ( robot.getEnergy() > 30 )
+            {
+                //Update bullet information (velocity, bearing, etc.)
+                bul.update( snapshot.getHit( i ) );
+            }
+
+            //Get out of the way
+            robot.setAhead( 100 );
+        }
+
+        for ( int i = 0; i < snapshot.getShotCount(); i++ )
+        {
+            TickSnapshot.ShotResult result = snapshot.getShotResult( i );
+            if ( result == TickSnapshot.ShotResult.CANCELLED )
+            {
+                firePower.cancelled( snapshot.getShot( i ) );
+            }
+            else
+            {
+                firePower.resolved( snapshot.getShot( i ),
+                                result == TickSnapshot.ShotResult.HIT );
+            }
+        }
+
+        //Robot that last shot us (or NONE)
+        int shooterId = bul.none() ?
+                        EnemyRegistry.NONE :
+                        enemies.idOf( bul.getName() );
+
+        //Choose over all scans, as if tracking each in turn
+        int chosen = -1;
+        int trackedId = targetId;
+        double trackedDistance = enemy.none() ?
+                        Double.POSITIVE_INFINITY :
+                        enemy.getDistance();
+        boolean shooterSeen = false;
+
+        for ( int i = 0; i < snapshot.getScanCount(); i++ )
+        {
+            ScannedRobotEvent e = snapshot.getScan( i );
+            int id = enemies.record( e, robot );
+            snapshot.setScanId( i, id );
+
+            //If you are currently tracking this bot
+            // or (for Melee mode) if it is the bot that shot at you
+            boolean shooter = id == shooterId;
+            shooterSeen |= shooter;
+            if ( shooter || radar.shouldTrack( e, id == trackedId,
+                            trackedDistance ) )
+            {
+                chosen = i;
+                trackedId = id;
+                trackedDistance = e.getDistance();
+            }
+        }
+
+        //Reset volatile bullet info
+        // (no longer needed as you have found your enemy)
+        if ( shooterSeen )
+            bul.reset();
+
+        if ( chosen >= 0 )
+        {
+            //Update enemy information
+            enemy.update( snapshot.getScan( chosen ), robot, robot.getTime(),
+                            enemies.getFilter( trackedId ) );
+            targetId = trackedId;
+        }
+    }
+
+
+    /**
+     * Moves every enemy's movement estimate on to this tick, seen or not
+     * (the PREDICT stage)
+     *
+     * @param robot robot whose clock to follow
+     */
+    public void predict( RobotControl robot )
+    {
+        //Estimates of enemies we did not see this turn move on without them
+        enemies.advance( robot );
+    }
+
+
+    /**
+     * Gets the profile of an enemy, looking it up in the store only the
+     * first time this round
+     * <p/>
+     * Other robots may share the profile, so parts hold it (synchronized)
+     * while they change anything it holds, counters included.
+     *
+     * @param id enemy (registry id)
+     * @return profile
+     */
+    MovementHistory profile( int id )
+    {
+        if ( id >= enemyProfiles.length )
+        {
+            MovementHistory[] grown = new MovementHistory[Math.max(
+                            enemyProfiles.length * 2, id + 1 )];
+            System.arraycopy( enemyProfiles, 0, grown, 0,
+                            enemyProfiles.length );
+            enemyProfiles = grown;
+        }
+        if ( enemyProfiles[id] == null )
+        {
+            enemyProfiles[id] = profiles.get( enemies.getName( id ) );
+        }
+        return enemyProfiles[id];
+    }
+
+
+    /**
+     * Gets the profile of the tracked enemy, looking it up in the store only
+     * when the target changes
+     *
+     * @return profile (the one named "" while no enemy is tracked)
+     */
+    MovementHistory targetProfile()
+    {
+        if ( targetProfile == null || targetProfileId != targetId )
+        {
+            targetProfile = profiles.get( enemy.getName() );
+            targetProfileId = targetId;
+        }
+        return targetProfile;
+    }
+
+
+    /**
+     * Forgets the tracked enemy
+     */
+    public void lostTarget()
+    {
+        enemy.reset();
+        targetId = EnemyRegistry.NONE;
+    }
+
+
+    /**
+     * Gets the events of the current turn
+     *
+     * @return snapshot
+     */
+    public TickSnapshot getSnapshot()
+    {
+        return snapshot;
+    }
+
+
+    /**
+     * Gets every enemy seen this round
+     *
+     * @return registry
+     */
+    public EnemyRegistry getEnemies()
+    {
+        return enemies;
+    }
+
+
+    /**
+     * Gets the registry id of the tracked enemy
+     *
+     * @return id, or EnemyRegistry.NONE
+     */
+    public int getTargetId()
+    {
+        return targetId;
+    }
+
+
+    /**
+     * Gets the currently targetted enemy
+     *
+     * @return enemy
+     */
+    public AdvancedEnemyBot getEnemy()
+    {
+        return enemy;
+    }
+
+
+    /**
+     * Gets the CPU budget (with this round's statistics)
+     *
+     * @return budget
+     */
+    public CpuBudget getBudget()
+    {
+        return budget;
+    }
+
+
+    /**
+     * Gets the bullet power chooser
+     *
+     * @return fire power
+     */
+    public FirePower getFirePower()
+    {
+        return firePower;
+    }
+
+
+    /**
+     * Gets the profile store this robot learns into
+     *
+     * @return profile store
+     */
+    public ProfileStore getProfiles()
+    {
+        return profiles;
+    }
+}
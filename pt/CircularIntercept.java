@@ -0,0 +1,307 @@
+package pt;
+
+/**
+ * Where a bullet meets a robot turning at a steady rate
+ * <p/>
+ * Robocode moves a robot once a tick: its heading changes by the turn rate
+ * w, then it moves its velocity v along the new heading. After n ticks it
+ * has moved v * (sin(h + w) + ... + sin(h + n w)) in x, which sums to
+ * v * sin(h + (n + 1) w / 2) * sin(n w / 2) / sin(w / 2) (cos in y), so
+ * its position at any tick costs a few sines instead of n steps.
+ * <p/>
+ * A bullet meets it at the first whole tick n where the bullet has flown
+ * at least as far as the robot is away. Bullets (11 or more a tick)
+ * outrun robots (8 at most), so the gap between the two only shrinks, and
+ * the search keeps the latest tick known to be too early and the earliest
+ * known to catch the robot. Until one catches it, n moves to the flight
+ * time to where the robot will be at tick n; after that, to where the gap
+ * crosses zero between the two ticks. It stops as soon as they are one tick
+ * apart, which pins n down exactly, most often after two or three
+ * predictions. Predicted positions are kept inside the battlefield.
+ * Several bullet powers can be solved in one call, sharing the sines of
+ * the heading; results stay in the solver until the next call.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - RoboWiki Circular Targeting
+ *         http://robowiki.net/wiki/Circular_Targeting
+ * @version 10/18/26
+ */
+public class CircularIntercept
+{
+    ///Most bullet powers solved in one call
+    public static final int MAX_POWERS = 8;
+
+    ///Turn rates below this (radians per tick) count as straight lines
+    private static final double STRAIGHT = 1e-6;
+
+    ///Distance from a robot's center to the edge of its body
+    private static final double HALF_ROBOT = 18;
+
+    ///Where the bullet is fired from
+    private double shooterX, shooterY;
+
+    ///Target position, heading (radians), velocity and turn rate
+    private double x, y, heading, velocity, turnRate;
+
+    ///Battlefield size
+    private double width = Double.MAX_VALUE, height = Double.MAX_VALUE;
+
+    ///Tick of each intercept
+    private final long[] ticks = new long[MAX_POWERS];
+
+    ///Where the target is at each intercept
+    private final double[] interceptX = new double[MAX_POWERS];
+
+    ///Where the target is at each intercept
+    private final double[] interceptY = new double[MAX_POWERS];
+
+    ///Bearing from the shooter to each intercept (radians)
+    private final double[] bearing = new double[MAX_POWERS];
+
+    ///Steps taken by the last call, over all powers
+    private int steps;
+
+    ///Position after the last predict
+    private double predictedX, predictedY;
+
+    ///Half the turn rate, and its sine (set up once per call)
+    private double half, sinHalf;
+
+    ///Sine and cosine of the heading
+    private double sinHeading, cosHeading;
+
+    ///Sine and cosine of the heading plus half the turn rate
+    private double sinFirst, cosFirst;
+
+
+    /**
+     * Sets where the bullet is fired from
+     *
+     * @param x shooter x
+     * @param y shooter y
+     */
+    public void setShooter( double x, double y )
+    {
+        shooterX = x;
+        shooterY = y;
+    }
+
+
+    /**
+     * Sets the target's movement
+     *
+     * @param x        target x
+     * @param y        target y
+     * @param heading  target heading (radians)
+     * @param velocity target velocity
+     * @param turnRate heading change per tick (radians)
+     */
+    public void setTarget( double x, double y, double heading,
+                    double velocity, double turnRate )
+    {
+        this.x = x;
+        this.y = y;
+        this.heading = heading;
+        this.velocity = velocity;
+        this.turnRate = turnRate;
+    }
+
+
+    /**
+     * Sets the battlefield predicted positions are kept inside
+     *
+     * @param width  battlefield width
+     * @param height battlefield height
+     */
+    public void setField( double width, double height )
+    {
+        this.width = width;
+        this.height = height;
+    }
+
+
+    /**
+     * Solves the intercept for several bullet powers
+     *
+     * @param powers   bullet powers
+     * @param count    number of powers to solve (at most MAX_POWERS)
+     * @param maxSteps most predictions per power before settling for the
+     *                 earliest tick found that catches the target
+     */
+    public void solve( double[] powers, int count, int maxSteps )
+    {
+        steps = 0;
+        half = turnRate / 2;
+        sinHalf = Math.sin( half );
+        sinHeading = Math.sin( heading );
+        cosHeading = Math.cos( heading );
+        sinFirst = Math.sin( heading + half );
+        cosFirst = Math.cos( heading + half );
+
+        double dx = x - shooterX;
+        double dy = y - shooterY;
+        double distance = Math.sqrt( dx * dx + dy * dy );
+
+        for ( int i = 0; i < count; i++ )
+        {
+            double speed = 20 - 3 * powers[i];
+
+            //Latest tick known too early (at 0 the bullet has not flown),
+            // earliest known to catch it (-1 until one is found)
+            long early = 0;
+            double earlyGap = distance;
+            long late = -1;
+            double lateGap = 0;
+            double lateX = x;
+            double lateY = y;
+
+            long n = Math.max( 1, (long)Math.ceil( distance / speed ) );
+            int used = 0;
+            while ( used < maxSteps )
+            {
+                predict( n );
+                used++;
+                double gap = distance() - n * speed;
+                if ( gap > 0 )
+                {
+                    early = n;
+                    earlyGap = gap;
+                }
+                else
+                {
+                    late = n;
+                    lateGap = gap;
+                    lateX = predictedX;
+                    lateY = predictedY;
+                }
+                if ( late >= 0 && late - early <= 1 )
+                {
+                    //Pinned down
+                    break;
+                }
+
+                if ( late < 0 )
+                {
+                    //Flight time to where it will be
+                    n = Math.max( early + 1,
+                                    (long)Math.ceil( distance() / speed ) );
+                }
+                else
+                {
+                    //Where the gap crosses zero between the two
+                    double root = early + earlyGap * ( late - early )
+                                    / ( earlyGap - lateGap );
+                    n = Math.max( early + 1,
+                                    Math.min( late - 1,
+                                                    (long)Math.ceil( root ) ) );
+                }
+            }
+
+            if ( late < 0 )
+            {
+                //Never caught within the steps allowed: aim at the last
+                late = n;
+                lateX = predictedX;
+                lateY = predictedY;
+            }
+
+            steps += used;
+            ticks[i] = late;
+            interceptX[i] = lateX;
+            interceptY[i] = lateY;
+            bearing[i] = Math.atan2( lateX - shooterX, lateY - shooterY );
+        }
+    }
+
+
+    /**
+     * @return distance from the shooter to the last predicted position
+     */
+    private double distance()
+    {
+        double dx = predictedX - shooterX;
+        double dy = predictedY - shooterY;
+        return Math.sqrt( dx * dx + dy * dy );
+    }
+
+
+    /**
+     * Works out where the target is after some ticks, inside the field
+     *
+     * @param n ticks from now
+     */
+    private void predict( long n )
+    {
+        double moveX;
+        double moveY;
+        if ( Math.abs( turnRate ) < STRAIGHT )
+        {
+            moveX = velocity * n * sinHeading;
+            moveY = velocity * n * cosHeading;
+        }
+        else
+        {
+            //Heading halfway through is (heading + half) + n * half
+            double sinTurn = Math.sin( n * half );
+            double cosTurn = Math.cos( n * half );
+            double length = velocity * sinTurn / sinHalf;
+            moveX = length * ( sinFirst * cosTurn + cosFirst * sinTurn );
+            moveY = length * ( cosFirst * cosTurn - sinFirst * sinTurn );
+        }
+        predictedX = Math.max( HALF_ROBOT,
+                        Math.min( width - HALF_ROBOT, x + moveX ) );
+        predictedY = Math.max( HALF_ROBOT,
+                        Math.min( height - HALF_ROBOT, y + moveY ) );
+    }
+
+
+    /**
+     * @param i power index
+     * @return tick the bullet meets the target
+     */
+    public long getTicks( int i )
+    {
+        return ticks[i];
+    }
+
+
+    /**
+     * @param i power index
+     * @return target x at the intercept
+     */
+    public double getX( int i )
+    {
+        return interceptX[i];
+    }
+
+
+    /**
+     * @param i power index
+     * @return target y at the intercept
+     */
+    public double getY( int i )
+    {
+        return interceptY[i];
+    }
+
+
+    /**
+     * @param i power index
+     * @return absolute bearing from the shooter to the intercept (radians)
+     */
+    public double getBearing( int i )
+    {
+        return bearing[i];
+    }
+
+
+    /**
+     * @return steps taken by the last call, over all powers
+     */
+    public int getSteps()
+    {
+        return steps;
+    }
+}
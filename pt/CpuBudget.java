@@ -0,0 +1,266 @@
+package pt;
+
+/**
+ * Keeps TheCarver's thinking inside the time Robocode allows each turn
+ * <p/>
+ * Robocode skips the turn of a robot that thinks too long, and a skipped
+ * turn costs us more than a weaker aim. The pipeline reports how long each
+ * stage took; from that the budget keeps a smoothed turn time and turns it
+ * into an effort between MIN_EFFORT and 1. Expensive work (circular aim
+ * iterations, nearest neighbour searches, pattern replays, surfing
+ * predictions) asks for the effort and scales itself down when the turn
+ * time nears the limit. A skipped turn drops the effort to the minimum at
+ * once, and it climbs back as turns stay cheap.
+ * <p/>
+ * Robocode creates a new robot every round, so the counts here are for the
+ * current round.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+public class CpuBudget implements TickPipeline.Timer
+{
+    ///Default thinking time allowed per turn (Robocode's limit is larger on
+    /// any recent machine, so this leaves headroom)
+    public static final long DEFAULT_LIMIT_NANOS = 1000000;
+
+    ///Least effort expensive work is asked for
+    public static final double MIN_EFFORT = 0.2;
+
+    ///Turn time (as a share of the limit) below which work is never cut
+    private static final double RELAXED = 0.5;
+
+    ///Weight of the latest turn in the smoothed turn time
+    private static final double SMOOTHING = 0.1;
+
+    ///How fast effort recovers after a skipped turn (per turn)
+    private static final double RECOVERY = 0.02;
+
+    ///All stages
+    private static final TickPipeline.Stage[] STAGES =
+                    TickPipeline.Stage.values();
+
+    ///Thinking time allowed per turn
+    private long limitNanos = DEFAULT_LIMIT_NANOS;
+
+    ///Smoothed thinking time per turn
+    private double averageNanos = 0;
+
+    ///Cap on effort after a skipped turn
+    private double recovery = 1;
+
+    ///Current effort
+    private double effort = 1;
+
+    ///Turns timed this round
+    private int turns = 0;
+
+    ///Turns skipped this round
+    private int skippedTurns = 0;
+
+    ///Turns on which expensive work was cut this round
+    private int degradedTurns = 0;
+
+    ///Longest thinking time this round
+    private long maxTurnNanos = 0;
+
+    ///Total thinking time this round
+    private long totalTurnNanos = 0;
+
+    ///Total time per stage this round (by ordinal)
+    private final long[] stageNanos = new long[STAGES.length];
+
+    ///Longest time per stage this round (by ordinal)
+    private final long[] stageMaxNanos = new long[STAGES.length];
+
+
+    /**
+     * Sets the thinking time allowed per turn
+     *
+     * @param limitNanos limit in nanoseconds
+     */
+    public void setLimitNanos( long limitNanos )
+    {
+        this.limitNanos = limitNanos;
+    }
+
+
+    /**
+     * Gets the thinking time allowed per turn
+     *
+     * @return limit in nanoseconds
+     */
+    public long getLimitNanos()
+    {
+        return limitNanos;
+    }
+
+
+    public void stageTimed( TickPipeline.Stage stage, long nanos )
+    {
+        int i = stage.ordinal();
+        stageNanos[i] += nanos;
+        if ( nanos > stageMaxNanos[i] )
+        {
+            stageMaxNanos[i] = nanos;
+        }
+    }
+
+
+    public void turnTimed( long nanos )
+    {
+        turns++;
+        totalTurnNanos += nanos;
+        if ( nanos > maxTurnNanos )
+        {
+            maxTurnNanos = nanos;
+        }
+        if ( effort < 1 )
+        {
+            degradedTurns++;
+        }
+
+        averageNanos += ( nanos - averageNanos ) * SMOOTHING;
+        recovery = Math.min( 1, recovery + RECOVERY );
+
+        //Full effort while relaxed, then less and less up to the limit
+        double load = averageNanos / limitNanos;
+        double wanted = load <= RELAXED ?
+                        1 :
+                        1 - ( load - RELAXED ) / ( 1 - RELAXED );
+        effort = Math.max( MIN_EFFORT, Math.min( wanted, recovery ) );
+    }
+
+
+    /**
+     * Called when Robocode skipped our turn for thinking too long
+     */
+    public void turnSkipped()
+    {
+        skippedTurns++;
+        recovery = MIN_EFFORT;
+        effort = MIN_EFFORT;
+    }
+
+
+    /**
+     * Gets how much of its full work expensive code should do this turn
+     *
+     * @return effort between MIN_EFFORT and 1
+     */
+    public double effort()
+    {
+        return effort;
+    }
+
+
+    /**
+     * Scales an amount of work (iterations, candidates) by the effort
+     *
+     * @param full    work at full effort
+     * @param minimum least work that still gives a usable answer
+     * @return work to do this turn
+     */
+    public int scale( int full, int minimum )
+    {
+        return Math.max( minimum, (int)Math.round( full * effort ) );
+    }
+
+
+    /**
+     * @return turns timed this round
+     */
+    public int getTurns()
+    {
+        return turns;
+    }
+
+
+    /**
+     * @return turns skipped this round
+     */
+    public int getSkippedTurns()
+    {
+        return skippedTurns;
+    }
+
+
+    /**
+     * @return turns on which expensive work was cut this round
+     */
+    public int getDegradedTurns()
+    {
+        return degradedTurns;
+    }
+
+
+    /**
+     * @return longest thinking time this round in nanoseconds
+     */
+    public long getMaxTurnNanos()
+    {
+        return maxTurnNanos;
+    }
+
+
+    /**
+     * @return average thinking time this round in nanoseconds
+     */
+    public double getAverageTurnNanos()
+    {
+        return turns == 0 ? 0 : (double)totalTurnNanos / turns;
+    }
+
+
+    /**
+     * @param stage stage
+     * @return average time of the stage this round in nanoseconds
+     */
+    public double getAverageNanos( TickPipeline.Stage stage )
+    {
+        return turns == 0 ? 0 : (double)stageNanos[stage.ordinal()] / turns;
+    }
+
+
+    /**
+     * @param stage stage
+     * @return longest time of the stage this round in nanoseconds
+     */
+    public long getMaxNanos( TickPipeline.Stage stage )
+    {
+        return stageMaxNanos[stage.ordinal()];
+    }
+
+
+    /**
+     * Summary of this round
+     *
+     * @return readable statistics
+     */
+    public String toString()
+    {
+        StringBuilder s = new StringBuilder();
+        s.append( String.format( "turns %d  skipped %d  degraded %d  "
+                                        + "avg %.1fus  max %.1fus  limit %.1fus",
+                        turns,
+                        skippedTurns,
+                        degradedTurns,
+                        getAverageTurnNanos() / 1000,
+                        maxTurnNanos / 1000.0,
+                        limitNanos / 1000.0 ) );
+        for ( TickPipeline.Stage stage : STAGES )
+        {
+            if ( stage != TickPipeline.Stage.EXECUTE )
+            {
+                s.append( String.format( "\n  %-8s avg %.1fus  max %.1fus",
+                                stage,
+                                getAverageNanos( stage ) / 1000,
+                                getMaxNanos( stage ) / 1000.0 ) );
+            }
+        }
+        return s.toString();
+    }
+}
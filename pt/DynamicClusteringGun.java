@@ -0,0 +1,392 @@
+package pt;
+
+/**
+ * Dynamic clustering (k nearest neighbour) gun
+ * <p/>
+ * Instead of sorting situations into fixed segments, every wave remembers
+ * the target's situation when it was fired: heading change, speed, distance
+ * and energy as AdvancedEnemyBot worked them out, plus acceleration and the
+ * room left before a wall. When the wave reaches the target, that situation
+ * goes into the target's KdTree with the guess factor it led to. To aim, the
+ * gun finds the situations nearest the current one and fires at the guess
+ * factor most of them agree on.
+ * <p/>
+ * Trees live in the enemy's profile, so they fill up over the whole match;
+ * each holds CAPACITY points and drops the oldest beyond that. The search
+ * looks at no more nodes than the CPU budget allows this turn. Until a tree
+ * has MIN_POINTS the linear/circular Gun aims instead.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - RoboWiki Dynamic Clustering
+ *         http://robowiki.net/wiki/Dynamic_Clustering
+ * @version 10/18/26
+ */
+public class DynamicClusteringGun implements RobotPart, Aim
+{
+    ///Points per tree bucket
+    private static final int BUCKET = 4096;
+
+    ///Buckets per tree
+    private static final int BUCKETS = 8;
+
+    ///Points a tree holds before dropping the oldest
+    static final int CAPACITY = BUCKET * BUCKETS;
+
+    ///Neighbours to aim from
+    private static final int K = 24;
+
+    ///Points needed before the tree aims
+    private static final int MIN_POINTS = 10;
+
+    ///Nodes a search may visit at full effort
+    private static final int MAX_VISITS = 1500;
+
+    ///Nodes a search may visit at least
+    private static final int MIN_VISITS = 150;
+
+    ///Guess factors closer than this count as agreeing
+    private static final double BANDWIDTH = 0.1;
+
+    ///Most heading change per tick (10 degrees)
+    private static final double MAX_TURN = Math.toRadians( 10 );
+
+    ///Robot this part drives
+    private final RobotControl robot;
+
+    ///Knowledge shared with the other parts
+    private final CarverState state;
+
+    ///Aims while a tree has too little data
+    private final Gun fallback;
+
+    ///Waves in flight
+    private final Waves waves = new Waves();
+
+    ///Situations of each robot, by registry id (null until first seen)
+    private KdTree[] trees = new KdTree[8];
+
+    ///Last lateral direction of each robot, by registry id (1 or -1)
+    private int[] directions = new int[8];
+
+    ///Situation of the target this turn
+    private final double[] query = new double[Waves.FEATURES];
+
+    ///Absolute bearing to the target this turn (radians)
+    private double bearing;
+
+    ///Lateral direction of the target this turn
+    private int direction = 1;
+
+
+    /**
+     * Constructor for DynamicClusteringGun
+     *
+     * @param robot robot to drive
+     * @param state knowledge shared with the other parts
+     */
+    public DynamicClusteringGun( RobotControl robot, CarverState state )
+    {
+        this.robot = robot;
+        this.state = state;
+        fallback = new Gun( robot, state );
+    }
+
+
+    /**
+     * Initialize
+     */
+    public void init()
+    {
+        fallback.init();
+    }
+
+
+    /**
+     * Updates waves, fires one at the target if it was scanned, then aims
+     * and shoots
+     */
+    public void move()
+    {
+        double power = Gun.firePower( robot, state );
+        update( power );
+
+        // don't shoot if I've got no enemy
+        if ( state.enemy.none() || state.targetId == EnemyRegistry.NONE )
+        {
+            return;
+        }
+
+        double aim = aim( power );
+        if ( Double.isNaN( aim ) )
+        {
+            fallback.move();
+            return;
+        }
+        Gun.turnAndFire( robot, state, aim, power );
+    }
+
+
+    /**
+     * Moves waves on, works out the target's situation and fires a wave at
+     * it if it was scanned
+     *
+     * @param power bullet power we would fire this turn
+     */
+    public void update( double power )
+    {
+        long now = robot.getTime();
+        updateWaves( now );
+
+        int target = state.targetId;
+        if ( state.enemy.none() || target == EnemyRegistry.NONE )
+        {
+            return;
+        }
+
+        //The enemy's situation is only worked out for the target
+        treeFor( target );
+        bearing = bearingTo( target );
+        direction = direction( target, bearing );
+        situation( direction, query );
+        if ( state.snapshot.hasScan( target ) )
+        {
+            Waves.Wave w = waves.fire( target, robot.getX(), robot.getY(),
+                            bearing, direction, Waves.speed( power ), now );
+            System.arraycopy( query, 0, w.features, 0, Waves.FEATURES );
+        }
+    }
+
+
+    /**
+     * Aims at the guess factor the situations nearest this turn's agree on
+     *
+     * @param power bullet power
+     * @return absolute bearing to fire at (radians), NaN if there is no
+     *         target or its tree is too small yet
+     */
+    public double aim( double power )
+    {
+        int target = state.targetId;
+        if ( state.enemy.none() || target == EnemyRegistry.NONE
+                        || treeFor( target ).size() < MIN_POINTS )
+        {
+            return Double.NaN;
+        }
+
+        double guessFactor;
+
+        //A search keeps its results in the tree, which others may share
+        synchronized ( state.profile( target ) )
+        {
+            guessFactor = bestGuessFactor( trees[target] );
+        }
+        return bearing + guessFactor * direction
+                        * Waves.maxEscapeAngle( Waves.speed( power ) );
+    }
+
+
+    /**
+     * Searches the tree for situations like the current one and picks the
+     * guess factor most of them are near, nearer situations counting more
+     *
+     * @param tree situations of the target
+     * @return guess factor between -1 and 1
+     */
+    private double bestGuessFactor( KdTree tree )
+    {
+        int found = tree.search( query, K,
+                        state.budget.scale( MAX_VISITS, MIN_VISITS ) );
+
+        double best = 0;
+        double bestDensity = -1;
+        for ( int i = 0; i < found; i++ )
+        {
+            double guessFactor = tree.getValue( i );
+            double density = 0;
+            for ( int j = 0; j < found; j++ )
+            {
+                double gap = ( guessFactor - tree.getValue( j ) ) / BANDWIDTH;
+                density += 1 / ( ( 1 + gap * gap )
+                                * ( 1 + tree.getDistance( j ) ) );
+            }
+            if ( density > bestDensity )
+            {
+                bestDensity = density;
+                best = guessFactor;
+            }
+        }
+        return best;
+    }
+
+
+    /**
+     * Works out the target's situation, scaled so each coordinate matters
+     * about as much as the others
+     *
+     * @param direction lateral direction of the target
+     * @param into      array to fill (Waves.FEATURES long)
+     */
+    private void situation( int direction, double[] into )
+    {
+        AdvancedEnemyBot enemy = state.enemy;
+        into[0] = enemy.getHeadingChange() * direction / MAX_TURN;
+        into[1] = Math.abs( enemy.getVelocity() ) / 8;
+        into[2] = enemy.getDistance() / 600;
+        into[3] = Math.min( enemy.getEnergy(), 100 ) / 400;
+
+        //Speeding up or slowing down, from the registry's last two scans
+        int id = state.targetId;
+        EnemyRegistry enemies = state.enemies;
+        into[4] = enemies.getScans( id ) < 2 ? 0 :
+                        ( Math.abs( enemies.getVelocity( id, 0 ) ) - Math.abs(
+                                        enemies.getVelocity( id, 1 ) ) ) / 2;
+
+        into[5] = wallAhead( enemy ) / 400;
+    }
+
+
+    /**
+     * Distance the target can go the way it is moving before a wall stops it
+     *
+     * @param enemy target
+     * @return distance (at most the field's diagonal)
+     */
+    private double wallAhead( AdvancedEnemyBot enemy )
+    {
+        double heading = Math.toRadians( enemy.getHeading() );
+        if ( enemy.getVelocity() < 0 )
+        {
+            heading += Math.PI;
+        }
+        double dx = Math.sin( heading );
+        double dy = Math.cos( heading );
+        double x = enemy.getX();
+        double y = enemy.getY();
+        double width = robot.getBattleFieldWidth();
+        double height = robot.getBattleFieldHeight();
+
+        double ahead = Math.hypot( width, height );
+        if ( dx > 1e-9 )
+        {
+            ahead = Math.min( ahead, ( width - 18 - x ) / dx );
+        }
+        else if ( dx < -1e-9 )
+        {
+            ahead = Math.min( ahead, ( 18 - x ) / dx );
+        }
+        if ( dy > 1e-9 )
+        {
+            ahead = Math.min( ahead, ( height - 18 - y ) / dy );
+        }
+        else if ( dy < -1e-9 )
+        {
+            ahead = Math.min( ahead, ( 18 - y ) / dy );
+        }
+        return Math.max( 0, ahead );
+    }
+
+
+    /**
+     * Moves waves on; those that reached their robot add its situation to
+     * its tree
+     *
+     * @param now current time
+     */
+    private void updateWaves( long now )
+    {
+        EnemyRegistry enemies = state.enemies;
+        for ( int i = waves.size() - 1; i >= 0; i-- )
+        {
+            Waves.Wave w = waves.get( i );
+            if ( !enemies.isAlive( w.id ) )
+            {
+                waves.release( i );
+                continue;
+            }
+
+            double ex = enemies.getX( w.id, 0 );
+            double ey = enemies.getY( w.id, 0 );
+            if ( Waves.reached( w, ex, ey, now ) )
+            {
+                synchronized ( state.profile( w.id ) )
+                {
+                    trees[w.id].add( w.features,
+                                    Waves.guessFactor( w, ex, ey ) );
+                }
+                waves.release( i );
+            }
+        }
+    }
+
+
+    /**
+     * @param id robot (registry id)
+     * @return absolute bearing to its latest scan (radians)
+     */
+    private double bearingTo( int id )
+    {
+        EnemyRegistry enemies = state.enemies;
+        return Math.atan2( enemies.getX( id, 0 ) - robot.getX(),
+                        enemies.getY( id, 0 ) - robot.getY() );
+    }
+
+
+    /**
+     * Gets the lateral direction of a robot, keeping the last one while it
+     * moves straight at or away from us
+     *
+     * @param id      robot (registry id)
+     * @param bearing absolute bearing to it (radians)
+     * @return 1 or -1
+     */
+    private int direction( int id, double bearing )
+    {
+        EnemyRegistry enemies = state.enemies;
+        double lateral = enemies.getVelocity( id, 0 ) * Math.sin(
+                        enemies.getHeadingRadians( id, 0 ) - bearing );
+        if ( lateral != 0 )
+        {
+            directions[id] = lateral > 0 ? 1 : -1;
+        }
+        return directions[id];
+    }
+
+
+    /**
+     * Gets the tree of a robot, from its profile the first time
+     *
+     * @param id robot (registry id)
+     * @return tree
+     */
+    private KdTree treeFor( int id )
+    {
+        if ( id >= trees.length )
+        {
+            int size = Math.max( trees.length * 2, id + 1 );
+            KdTree[] grown = new KdTree[size];
+            System.arraycopy( trees, 0, grown, 0, trees.length );
+            trees = grown;
+            int[] grownDirections = new int[size];
+            System.arraycopy( directions, 0, grownDirections, 0,
+                            directions.length );
+            directions = grownDirections;
+        }
+        if ( trees[id] == null )
+        {
+            MovementHistory hist = state.profile( id );
+            synchronized ( hist )
+            {
+                if ( hist.situations == null )
+                {
+                    hist.situations = new KdTree( Waves.FEATURES, BUCKET,
+                                    BUCKETS, K );
+                }
+                trees[id] = hist.situations;
+            }
+            directions[id] = 1;
+        }
+        return trees[id];
+    }
+}
@@ -0,0 +1,365 @@
+package pt;
+
+import robocode.Rules;
+import robocode.util.Utils;
+
+
+/**
+ * Kalman filter estimate of one enemy's movement
+ * <p/>
+ * Two small filters run side by side: heading with turn rate, and velocity
+ * with acceleration. Each assumes the rate stays the same from tick to tick
+ * apart from random changes (variance TURN_NOISE and ACCEL_NOISE per tick),
+ * and keeps the 2x2 covariance of its estimate. A scan first predicts the
+ * estimate forward to the scan's tick, then corrects it with the scanned
+ * heading and velocity; the turn rate and acceleration come out averaged
+ * over several scans instead of taken from the last two. Rates are kept to
+ * what Robocode allows (turning at most 10 - 0.75 |v| degrees a tick,
+ * changing speed by at most 2).
+ * <p/>
+ * Scanned positions are exact, so a scan sets the position outright. On
+ * ticks the radar misses the enemy, advance moves it the way Robocode would
+ * (turn, then move along the new heading, staying inside the field) and
+ * grows the position's variance by what the velocity and heading are
+ * unsure of, so the estimate is always for the current tick. Everything is
+ * plain double fields; nothing is allocated after construction.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - Welch and Bishop, An Introduction to the Kalman Filter
+ *         http://www.cs.unc.edu/~welch/kalman/
+ * @version 10/18/26
+ */
+public class EnemyFilter
+{
+    ///Random change in turn rate per tick (variance, radians squared)
+    private static final double TURN_NOISE = 1e-4;
+
+    ///Random change in acceleration per tick (variance)
+    private static final double ACCEL_NOISE = 0.1;
+
+    ///Scanned heading error (variance, radians squared)
+    private static final double HEADING_ERROR = 1e-6;
+
+    ///Scanned velocity error (variance)
+    private static final double VELOCITY_ERROR = 1e-3;
+
+    ///Turn rate variance before anything is known about it
+    private static final double TURN_UNKNOWN = 0.03;
+
+    ///Acceleration variance before anything is known about it
+    private static final double ACCEL_UNKNOWN = 4;
+
+    ///Largest change of velocity in one tick
+    private static final double MAX_ACCEL = 2;
+
+    ///Distance from a robot's center to the edge of its body
+    private static final double HALF_ROBOT = 18;
+
+    ///Scans taken in
+    private int scans;
+
+    ///Tick the estimate is for
+    private long time;
+
+    ///Estimated position
+    private double x, y;
+
+    ///Estimated heading and turn rate (radians, radians per tick)
+    private double heading, turnRate;
+
+    ///Covariance of heading and turn rate
+    private double headingVar, headingTurnCov, turnVar;
+
+    ///Estimated velocity and acceleration
+    private double velocity, acceleration;
+
+    ///Covariance of velocity and acceleration
+    private double velocityVar, velocityAccelCov, accelVar;
+
+    ///Variance of the position (0 right after a scan)
+    private double positionVar;
+
+
+    /**
+     * Forgets everything
+     */
+    public void reset()
+    {
+        scans = 0;
+        time = 0;
+        x = 0;
+        y = 0;
+        heading = 0;
+        turnRate = 0;
+        velocity = 0;
+        acceleration = 0;
+        positionVar = 0;
+    }
+
+
+    /**
+     * Takes in a scan
+     *
+     * @param time     tick of the scan
+     * @param x        scanned x
+     * @param y        scanned y
+     * @param heading  scanned heading (radians)
+     * @param velocity scanned velocity
+     */
+    public void scan( long time, double x, double y, double heading,
+                    double velocity )
+    {
+        if ( scans == 0 || time < this.time )
+        {
+            //Nothing to go on for the rates yet
+            this.heading = heading;
+            turnRate = 0;
+            headingVar = HEADING_ERROR;
+            headingTurnCov = 0;
+            turnVar = TURN_UNKNOWN;
+            this.velocity = velocity;
+            acceleration = 0;
+            velocityVar = VELOCITY_ERROR;
+            velocityAccelCov = 0;
+            accelVar = ACCEL_UNKNOWN;
+        }
+        else
+        {
+            for ( long t = this.time; t < time; t++ )
+            {
+                predictRates();
+            }
+            correct( heading, velocity );
+        }
+
+        scans++;
+        this.time = time;
+        this.x = x;
+        this.y = y;
+        positionVar = 0;
+    }
+
+
+    /**
+     * Moves the estimate on to the current tick, one tick at a time
+     *
+     * @param now    current tick
+     * @param width  battlefield width
+     * @param height battlefield height
+     */
+    public void advance( long now, double width, double height )
+    {
+        if ( scans == 0 )
+        {
+            return;
+        }
+        for ( ; time < now; time++ )
+        {
+            predictRates();
+            x = Math.max( HALF_ROBOT, Math.min( width - HALF_ROBOT,
+                            x + Math.sin( heading ) * velocity ) );
+            y = Math.max( HALF_ROBOT, Math.min( height - HALF_ROBOT,
+                            y + Math.cos( heading ) * velocity ) );
+            positionVar += velocityVar + velocity * velocity * headingVar;
+        }
+    }
+
+
+    /**
+     * Predicts heading, turn rate, velocity and acceleration one tick on
+     */
+    private void predictRates()
+    {
+        //Robocode turns first, then changes speed
+        heading = Utils.normalAbsoluteAngle( heading + turnRate );
+        headingVar += 2 * headingTurnCov + turnVar;
+        headingTurnCov += turnVar;
+        turnVar += TURN_NOISE;
+
+        velocity += acceleration;
+        if ( Math.abs( velocity ) > Rules.MAX_VELOCITY )
+        {
+            //At top speed it stops speeding up
+            velocity = Math.signum( velocity ) * Rules.MAX_VELOCITY;
+            acceleration = 0;
+        }
+        velocityVar += 2 * velocityAccelCov + accelVar;
+        velocityAccelCov += accelVar;
+        accelVar += ACCEL_NOISE;
+    }
+
+
+    /**
+     * Corrects the estimate with a scanned heading and velocity
+     *
+     * @param heading  scanned heading (radians)
+     * @param velocity scanned velocity
+     */
+    private void correct( double heading, double velocity )
+    {
+        double innovation = Utils.normalRelativeAngle( heading
+                        - this.heading );
+        double spread = headingVar + HEADING_ERROR;
+        double gainHeading = headingVar / spread;
+        double gainTurn = headingTurnCov / spread;
+        this.heading = Utils.normalAbsoluteAngle( this.heading
+                        + gainHeading * innovation );
+        turnRate += gainTurn * innovation;
+        turnVar -= gainTurn * headingTurnCov;
+        headingVar *= 1 - gainHeading;
+        headingTurnCov *= 1 - gainHeading;
+
+        innovation = velocity - this.velocity;
+        spread = velocityVar + VELOCITY_ERROR;
+        double gainVelocity = velocityVar / spread;
+        double gainAccel = velocityAccelCov / spread;
+        this.velocity += gainVelocity * innovation;
+        acceleration += gainAccel * innovation;
+        accelVar -= gainAccel * velocityAccelCov;
+        velocityVar *= 1 - gainVelocity;
+        velocityAccelCov *= 1 - gainVelocity;
+
+        //Keep to what Robocode allows
+        double maxTurn = Rules.getTurnRateRadians( this.velocity );
+        turnRate = Math.max( -maxTurn, Math.min( maxTurn, turnRate ) );
+        acceleration = Math.max( -MAX_ACCEL, Math.min( MAX_ACCEL,
+                        acceleration ) );
+    }
+
+
+    /**
+     * @return scans taken in
+     */
+    public int getScans()
+    {
+        return scans;
+    }
+
+
+    /**
+     * @return tick the estimate is for
+     */
+    public long getTime()
+    {
+        return time;
+    }
+
+
+    /**
+     * @return estimated x
+     */
+    public double getX()
+    {
+        return x;
+    }
+
+
+    /**
+     * @return estimated y
+     */
+    public double getY()
+    {
+        return y;
+    }
+
+
+    /**
+     * @return variance of the estimated position (along each axis)
+     */
+    public double getPositionVariance()
+    {
+        return positionVar;
+    }
+
+
+    /**
+     * @return estimated heading (radians)
+     */
+    public double getHeading()
+    {
+        return heading;
+    }
+
+
+    /**
+     * @return estimated turn rate (radians per tick)
+     */
+    public double getTurnRate()
+    {
+        return turnRate;
+    }
+
+
+    /**
+     * @return variance of the estimated heading
+     */
+    public double getHeadingVariance()
+    {
+        return headingVar;
+    }
+
+
+    /**
+     * @return covariance of the estimated heading and turn rate
+     */
+    public double getHeadingTurnCovariance()
+    {
+        return headingTurnCov;
+    }
+
+
+    /**
+     * @return variance of the estimated turn rate
+     */
+    public double getTurnRateVariance()
+    {
+        return turnVar;
+    }
+
+
+    /**
+     * @return estimated velocity
+     */
+    public double getVelocity()
+    {
+        return velocity;
+    }
+
+
+    /**
+     * @return estimated acceleration (velocity change per tick)
+     */
+    public double getAcceleration()
+    {
+        return acceleration;
+    }
+
+
+    /**
+     * @return variance of the estimated velocity
+     */
+    public double getVelocityVariance()
+    {
+        return velocityVar;
+    }
+
+
+    /**
+     * @return covariance of the estimated velocity and acceleration
+     */
+    public double getVelocityAccelerationCovariance()
+    {
+        return velocityAccelCov;
+    }
+
+
+    /**
+     * @return variance of the estimated acceleration
+     */
+    public double getAccelerationVariance()
+    {
+        return accelVar;
+    }
+}
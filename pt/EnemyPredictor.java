@@ -0,0 +1,289 @@
+package pt;
+
+import robocode.Rules;
+
+
+/**
+ * Moves an enemy forward tick by tick under Robocode's movement rules
+ * <p/>
+ * Each tick the robot turns by its turn rate, held to 10 - 0.75 |v| degrees,
+ * then changes velocity toward a target velocity: speeding up by at most 1,
+ * slowing down by at most 2, and when slowing through zero spending the rest
+ * of the tick speeding up the other way, as Robocode 1.9 does. It then moves
+ * along its new heading; a robot that would leave the battlefield stops
+ * against the wall with velocity 0.
+ * <p/>
+ * setEnemy reads the target velocity and turn rate from an EnemyFilter: an
+ * enemy speeding up heads for full speed, one slowing down heads for a stop,
+ * and one holding its speed keeps it. The state is a handful of doubles, so
+ * predicting allocates nothing. While the turn stays the same (as it does
+ * at a steady speed) the heading's sine and cosine are rotated rather than
+ * worked out again, so most steps are a few multiplications.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - RoboWiki Robocode/Game Physics
+ *         http://robowiki.net/wiki/Robocode/Game_Physics
+ * @version 10/18/26
+ */
+public class EnemyPredictor
+{
+    ///Acceleration (velocity change per tick) below which speed is held
+    private static final double STEADY = 0.25;
+
+    ///Distance from a robot's center to the edge of its body
+    private static final double HALF_ROBOT = 18;
+
+    ///Battlefield size
+    private double width = Double.MAX_VALUE, height = Double.MAX_VALUE;
+
+    ///Predicted position
+    private double x, y;
+
+    ///Predicted heading (radians) and velocity
+    private double heading, velocity;
+
+    ///Velocity the robot is heading for
+    private double targetVelocity;
+
+    ///Turn the robot tries to make each tick (radians)
+    private double turnRate;
+
+    ///Sine and cosine of the heading
+    private double sinHeading, cosHeading;
+
+    ///Last turn made, with its sine and cosine
+    private double lastTurn, sinTurn, cosTurn;
+
+    ///Ticks predicted since the start
+    private int ticks;
+
+    ///Whether the robot has run into a wall
+    private boolean hitWall;
+
+
+    /**
+     * Sets the battlefield the robot stays inside
+     *
+     * @param width  battlefield width
+     * @param height battlefield height
+     */
+    public void setField( double width, double height )
+    {
+        this.width = width;
+        this.height = height;
+    }
+
+
+    /**
+     * Starts from a robot's state
+     *
+     * @param x              x
+     * @param y              y
+     * @param heading        heading (radians)
+     * @param velocity       velocity
+     * @param targetVelocity velocity it is heading for
+     * @param turnRate       turn it tries to make each tick (radians)
+     */
+    public void setStart( double x, double y, double heading,
+                    double velocity, double targetVelocity, double turnRate )
+    {
+        this.x = x;
+        this.y = y;
+        this.heading = heading;
+        this.velocity = velocity;
+        this.targetVelocity = targetVelocity;
+        this.turnRate = turnRate;
+        sinHeading = Math.sin( heading );
+        cosHeading = Math.cos( heading );
+        lastTurn = 0;
+        sinTurn = 0;
+        cosTurn = 1;
+        ticks = 0;
+        hitWall = false;
+    }
+
+
+    /**
+     * Starts from an enemy's estimate, reading where it is heading from its
+     * acceleration
+     *
+     * @param estimate enemy's movement estimate
+     */
+    public void setEnemy( EnemyFilter estimate )
+    {
+        double v = estimate.getVelocity();
+        double a = estimate.getAcceleration();
+        double target;
+        if ( Math.abs( a ) < STEADY )
+        {
+            target = v;
+        }
+        else if ( a * v >= 0 )
+        {
+            target = Math.signum( a ) * Rules.MAX_VELOCITY;
+        }
+        else
+        {
+            target = 0;
+        }
+        setStart( estimate.getX(), estimate.getY(), estimate.getHeading(),
+                        v, target, estimate.getTurnRate() );
+    }
+
+
+    /**
+     * Moves the robot on one tick
+     */
+    public void step()
+    {
+        //Turn (as fast as the velocity before moving allows), then speed up
+        // or slow down, then move
+        double maxTurn = Rules.getTurnRateRadians( velocity );
+        double turn = Math.max( -maxTurn, Math.min( maxTurn, turnRate ) );
+        if ( turn != 0 )
+        {
+            if ( turn != lastTurn )
+            {
+                lastTurn = turn;
+                sinTurn = Math.sin( turn );
+                cosTurn = Math.cos( turn );
+            }
+            //Rotate by the turn instead of taking new sines
+            double sin = sinHeading * cosTurn + cosHeading * sinTurn;
+            cosHeading = cosHeading * cosTurn - sinHeading * sinTurn;
+            sinHeading = sin;
+            heading += turn;
+        }
+        velocity = nextVelocity( velocity, targetVelocity );
+
+        double nextX = x + sinHeading * velocity;
+        double nextY = y + cosHeading * velocity;
+        if ( nextX < HALF_ROBOT || nextX > width - HALF_ROBOT
+                        || nextY < HALF_ROBOT || nextY > height - HALF_ROBOT )
+        {
+            nextX = Math.max( HALF_ROBOT, Math.min( width - HALF_ROBOT,
+                            nextX ) );
+            nextY = Math.max( HALF_ROBOT, Math.min( height - HALF_ROBOT,
+                            nextY ) );
+            velocity = 0;
+            hitWall = true;
+        }
+        x = nextX;
+        y = nextY;
+        ticks++;
+    }
+
+
+    /**
+     * Moves the robot on until a bullet fired now from a point would reach
+     * it, or for at most some ticks
+     *
+     * @param fromX    where the bullet is fired from
+     * @param fromY    where the bullet is fired from
+     * @param speed    bullet speed
+     * @param maxTicks most ticks to predict
+     * @return whether the bullet reaches it within maxTicks
+     */
+    public boolean stepUntilReached( double fromX, double fromY,
+                    double speed, int maxTicks )
+    {
+        while ( ticks < maxTicks )
+        {
+            step();
+            double dx = x - fromX;
+            double dy = y - fromY;
+            double travelled = ticks * speed;
+            if ( dx * dx + dy * dy <= travelled * travelled )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * Velocity after one tick under Robocode 1.9's rules
+     *
+     * @param velocity current velocity
+     * @param target   velocity it is heading for
+     * @return next velocity
+     */
+    static double nextVelocity( double velocity, double target )
+    {
+        if ( velocity < 0 || velocity == 0 && target < 0 )
+        {
+            return -nextVelocity( -velocity, -target );
+        }
+
+        target = Math.min( target, Rules.MAX_VELOCITY );
+        if ( target >= velocity )
+        {
+            return Math.min( target, velocity + Rules.ACCELERATION );
+        }
+        if ( velocity >= Rules.DECELERATION || target >= 0 )
+        {
+            return Math.max( target, velocity - Rules.DECELERATION );
+        }
+
+        //Stops partway through the tick and speeds up backwards for the rest
+        double rest = 1 - velocity / Rules.DECELERATION;
+        return Math.max( target, -Rules.ACCELERATION * rest );
+    }
+
+
+    /**
+     * @return predicted x
+     */
+    public double getX()
+    {
+        return x;
+    }
+
+
+    /**
+     * @return predicted y
+     */
+    public double getY()
+    {
+        return y;
+    }
+
+
+    /**
+     * @return predicted heading (radians, not normalized)
+     */
+    public double getHeading()
+    {
+        return heading;
+    }
+
+
+    /**
+     * @return predicted velocity
+     */
+    public double getVelocity()
+    {
+        return velocity;
+    }
+
+
+    /**
+     * @return ticks predicted since the start
+     */
+    public int getTicks()
+    {
+        return ticks;
+    }
+
+
+    /**
+     * @return whether the robot has run into a wall
+     */
+    public boolean hasHitWall()
+    {
+        return hitWall;
+    }
+}
@@ -0,0 +1,392 @@
+package pt;
+
+import robocode.ScannedRobotEvent;
+
+import java.lang.reflect.Array;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Every enemy we have seen this round, with its recent scans
+ * <p/>
+ * Each robot name gets an int id the first time it is scanned; after that
+ * parts compare and index by id. The last HISTORY scans of each enemy (x, y,
+ * heading, velocity, energy, time) sit in ring buffers inside flat primitive
+ * arrays, slot id * HISTORY + i, so looking up any enemy is O(1) and
+ * allocates nothing. Only meeting a new robot allocates (and grows the
+ * arrays when more robots show up than there is room for).
+ * <p/>
+ * Each enemy also has an EnemyFilter, fed every scan and moved on every
+ * tick by advance, for a smoothed estimate of where it is now.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+public class EnemyRegistry
+{
+    ///Scans kept per enemy (a power of two)
+    public static final int HISTORY = 32;
+
+    ///Id returned for names never seen
+    public static final int NONE = -1;
+
+    ///Mask turning a scan count into a ring slot
+    private static final int MASK = HISTORY - 1;
+
+    ///Ids by name
+    private final Map<String, Integer> ids = new HashMap<String, Integer>();
+
+    ///Enemies registered so far
+    private int size = 0;
+
+    ///Names by id
+    private String[] names;
+
+    ///Whether each enemy is still alive
+    private boolean[] alive;
+
+    ///Scans recorded for each enemy (next ring slot is count & MASK)
+    private int[] count;
+
+    ///Ring buffers, HISTORY slots per enemy
+    private double[] x, y, heading, velocity, energy;
+
+    ///Scan times, HISTORY slots per enemy
+    private long[] time;
+
+    ///Movement estimate of each enemy
+    private EnemyFilter[] filters;
+
+
+    /**
+     * Constructor for EnemyRegistry
+     *
+     * @param expected number of enemies to make room for
+     */
+    public EnemyRegistry( int expected )
+    {
+        allocate( Math.max( 1, expected ) );
+    }
+
+
+    /**
+     * Gets the id of a robot, registering it if it is new
+     *
+     * @param name robot name
+     * @return id
+     */
+    public int register( String name )
+    {
+        Integer id = ids.get( name );
+        if ( id != null )
+        {
+            return id;
+        }
+
+        if ( size == names.length )
+        {
+            allocate( size * 2 );
+        }
+        names[size] = name;
+        alive[size] = true;
+        filters[size] = new EnemyFilter();
+        ids.put( name, size );
+        return size++;
+    }
+
+
+    /**
+     * Gets the id of a robot without registering it
+     *
+     * @param name robot name
+     * @return id, or NONE if never seen
+     */
+    public int idOf( String name )
+    {
+        Integer id = ids.get( name );
+        return id == null ? NONE : id;
+    }
+
+
+    /**
+     * Records a scan, working out the enemy's position from ours
+     *
+     * @param e     scan
+     * @param robot robot that scanned
+     * @return id of the scanned enemy
+     */
+    public int record( ScannedRobotEvent e, RobotView robot )
+    {
+        int id = register( e.getName() );
+        double absBearing = robot.getHeadingRadians() + e.getBearingRadians();
+
+        int slot = id * HISTORY + ( count[id] & MASK );
+        x[slot] = robot.getX() + Math.sin( absBearing ) * e.getDistance();
+        y[slot] = robot.getY() + Math.cos( absBearing ) * e.getDistance();
+        heading[slot] = e.getHeadingRadians();
+        velocity[slot] = e.getVelocity();
+        energy[slot] = e.getEnergy();
+        time[slot] = e.getTime();
+        count[id]++;
+        alive[id] = true;
+        filters[id].scan( time[slot], x[slot], y[slot], heading[slot],
+                        velocity[slot] );
+        return id;
+    }
+
+
+    /**
+     * Moves every living enemy's estimate on to the current tick, filling
+     * in the ticks the radar missed
+     *
+     * @param robot robot tracking the enemies
+     */
+    public void advance( RobotView robot )
+    {
+        long now = robot.getTime();
+        double width = robot.getBattleFieldWidth();
+        double height = robot.getBattleFieldHeight();
+        for ( int id = 0; id < size; id++ )
+        {
+            if ( alive[id] )
+            {
+                filters[id].advance( now, width, height );
+            }
+        }
+    }
+
+
+    /**
+     * Marks an enemy dead (its scans are kept)
+     *
+     * @param name robot name
+     */
+    public void died( String name )
+    {
+        int id = idOf( name );
+        if ( id != NONE )
+        {
+            alive[id] = false;
+        }
+    }
+
+
+    /**
+     * @return number of enemies registered
+     */
+    public int size()
+    {
+        return size;
+    }
+
+
+    /**
+     * @param id enemy id
+     * @return robot name
+     */
+    public String getName( int id )
+    {
+        return names[id];
+    }
+
+
+    /**
+     * @param id enemy id
+     * @return whether the enemy is still alive
+     */
+    public boolean isAlive( int id )
+    {
+        return alive[id];
+    }
+
+
+    /**
+     * @param id enemy id
+     * @return scans available (at most HISTORY)
+     */
+    public int getScans( int id )
+    {
+        return Math.min( count[id], HISTORY );
+    }
+
+
+    /**
+     * Ring slot of a past scan
+     *
+     * @param id  enemy id
+     * @param ago 0 for the latest scan, 1 for the one before, ...
+     * @return index into the ring buffers
+     */
+    private int slot( int id, int ago )
+    {
+        return id * HISTORY + ( ( count[id] - 1 - ago ) & MASK );
+    }
+
+
+    /**
+     * @param id enemy id
+     * @return movement estimate
+     */
+    public EnemyFilter getFilter( int id )
+    {
+        return filters[id];
+    }
+
+
+    /**
+     * @param id  enemy id
+     * @param ago 0 for the latest scan, up to getScans - 1
+     * @return x position
+     */
+    public double getX( int id, int ago )
+    {
+        return x[slot( id, ago )];
+    }
+
+
+    /**
+     * @param id  enemy id
+     * @param ago 0 for the latest scan, up to getScans - 1
+     * @return y position
+     */
+    public double getY( int id, int ago )
+    {
+        return y[slot( id, ago )];
+    }
+
+
+    /**
+     * @param id  enemy id
+     * @param ago 0 for the latest scan, up to getScans - 1
+     * @return heading in radians
+     */
+    public double getHeadingRadians( int id, int ago )
+    {
+        return heading[slot( id, ago )];
+    }
+
+
+    /**
+     * @param id  enemy id
+     * @param ago 0 for the latest scan, up to getScans - 1
+     * @return velocity
+     */
+    public double getVelocity( int id, int ago )
+    {
+        return velocity[slot( id, ago )];
+    }
+
+
+    /**
+     * @param id  enemy id
+     * @param ago 0 for the latest scan, up to getScans - 1
+     * @return energy
+     */
+    public double getEnergy( int id, int ago )
+    {
+        return energy[slot( id, ago )];
+    }
+
+
+    /**
+     * @param id  enemy id
+     * @param ago 0 for the latest scan, up to getScans - 1
+     * @return time of the scan
+     */
+    public long getTime( int id, int ago )
+    {
+        return time[slot( id, ago )];
+    }
+
+
+    /**
+     * @param id enemy id
+     * @return tick the enemy was last scanned
+     */
+    public long getLastSeen( int id )
+    {
+        return time[slot( id, 0 )];
+    }
+
+
+    /**
+     * @return number of enemies seen that are still alive
+     */
+    public int countAlive()
+    {
+        int living = 0;
+        for ( int id = 0; id < size; id++ )
+        {
+            if ( alive[id] )
+            {
+                living++;
+            }
+        }
+        return living;
+    }
+
+
+    /**
+     * Average age of what we know about the living enemies (ticks since
+     * each was last scanned)
+     *
+     * @param now current tick
+     * @return average age, 0 if no living enemy has been seen
+     */
+    public double getAverageAge( long now )
+    {
+        long total = 0;
+        int living = 0;
+        for ( int id = 0; id < size; id++ )
+        {
+            if ( alive[id] )
+            {
+                total += now - time[slot( id, 0 )];
+                living++;
+            }
+        }
+        return living == 0 ? 0 : (double)total / living;
+    }
+
+
+    /**
+     * Makes room for more enemies, keeping what is recorded
+     *
+     * @param capacity enemies to make room for
+     */
+    private void allocate( int capacity )
+    {
+        names = copy( names, new String[capacity] );
+        alive = copy( alive, new boolean[capacity] );
+        count = copy( count, new int[capacity] );
+        x = copy( x, new double[capacity * HISTORY] );
+        y = copy( y, new double[capacity * HISTORY] );
+        heading = copy( heading, new double[capacity * HISTORY] );
+        velocity = copy( velocity, new double[capacity * HISTORY] );
+        energy = copy( energy, new double[capacity * HISTORY] );
+        time = copy( time, new long[capacity * HISTORY] );
+        filters = copy( filters, new EnemyFilter[capacity] );
+    }
+
+
+    /**
+     * Copies an old array (if any) into the start of a new one
+     *
+     * @param from old array or null
+     * @param to   new array
+     * @param <T>  array type
+     * @return the new array
+     */
+    private static <T> T copy( T from, T to )
+    {
+        if ( from != null )
+        {
+            System.arraycopy( from, 0, to, 0, Array.getLength( from ) );
+        }
+        return to;
+    }
+}
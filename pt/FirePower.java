@@ -0,0 +1,371 @@
+package pt;
+
+import robocode.Bullet;
+import robocode.util.Utils;
+
+
+/**
+ * Chooses bullet power from how often our real bullets hit
+ * <p/>
+ * Every real shot is remembered until Robocode says it hit or missed; then
+ * the shot is counted against the enemy it was aimed at, in the distance
+ * band it was fired from. Counters live in int and double arrays in the
+ * enemy's profile, so they carry across rounds. Each band starts with
+ * PRIOR_SHOTS made-up shots at a hit rate of PRIOR_RANGE / distance.
+ * <p/>
+ * A slower bullet gives the enemy more room to escape, so the band's hit
+ * rate is scaled by the escape angle of the shots it came from over the
+ * escape angle of each candidate power. For each candidate the expected
+ * energy swing of a shot (what the hit takes from the enemy plus what it
+ * gives back to us, less what the bullet costs) is divided by the ticks the
+ * gun then needs to cool, and the best swing per tick wins. Damage beyond
+ * the enemy's energy is worth nothing, and power is held back while our own
+ * energy is low.
+ * <p/>
+ * Candidates go from 0.1 to 3 in steps of 0.1, with their speeds, escape
+ * angles and heat worked out once, so a choice is one pass of
+ * multiplications over primitive arrays.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - RoboWiki Selecting Fire Power
+ *         http://robowiki.net/wiki/Selecting_Fire_Power
+ * @version 10/18/26
+ */
+public class FirePower
+{
+    ///Distance bands
+    public static final int BANDS = 6;
+
+    ///Width of a distance band
+    public static final double BAND_WIDTH = 150;
+
+    ///Power while there is no enemy
+    private static final double DEFAULT_POWER = 1.2;
+
+    ///Made-up shots each band starts with
+    private static final double PRIOR_SHOTS = 4;
+
+    ///Distance at which the made-up shots all hit (they hit at a rate of
+    /// PRIOR_RANGE / distance)
+    private static final double PRIOR_RANGE = 90;
+
+    ///Candidate the made-up shots were fired with (power 2)
+    private static final int PRIOR_POWER = 19;
+
+    ///Most of our energy one bullet may cost is 1 / ENERGY_SHARE
+    private static final double ENERGY_SHARE = 10;
+
+    ///Most shots in flight at once
+    private static final int MAX_PENDING = 32;
+
+    ///Largest difference in heading (radians) between a shot and the bullet
+    /// Robocode reports for it
+    private static final double SAME_HEADING = 1e-3;
+
+    ///Candidate powers, weakest first
+    private static final double[] POWERS = new double[30];
+
+    ///Escape angle of each candidate (radians)
+    private static final double[] ESCAPE = new double[POWERS.length];
+
+    ///Damage of each candidate
+    private static final double[] DAMAGE = new double[POWERS.length];
+
+    ///Gun heat of each candidate
+    private static final double[] HEAT = new double[POWERS.length];
+
+    static
+    {
+        for ( int i = 0; i < POWERS.length; i++ )
+        {
+            double power = ( i + 1 ) / 10.0;
+            POWERS[i] = power;
+            ESCAPE[i] = Waves.maxEscapeAngle( Waves.speed( power ) );
+            DAMAGE[i] = 4 * power + 2 * Math.max( power - 1, 0 );
+            HEAT[i] = 1 + power / 5;
+        }
+    }
+
+    ///Knowledge shared with the parts
+    private final CarverState state;
+
+    ///Shots fired, by registry id and band
+    private int[][] fired = new int[8][];
+
+    ///Shots that hit, by registry id and band
+    private int[][] hits = new int[8][];
+
+    ///Sum of the escape angles of the shots fired, by registry id and band
+    private double[][] escapes = new double[8][];
+
+    ///Enemy each shot in flight was aimed at
+    private final int[] pendingId = new int[MAX_PENDING];
+
+    ///Band each shot in flight was fired from
+    private final int[] pendingBand = new int[MAX_PENDING];
+
+    ///Heading of each shot in flight (radians)
+    private final double[] pendingHeading = new double[MAX_PENDING];
+
+    ///Power of each shot in flight
+    private final double[] pendingPower = new double[MAX_PENDING];
+
+    ///Time each shot in flight was fired
+    private final long[] pendingTime = new long[MAX_PENDING];
+
+    ///Shots in flight
+    private int pendingCount = 0;
+
+
+    /**
+     * Constructor for FirePower
+     *
+     * @param state knowledge shared with the parts
+     */
+    public FirePower( CarverState state )
+    {
+        this.state = state;
+    }
+
+
+    /**
+     * Chooses the power with the best expected energy swing per tick
+     *
+     * @param robot robot firing
+     * @return bullet power
+     */
+    public double choose( RobotView robot )
+    {
+        int target = state.targetId;
+        if ( state.enemy.none() || target == EnemyRegistry.NONE )
+        {
+            return DEFAULT_POWER;
+        }
+
+        countersFor( target );
+        double distance = state.enemy.getDistance();
+        int band = band( distance );
+        double prior = Math.min( 1, PRIOR_RANGE / ( ( band + 0.5 )
+                        * BAND_WIDTH ) );
+        double shots = fired[target][band] + PRIOR_SHOTS;
+        double rate = ( hits[target][band] + PRIOR_SHOTS * prior ) / shots;
+        double escape = ( escapes[target][band]
+                        + PRIOR_SHOTS * ESCAPE[PRIOR_POWER] ) / shots;
+
+        double enemyEnergy = state.enemy.getEnergy();
+        double limit = Math.min( robot.getEnergy() / ENERGY_SHARE,
+                        POWERS[POWERS.length - 1] );
+
+        int best = 0;
+        double bestSwing = Double.NEGATIVE_INFINITY;
+        for ( int i = 0; i < POWERS.length && POWERS[i] <= limit; i++ )
+        {
+            double chance = Math.min( 1, rate * escape / ESCAPE[i] );
+            double gain = Math.min( DAMAGE[i], enemyEnergy ) + 3 * POWERS[i];
+            double swing = ( chance * gain - POWERS[i] ) / HEAT[i];
+            if ( swing > bestSwing )
+            {
+                best = i;
+                bestSwing = swing;
+            }
+        }
+        return POWERS[best];
+    }
+
+
+    /**
+     * Remembers a real shot until Robocode says where it went
+     *
+     * @param robot robot that fired (before its gun turns this tick)
+     * @param power bullet power
+     */
+    public void fired( RobotView robot, double power )
+    {
+        int target = state.targetId;
+        if ( state.enemy.none() || target == EnemyRegistry.NONE )
+        {
+            return;
+        }
+
+        int slot = pendingCount;
+        if ( slot == MAX_PENDING )
+        {
+            //Lost track of a bullet: forget the oldest
+            slot = 0;
+            for ( int i = 1; i < pendingCount; i++ )
+            {
+                if ( pendingTime[i] < pendingTime[slot] )
+                {
+                    slot = i;
+                }
+            }
+        }
+        else
+        {
+            pendingCount++;
+        }
+        pendingId[slot] = target;
+        pendingBand[slot] = band( state.enemy.getDistance() );
+        pendingHeading[slot] = Math.toRadians( robot.getGunHeading() );
+        pendingPower[slot] = power;
+        pendingTime[slot] = robot.getTime();
+    }
+
+
+    /**
+     * Counts a shot that Robocode says hit a robot or missed
+     *
+     * @param bullet bullet Robocode reported
+     * @param hit    whether it hit a robot (any robot counts)
+     */
+    public void resolved( Bullet bullet, boolean hit )
+    {
+        int i = find( bullet );
+        if ( i < 0 )
+        {
+            return;
+        }
+
+        int id = pendingId[i];
+        int band = pendingBand[i];
+        countersFor( id );
+
+        //The counters belong to the profile, which others may share
+        synchronized ( state.profile( id ) )
+        {
+            fired[id][band]++;
+            escapes[id][band] += Waves.maxEscapeAngle(
+                            Waves.speed( pendingPower[i] ) );
+            if ( hit )
+            {
+                hits[id][band]++;
+            }
+        }
+        remove( i );
+    }
+
+
+    /**
+     * Forgets a shot that neither hit nor missed (it hit another bullet)
+     *
+     * @param bullet bullet Robocode reported
+     */
+    public void cancelled( Bullet bullet )
+    {
+        int i = find( bullet );
+        if ( i >= 0 )
+        {
+            remove( i );
+        }
+    }
+
+
+    /**
+     * Gets how often shots at an enemy from a distance band hit, counting
+     * the made-up shots
+     *
+     * @param id   enemy (registry id)
+     * @param band distance band
+     * @return hit rate between 0 and 1
+     */
+    public double hitRate( int id, int band )
+    {
+        countersFor( id );
+        double prior = Math.min( 1, PRIOR_RANGE / ( ( band + 0.5 )
+                        * BAND_WIDTH ) );
+        return ( hits[id][band] + PRIOR_SHOTS * prior )
+                        / ( fired[id][band] + PRIOR_SHOTS );
+    }
+
+
+    /**
+     * @param distance distance to the enemy
+     * @return distance band
+     */
+    public static int band( double distance )
+    {
+        return Math.min( BANDS - 1, (int)( distance / BAND_WIDTH ) );
+    }
+
+
+    /**
+     * Finds the shot in flight that a bullet came from
+     *
+     * @param bullet bullet Robocode reported
+     * @return index of the shot, -1 if none is close enough
+     */
+    private int find( Bullet bullet )
+    {
+        int found = -1;
+        double closest = SAME_HEADING;
+        for ( int i = 0; i < pendingCount; i++ )
+        {
+            double off = Math.abs( Utils.normalRelativeAngle(
+                            bullet.getHeadingRadians() - pendingHeading[i] ) )
+                            + Math.abs( bullet.getPower() - pendingPower[i] );
+            if ( off <= closest )
+            {
+                found = i;
+                closest = off;
+            }
+        }
+        return found;
+    }
+
+
+    /**
+     * Removes a shot from those in flight
+     *
+     * @param i index of the shot
+     */
+    private void remove( int i )
+    {
+        pendingCount--;
+        pendingId[i] = pendingId[pendingCount];
+        pendingBand[i] = pendingBand[pendingCount];
+        pendingHeading[i] = pendingHeading[pendingCount];
+        pendingPower[i] = pendingPower[pendingCount];
+        pendingTime[i] = pendingTime[pendingCount];
+    }
+
+
+    /**
+     * Gets the counters of an enemy ready, from its profile the first time
+     *
+     * @param id enemy (registry id)
+     */
+    private void countersFor( int id )
+    {
+        if ( id >= fired.length )
+        {
+            int size = Math.max( fired.length * 2, id + 1 );
+            int[][] grownFired = new int[size][];
+            System.arraycopy( fired, 0, grownFired, 0, fired.length );
+            fired = grownFired;
+            int[][] grownHits = new int[size][];
+            System.arraycopy( hits, 0, grownHits, 0, hits.length );
+            hits = grownHits;
+            double[][] grownEscapes = new double[size][];
+            System.arraycopy( escapes, 0, grownEscapes, 0, escapes.length );
+            escapes = grownEscapes;
+        }
+        if ( fired[id] == null )
+        {
+            MovementHistory hist = state.profile( id );
+            synchronized ( hist )
+            {
+                if ( hist.shotsFired == null )
+                {
+                    hist.shotsFired = new int[BANDS];
+                    hist.shotsHit = new int[BANDS];
+                    hist.shotEscapes = new double[BANDS];
+                }
+                fired[id] = hist.shotsFired;
+                hits[id] = hist.shotsHit;
+                escapes[id] = hist.shotEscapes;
+            }
+        }
+    }
+}
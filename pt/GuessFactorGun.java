@@ -0,0 +1,336 @@
+package pt;
+
+/**
+ * GuessFactor gun
+ * <p/>
+ * Every scan fires a virtual wave at the scanned robot. When the wave
+ * reaches it, the angle it moved through (as a share of the widest angle it
+ * could have reached, signed by its lateral direction) is its guess factor,
+ * which is added to a bin of that robot's statistics. Statistics are
+ * segmented by distance, lateral velocity, acceleration and wall distance,
+ * kept in one double[] per robot in its profile (so they outlive the round),
+ * and the gun aims at the most visited bin of the current segment.
+ * <p/>
+ * Waves come from a pool, so ticks allocate nothing once the pool has
+ * grown. Until a segment has data the linear/circular Gun aims instead.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - RoboWiki GuessFactor Targeting
+ *         http://robowiki.net/wiki/GuessFactor_Targeting_(traditional)
+ * @version 10/18/26
+ */
+public class GuessFactorGun implements RobotPart, Aim
+{
+    ///Bins per segment (odd, so guess factor 0 has its own bin)
+    static final int BINS = 31;
+
+    ///Bin of guess factor 0
+    private static final int MIDDLE = ( BINS - 1 ) / 2;
+
+    ///Distance segments (150 wide)
+    private static final int DISTANCES = 5;
+
+    ///Lateral velocity segments
+    private static final int LATERALS = 5;
+
+    ///Acceleration segments (slowing, steady, speeding up)
+    private static final int ACCELERATIONS = 3;
+
+    ///Wall distance segments
+    private static final int WALLS = 3;
+
+    ///Bins per robot
+    static final int SIZE = DISTANCES * LATERALS * ACCELERATIONS * WALLS * BINS;
+
+    ///How many visits the bins roughly remember
+    private static final double DEPTH = 30;
+
+    ///Robot this part drives
+    private final RobotControl robot;
+
+    ///Knowledge shared with the other parts
+    private final CarverState state;
+
+    ///Aims while a segment has no data
+    private final Gun fallback;
+
+    ///Waves in flight
+    private final Waves waves = new Waves();
+
+    ///Statistics of each robot, by registry id (null until first scanned)
+    private double[][] stats = new double[8][];
+
+    ///Last lateral direction of each robot, by registry id (1 or -1)
+    private int[] directions = new int[8];
+
+
+    /**
+     * Constructor for GuessFactorGun
+     *
+     * @param robot robot to drive
+     * @param state knowledge shared with the other parts
+     */
+    public GuessFactorGun( RobotControl robot, CarverState state )
+    {
+        this.robot = robot;
+        this.state = state;
+        fallback = new Gun( robot, state );
+    }
+
+
+    /**
+     * Initialize
+     */
+    public void init()
+    {
+        fallback.init();
+    }
+
+
+    /**
+     * Updates waves, fires new ones, then aims and shoots
+     */
+    public void move()
+    {
+        double power = Gun.firePower( robot, state );
+        update( power );
+
+        // don't shoot if I've got no enemy
+        if ( state.enemy.none() || state.targetId == EnemyRegistry.NONE )
+        {
+            return;
+        }
+
+        double aim = aim( power );
+        if ( Double.isNaN( aim ) )
+        {
+            //Nothing learned in this situation yet
+            fallback.move();
+            return;
+        }
+        Gun.turnAndFire( robot, state, aim, power );
+    }
+
+
+    /**
+     * Moves waves on and fires one at every robot scanned this turn
+     *
+     * @param power bullet power we would fire this turn
+     */
+    public void update( double power )
+    {
+        long now = robot.getTime();
+        updateWaves( now );
+
+        //A wave for every robot scanned this turn
+        TickSnapshot snapshot = state.snapshot;
+        for ( int i = 0; i < snapshot.getScanCount(); i++ )
+        {
+            fireWave( snapshot.getScanId( i ), power, now );
+        }
+    }
+
+
+    /**
+     * Aims at the most visited bin of the target's current segment
+     *
+     * @param power bullet power
+     * @return absolute bearing to fire at (radians), NaN if there is no
+     *         target or nothing learned in its segment yet
+     */
+    public double aim( double power )
+    {
+        int target = state.targetId;
+        if ( state.enemy.none() || target == EnemyRegistry.NONE )
+        {
+            return Double.NaN;
+        }
+
+        double[] bins = statsFor( target );
+        int segment = segment( target );
+        int best = MIDDLE;
+        for ( int i = 0; i < BINS; i++ )
+        {
+            if ( bins[segment + i] > bins[segment + best] )
+            {
+                best = i;
+            }
+        }
+
+        if ( bins[segment + best] <= 0 )
+        {
+            return Double.NaN;
+        }
+
+        EnemyRegistry enemies = state.enemies;
+        double bearing = Math.atan2( enemies.getX( target, 0 ) - robot.getX(),
+                        enemies.getY( target, 0 ) - robot.getY() );
+        double guessFactor = (double)( best - MIDDLE ) / MIDDLE;
+        return bearing + guessFactor * directions[target]
+                        * Waves.maxEscapeAngle( Waves.speed( power ) );
+    }
+
+
+    /**
+     * Fires a virtual wave at a robot scanned this turn
+     *
+     * @param id    robot (registry id)
+     * @param power bullet power
+     * @param now   current time
+     */
+    private void fireWave( int id, double power, long now )
+    {
+        EnemyRegistry enemies = state.enemies;
+        double bearing = Math.atan2( enemies.getX( id, 0 ) - robot.getX(),
+                        enemies.getY( id, 0 ) - robot.getY() );
+        double lateral = enemies.getVelocity( id, 0 ) * Math.sin(
+                        enemies.getHeadingRadians( id, 0 ) - bearing );
+
+        statsFor( id );
+        if ( lateral != 0 )
+        {
+            directions[id] = lateral > 0 ? 1 : -1;
+        }
+
+        waves.fire( id, robot.getX(), robot.getY(), bearing, directions[id],
+                        Waves.speed( power ), now ).segment = segment( id );
+    }
+
+
+    /**
+     * Moves waves on; those that reached their robot add to its statistics
+     *
+     * @param now current time
+     */
+    private void updateWaves( long now )
+    {
+        EnemyRegistry enemies = state.enemies;
+        for ( int i = waves.size() - 1; i >= 0; i-- )
+        {
+            Waves.Wave w = waves.get( i );
+            if ( !enemies.isAlive( w.id ) )
+            {
+                waves.release( i );
+                continue;
+            }
+
+            double ex = enemies.getX( w.id, 0 );
+            double ey = enemies.getY( w.id, 0 );
+            if ( !Waves.reached( w, ex, ey, now ) )
+            {
+                continue;
+            }
+
+            //The wave has reached the robot: where did it go?
+            double guessFactor = Waves.guessFactor( w, ex, ey );
+
+            //The bins belong to the profile, which others may share
+            synchronized ( state.profile( w.id ) )
+            {
+                visit( stats[w.id], w.segment,
+                                (int)Math.round( guessFactor * MIDDLE )
+                                                + MIDDLE );
+            }
+            waves.release( i );
+        }
+    }
+
+
+    /**
+     * Adds a visit to a bin, fading older visits and smoothing over the
+     * neighbouring bins
+     *
+     * @param bins    robot statistics
+     * @param segment first bin of the segment
+     * @param bin     bin visited
+     */
+    private static void visit( double[] bins, int segment, int bin )
+    {
+        for ( int i = 0; i < BINS; i++ )
+        {
+            int d = i - bin;
+            bins[segment + i] = bins[segment + i] * ( 1 - 1 / DEPTH )
+                            + 1.0 / ( d * d + 1 );
+        }
+    }
+
+
+    /**
+     * Gets the statistics of a robot, from its profile the first time
+     *
+     * @param id robot (registry id)
+     * @return bins
+     */
+    private double[] statsFor( int id )
+    {
+        if ( id >= stats.length )
+        {
+            int size = Math.max( stats.length * 2, id + 1 );
+            double[][] grown = new double[size][];
+            System.arraycopy( stats, 0, grown, 0, stats.length );
+            stats = grown;
+            int[] grownDirections = new int[size];
+            System.arraycopy( directions, 0, grownDirections, 0,
+                            directions.length );
+            directions = grownDirections;
+        }
+        if ( stats[id] == null )
+        {
+            MovementHistory hist = state.profile( id );
+            synchronized ( hist )
+            {
+                if ( hist.guessFactors == null )
+                {
+                    hist.guessFactors = new double[SIZE];
+                }
+                stats[id] = hist.guessFactors;
+            }
+            directions[id] = 1;
+        }
+        return stats[id];
+    }
+
+
+    /**
+     * Works out which segment a robot's latest scan falls in
+     *
+     * @param id robot (registry id)
+     * @return first bin of the segment
+     */
+    private int segment( int id )
+    {
+        EnemyRegistry enemies = state.enemies;
+        double ex = enemies.getX( id, 0 );
+        double ey = enemies.getY( id, 0 );
+        double velocity = enemies.getVelocity( id, 0 );
+        double bearing = Math.atan2( ex - robot.getX(), ey - robot.getY() );
+
+        int distance = Math.min( DISTANCES - 1, (int)( Math.hypot(
+                        ex - robot.getX(), ey - robot.getY() ) / 150 ) );
+
+        double lateralSpeed = Math.abs( velocity * Math.sin(
+                        enemies.getHeadingRadians( id, 0 ) - bearing ) );
+        int lateral = lateralSpeed < 1 ? 0 :
+                        lateralSpeed < 3 ? 1 :
+                        lateralSpeed < 5 ? 2 :
+                        lateralSpeed < 7 ? 3 : 4;
+
+        int acceleration = 1;
+        if ( enemies.getScans( id ) > 1 )
+        {
+            double change = Math.abs( velocity )
+                            - Math.abs( enemies.getVelocity( id, 1 ) );
+            acceleration = change < 0 ? 0 : change > 0 ? 2 : 1;
+        }
+
+        double wallDistance = Math.min(
+                        Math.min( ex, robot.getBattleFieldWidth() - ex ),
+                        Math.min( ey, robot.getBattleFieldHeight() - ey ) );
+        int wall = wallDistance < 60 ? 0 : wallDistance < 150 ? 1 : 2;
+
+        return ( ( ( distance * LATERALS + lateral ) * ACCELERATIONS
+                        + acceleration ) * WALLS + wall ) * BINS;
+    }
+}
@@ -0,0 +1,235 @@
+package pt;
+
+/**
+ * Robot gun
+ *
+ * @author Pranav Prakash
+ * @author Period: 7
+ * @author Assignment: Robo05PartsBot
+ * @author Sources: PartsBot
+ * @version May 14, 2015
+ */
+public class Gun implements RobotPart, Aim
+{
+    /**
+     * How the enemy's future position is predicted
+     */
+    public enum Prediction
+    {
+        ///Where it is now
+        HEAD_ON,
+
+        ///Straight on at its current velocity
+        LINEAR,
+
+        ///Around the circle of its current turn rate
+        CIRCULAR,
+
+        ///Tick by tick under Robocode's movement rules, stopping at walls
+        PRECISE,
+
+        ///Linear while we oscillate or it moves straight, else circular
+        BY_MOVEMENT
+    }
+
+    ///Longest bullet flight predicted precisely
+    private static final int MAX_FLIGHT = 150;
+
+    ///Robot this part drives
+    private final RobotControl robot;
+
+    ///Knowledge shared with the other parts
+    private final CarverState state;
+
+    ///How the enemy's future position is predicted
+    private final Prediction prediction;
+
+    ///Solves circular predictions
+    private final CircularIntercept intercept = new CircularIntercept();
+
+    ///Bullet power handed to the solver
+    private final double[] powers = new double[1];
+
+    ///Moves the enemy on for precise predictions
+    private final EnemyPredictor predictor = new EnemyPredictor();
+
+    /**
+     * Constructor for Gun
+     *
+     * @param robot robot to drive
+     * @param state knowledge shared with the other parts
+     */
+    public Gun( RobotControl robot, CarverState state )
+    {
+        this( robot, state, Prediction.BY_MOVEMENT );
+    }
+
+
+    /**
+     * Constructor for Gun
+     *
+     * @param robot      robot to drive
+     * @param state      knowledge shared with the other parts
+     * @param prediction how the enemy's future position is predicted
+     */
+    public Gun( RobotControl robot, CarverState state, Prediction prediction )
+    {
+        this.robot = robot;
+        this.state = state;
+        this.prediction = prediction;
+    }
+
+
+    /**
+     * Initialize
+     */
+    public void init()
+    {
+        // divorce gun movement from tank movement
+        robot.setAdjustGunForRobotTurn( true );
+    }
+
+
+    /**
+     * Handle gun movement and shooting
+     * <p/>
+     * Source: IBM Robocode Secrets
+     * ibm.com/developerworks/library/j-circular/
+     */
+    public void move()
+    {
+        double firePower = firePower( robot, state );
+        double aim = aim( firePower );
+
+        // don't shoot if I've got no enemy
+        if ( !Double.isNaN( aim ) )
+        {
+            turnAndFire( robot, state, aim, firePower );
+        }
+    }
+
+
+    /**
+     * Nothing to learn: the prediction only uses the latest scan
+     *
+     * @param power bullet power we would fire this turn
+     */
+    public void update( double power )
+    {
+    }
+
+
+    /**
+     * Predicts where the enemy will be when a bullet reaches it
+     *
+     * @param firePower bullet power
+     * @return absolute bearing to fire at (radians), NaN if no enemy
+     */
+    public double aim( double firePower )
+    {
+        // don't shoot if I've got no enemy
+        if ( state.enemy.none() )
+        {
+            return Double.NaN;
+        }
+
+        // calculate speed of bullet
+        double bulletSpeed = 20 - firePower * 3;
+
+        // distance = rate * time, solved for time
+        long time = (long)( state.enemy.getDistance() / bulletSpeed );
+
+        double futureX;
+        double futureY;
+        if ( prediction == Prediction.HEAD_ON )
+        {
+            futureX = state.enemy.getX();
+            futureY = state.enemy.getY();
+        }
+        else if ( prediction == Prediction.PRECISE )
+        {
+            predictor.setField( robot.getBattleFieldWidth(),
+                            robot.getBattleFieldHeight() );
+            predictor.setEnemy( state.enemy.getFilter() );
+            predictor.stepUntilReached( robot.getX(), robot.getY(),
+                            bulletSpeed, MAX_FLIGHT );
+            futureX = predictor.getX();
+            futureY = predictor.getY();
+        }
+        //Use linear prediction if we are oscillating
+        // or enemy movement is locally linear
+        else if ( prediction == Prediction.LINEAR
+                        || prediction == Prediction.BY_MOVEMENT
+                        && ( state.enemy.isLinear() || state.isMovementOne ) )
+        {
+            // calculate gun turn to predicted x,y location
+            futureX = state.enemy.getFutureXLinear( time );
+            futureY = state.enemy.getFutureYLinear( time );
+        }
+        else //If we are using stop go then circular is almost always better
+        {
+            intercept.setShooter( robot.getX(), robot.getY() );
+            intercept.setField( robot.getBattleFieldWidth(),
+                            robot.getBattleFieldHeight() );
+            EnemyFilter estimate = state.enemy.getFilter();
+            intercept.setTarget( estimate.getX(),
+                            estimate.getY(),
+                            estimate.getHeading(),
+                            estimate.getVelocity(),
+                            estimate.getTurnRate() );
+
+            //Refine until the intercept tick settles
+            // (fewer times when we are short on CPU time)
+            powers[0] = firePower;
+            intercept.solve( powers, 1, state.budget.scale( 10, 2 ) );
+            return intercept.getBearing( 0 );
+        }
+
+        //Find the absolute heading of future enemy
+        return Math.toRadians( Angles.absoluteBearing( robot.getX(),
+                        robot.getY(),
+                        futureX,
+                        futureY ) );
+    }
+
+
+    /**
+     * Fire-power with the best expected energy swing, from how often our
+     * bullets have hit the enemy at this distance
+     *
+     * @param robot robot firing
+     * @param state knowledge shared by the parts
+     * @return bullet power
+     */
+    static double firePower( RobotView robot, CarverState state )
+    {
+        return state.firePower.choose( robot );
+    }
+
+
+    /**
+     * Turns the gun toward a bearing, and fires once it is cool and close
+     * enough
+     *
+     * @param robot robot firing
+     * @param state knowledge shared by the parts (the shot is remembered)
+     * @param aim   absolute bearing (radians)
+     * @param power bullet power
+     */
+    static void turnAndFire( RobotControl robot, CarverState state,
+                    double aim, double power )
+    {
+        // turn the gun to the predicted angle
+        robot.setTurnGunRight( Angles.normalizeBearing(
+                        Math.toDegrees( aim ) - robot.getGunHeading() ) );
+
+        // if the gun is cool and we're pointed in the right direction,
+        // shoot!
+        if ( robot.getGunHeat() == 0
+                        && Math.abs( robot.getGunTurnRemaining() ) < 10 )
+        {
+            robot.setFire( power );
+            state.firePower.fired( robot, power );
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package pt;
+
+/**
+ * Bounded KD-tree of situations, for nearest neighbour searches
+ * <p/>
+ * Points live in flat primitive arrays: coordinates at node * dims, with
+ * the value, children and splitting dimension of each node in parallel
+ * arrays. The tree is cut into buckets, each a KD-tree of its own over a
+ * block of bucketSize nodes. New points go into the current bucket; when it
+ * is full, the oldest bucket is emptied and takes the next points, so the
+ * oldest points are the first dropped and memory never grows past what the
+ * constructor allocates.
+ * <p/>
+ * A search visits the newest bucket first, skips branches that cannot hold
+ * anything nearer than the k found so far, and stops after a given number of
+ * nodes, so callers can hold it to their share of the turn. Results stay in
+ * the tree until the next search; nothing is allocated after construction.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - RoboWiki Dynamic Clustering
+ *         http://robowiki.net/wiki/Dynamic_Clustering
+ * @version 10/18/26
+ */
+public class KdTree
+{
+    ///Marks a missing child
+    private static final int NONE = -1;
+
+    ///Coordinates per point
+    private final int dims;
+
+    ///Points per bucket
+    private final int bucketSize;
+
+    ///Number of buckets
+    private final int buckets;
+
+    ///Coordinates, dims per node
+    private final double[] coords;
+
+    ///Value stored with each point
+    private final double[] values;
+
+    ///Children of each node (node indexes, NONE if missing)
+    private final int[] left, right;
+
+    ///Dimension each node splits on
+    private final byte[] split;
+
+    ///Points in each bucket
+    private final int[] counts;
+
+    ///Bucket taking new points
+    private int current = 0;
+
+    ///Points held
+    private int size = 0;
+
+    ///Nodes waiting to be searched
+    private final int[] stack;
+
+    ///Least squared distance anything under each waiting node can be
+    private final double[] stackBound;
+
+    ///Squared distances of the neighbours found (a max-heap)
+    private final double[] heapDistance;
+
+    ///Nodes of the neighbours found
+    private final int[] heapNode;
+
+    ///Neighbours found
+    private int found = 0;
+
+    ///Nodes visited by the last search
+    private int visited = 0;
+
+
+    /**
+     * Constructor for KdTree
+     *
+     * @param dims       coordinates per point
+     * @param bucketSize points per bucket
+     * @param buckets    number of buckets (points held at most is
+     *                   bucketSize * buckets)
+     * @param maxK       most neighbours a search may ask for
+     */
+    public KdTree( int dims, int bucketSize, int buckets, int maxK )
+    {
+        this.dims = dims;
+        this.bucketSize = bucketSize;
+        this.buckets = buckets;
+        int capacity = bucketSize * buckets;
+        coords = new double[capacity * dims];
+        values = new double[capacity];
+        left = new int[capacity];
+        right = new int[capacity];
+        split = new byte[capacity];
+        counts = new int[buckets];
+        stack = new int[bucketSize + 1];
+        stackBound = new double[bucketSize + 1];
+        heapDistance = new double[maxK];
+        heapNode = new int[maxK];
+    }
+
+
+    /**
+     * Adds a point, dropping the oldest bucket if there is no room
+     *
+     * @param point coordinates (dims of them)
+     * @param value value to keep with it
+     */
+    public void add( double[] point, double value )
+    {
+        if ( counts[current] == bucketSize )
+        {
+            current = ( current + 1 ) % buckets;
+            size -= counts[current];
+            counts[current] = 0;
+        }
+
+        int root = current * bucketSize;
+        int node = root + counts[current];
+        System.arraycopy( point, 0, coords, node * dims, dims );
+        values[node] = value;
+        left[node] = NONE;
+        right[node] = NONE;
+        split[node] = 0;
+
+        if ( node != root )
+        {
+            int n = root;
+            while ( true )
+            {
+                int d = split[n];
+                if ( point[d] < coords[n * dims + d] )
+                {
+                    if ( left[n] == NONE )
+                    {
+                        left[n] = node;
+                        break;
+                    }
+                    n = left[n];
+                }
+                else
+                {
+                    if ( right[n] == NONE )
+                    {
+                        right[n] = node;
+                        break;
+                    }
+                    n = right[n];
+                }
+            }
+            split[node] = (byte)( ( split[n] + 1 ) % dims );
+        }
+
+        counts[current]++;
+        size++;
+    }
+
+
+    /**
+     * @return points held
+     */
+    public int size()
+    {
+        return size;
+    }
+
+
+    /**
+     * @return most points held before the oldest are dropped
+     */
+    public int capacity()
+    {
+        return bucketSize * buckets;
+    }
+
+
+    /**
+     * Finds the points nearest a query (squared Euclidean distance)
+     *
+     * @param query     coordinates (dims of them)
+     * @param k         neighbours wanted (at most maxK)
+     * @param maxVisits nodes to look at before settling for what was found
+     * @return neighbours found (k unless the tree holds fewer)
+     */
+    public int search( double[] query, int k, int maxVisits )
+    {
+        found = 0;
+        visited = 0;
+        k = Math.min( k, heapNode.length );
+        if ( k <= 0 )
+        {
+            return 0;
+        }
+
+        //Newest bucket first, so an early stop keeps the freshest data
+        for ( int b = 0; b < buckets && visited < maxVisits; b++ )
+        {
+            int bucket = ( current - b + buckets ) % buckets;
+            if ( counts[bucket] > 0 )
+            {
+                searchBucket( bucket * bucketSize, query, k, maxVisits );
+            }
+        }
+        return found;
+    }
+
+
+    /**
+     * Searches one bucket, adding to the neighbours found so far
+     *
+     * @param root      root node of the bucket
+     * @param query     coordinates
+     * @param k         neighbours wanted
+     * @param maxVisits nodes to look at in the whole search
+     */
+    private void searchBucket( int root, double[] query, int k,
+                    int maxVisits )
+    {
+        int top = 0;
+        stack[top] = root;
+        stackBound[top++] = 0;
+
+        while ( top > 0 && visited < maxVisits )
+        {
+            int node = stack[--top];
+            double bound = stackBound[top];
+            if ( found == k && bound >= heapDistance[0] )
+            {
+                //Nothing under here can be nearer
+                continue;
+            }
+            visited++;
+
+            int base = node * dims;
+            double distance = 0;
+            for ( int d = 0; d < dims; d++ )
+            {
+                double diff = query[d] - coords[base + d];
+                distance += diff * diff;
+            }
+            offer( node, distance, k );
+
+            int d = split[node];
+            double diff = query[d] - coords[base + d];
+            int near = diff < 0 ? left[node] : right[node];
+            int far = diff < 0 ? right[node] : left[node];
+
+            //Far side first, so the near side comes off the stack next
+            if ( far != NONE && ( found < k
+                            || diff * diff < heapDistance[0] ) )
+            {
+                stack[top] = far;
+                stackBound[top++] = Math.max( bound, diff * diff );
+            }
+            if ( near != NONE )
+            {
+                stack[top] = near;
+                stackBound[top++] = bound;
+            }
+        }
+    }
+
+
+    /**
+     * Keeps a node if it is among the k nearest so far
+     *
+     * @param node     node
+     * @param distance squared distance to the query
+     * @param k        neighbours wanted
+     */
+    private void offer( int node, double distance, int k )
+    {
+        int i;
+        if ( found < k )
+        {
+            //Sift up from the end
+            i = found++;
+            while ( i > 0 && heapDistance[( i - 1 ) / 2] < distance )
+            {
+                int parent = ( i - 1 ) / 2;
+                heapDistance[i] = heapDistance[parent];
+                heapNode[i] = heapNode[parent];
+                i = parent;
+            }
+        }
+        else if ( distance < heapDistance[0] )
+        {
+            //Replace the farthest and sift down
+            i = 0;
+            while ( true )
+            {
+                int child = i * 2 + 1;
+                if ( child >= found )
+                {
+                    break;
+                }
+                if ( child + 1 < found && heapDistance[child + 1]
+                                > heapDistance[child] )
+                {
+                    child++;
+                }
+                if ( heapDistance[child] <= distance )
+                {
+                    break;
+                }
+                heapDistance[i] = heapDistance[child];
+                heapNode[i] = heapNode[child];
+                i = child;
+            }
+        }
+        else
+        {
+            return;
+        }
+        heapDistance[i] = distance;
+        heapNode[i] = node;
+    }
+
+
+    /**
+     * @return neighbours found by the last search
+     */
+    public int getFound()
+    {
+        return found;
+    }
+
+
+    /**
+     * @return nodes visited by the last search
+     */
+    public int getVisited()
+    {
+        return visited;
+    }
+
+
+    /**
+     * @param i neighbour (in no particular order), below getFound
+     * @return value stored with it
+     */
+    public double getValue( int i )
+    {
+        return values[heapNode[i]];
+    }
+
+
+    /**
+     * @param i neighbour (in no particular order), below getFound
+     * @return squared distance to the query
+     */
+    public double getDistance( int i )
+    {
+        return heapDistance[i];
+    }
+
+
+    /**
+     * Estimates the memory the tree holds (its arrays, without headers)
+     *
+     * @return bytes
+     */
+    public long estimateBytes()
+    {
+        return 8L * ( coords.length + values.length + stackBound.length
+                        + heapDistance.length ) + 4L * ( left.length
+                        + right.length + counts.length + stack.length
+                        + heapNode.length ) + split.length;
+    }
+}
@@ -0,0 +1,288 @@
+package pt;
+
+/**
+ * Robot that lives only in memory, for tests, benchmarks and simulation
+ * <p/>
+ * State is set directly and commands are simply remembered, so a part can
+ * be run on any recorded or made-up situation without the Robocode engine.
+ * Turns and distances still to do are the last ones commanded.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+public class MemoryRobot implements RobotControl
+{
+    ///Position
+    private double x, y;
+
+    ///Headings in degrees
+    private double heading, gunHeading, radarHeading;
+
+    ///Gun heat, velocity and energy
+    private double gunHeat, velocity, energy = 100;
+
+    ///Battle field size
+    private double battleFieldWidth = 800, battleFieldHeight = 600;
+
+    ///Other robots alive
+    private int others = 1;
+
+    ///Battle time
+    private long time;
+
+    ///Last commands
+    private double ahead, turnRightRadians, turnGunRight, turnRadarRight,
+                    firePower;
+
+    ///Whether the gun and radar turn independently
+    private boolean adjustGunForRobotTurn, adjustRadarForGunTurn,
+                    adjustRadarForRobotTurn;
+
+
+    /**
+     * Sets the robot's state
+     *
+     * @param x            x position
+     * @param y            y position
+     * @param heading      body heading in degrees
+     * @param gunHeading   gun heading in degrees
+     * @param radarHeading radar heading in degrees
+     * @param gunHeat      gun heat
+     * @param velocity     velocity
+     * @param energy       energy
+     * @param time         battle time
+     */
+    public void setState( double x, double y, double heading,
+                    double gunHeading, double radarHeading, double gunHeat,
+                    double velocity, double energy, long time )
+    {
+        this.x = x;
+        this.y = y;
+        this.heading = heading;
+        this.gunHeading = gunHeading;
+        this.radarHeading = radarHeading;
+        this.gunHeat = gunHeat;
+        this.velocity = velocity;
+        this.energy = energy;
+        this.time = time;
+    }
+
+
+    /**
+     * Sets the battle field size
+     *
+     * @param width  width
+     * @param height height
+     */
+    public void setBattleField( double width, double height )
+    {
+        battleFieldWidth = width;
+        battleFieldHeight = height;
+    }
+
+
+    /**
+     * Sets the number of other robots alive
+     *
+     * @param others other robots
+     */
+    public void setOthers( int others )
+    {
+        this.others = others;
+    }
+
+
+    public double getX()
+    {
+        return x;
+    }
+
+
+    public double getY()
+    {
+        return y;
+    }
+
+
+    public double getHeading()
+    {
+        return heading;
+    }
+
+
+    public double getHeadingRadians()
+    {
+        return Math.toRadians( heading );
+    }
+
+
+    public double getGunHeading()
+    {
+        return gunHeading;
+    }
+
+
+    public double getRadarHeading()
+    {
+        return radarHeading;
+    }
+
+
+    public double getGunHeat()
+    {
+        return gunHeat;
+    }
+
+
+    public double getGunTurnRemaining()
+    {
+        return turnGunRight;
+    }
+
+
+    public double getTurnRemainingRadians()
+    {
+        return turnRightRadians;
+    }
+
+
+    public double getEnergy()
+    {
+        return energy;
+    }
+
+
+    public double getVelocity()
+    {
+        return velocity;
+    }
+
+
+    public double getBattleFieldWidth()
+    {
+        return battleFieldWidth;
+    }
+
+
+    public double getBattleFieldHeight()
+    {
+        return battleFieldHeight;
+    }
+
+
+    public int getOthers()
+    {
+        return others;
+    }
+
+
+    public long getTime()
+    {
+        return time;
+    }
+
+
+    public void setAhead( double distance )
+    {
+        ahead = distance;
+    }
+
+
+    public void setTurnRightRadians( double radians )
+    {
+        turnRightRadians = radians;
+    }
+
+
+    public void setTurnGunRight( double degrees )
+    {
+        turnGunRight = degrees;
+    }
+
+
+    public void setTurnRadarRight( double degrees )
+    {
+        turnRadarRight = degrees;
+    }
+
+
+    public void setFire( double power )
+    {
+        firePower = power;
+    }
+
+
+    public void setAdjustGunForRobotTurn( boolean independent )
+    {
+        adjustGunForRobotTurn = independent;
+    }
+
+
+    public void setAdjustRadarForGunTurn( boolean independent )
+    {
+        adjustRadarForGunTurn = independent;
+    }
+
+
+    public void setAdjustRadarForRobotTurn( boolean independent )
+    {
+        adjustRadarForRobotTurn = independent;
+    }
+
+
+    /**
+     * @return last distance commanded
+     */
+    public double getAhead()
+    {
+        return ahead;
+    }
+
+
+    /**
+     * @return last radar turn commanded in degrees
+     */
+    public double getRadarTurnRemaining()
+    {
+        return turnRadarRight;
+    }
+
+
+    /**
+     * @return last bullet power commanded
+     */
+    public double getFirePower()
+    {
+        return firePower;
+    }
+
+
+    /**
+     * @return whether the gun ignores body turns
+     */
+    public boolean isAdjustGunForRobotTurn()
+    {
+        return adjustGunForRobotTurn;
+    }
+
+
+    /**
+     * @return whether the radar ignores gun turns
+     */
+    public boolean isAdjustRadarForGunTurn()
+    {
+        return adjustRadarForGunTurn;
+    }
+
+
+    /**
+     * @return whether the radar ignores body turns
+     */
+    public boolean isAdjustRadarForRobotTurn()
+    {
+        return adjustRadarForRobotTurn;
+    }
+}
@@ -0,0 +1,311 @@
+package pt;
+
+import java.util.Random;
+
+
+/**
+ * Picks the least risky place to move to in a melee
+ * <p/>
+ * Each turn the enemies are loaded (position, energy) and CANDIDATES
+ * destinations are drawn around us, at random angles and no further than
+ * most of the way to the nearest enemy; a WallSmoother turns each angle
+ * until the whole move stays clear of the walls, so candidates near a wall
+ * spread along it instead of piling up against it. Every candidate is
+ * scored against every enemy: an enemy adds its weight over its squared
+ * distance to the candidate, so crowded places are risky, and more when
+ * the move would run straight toward or away from it (as a bullet aimed at
+ * us travels), since moving across its line of fire dodges best. An
+ * enemy's weight is its energy over ours (capped at MAX_ENERGY_RATIO),
+ * doubled when it is likely to be aiming at us: when we are the robot
+ * nearest to it, or it last hit us. Staying near where we just were adds
+ * risk too, so we keep moving.
+ * <p/>
+ * The current destination is scored as one of the candidates, so it is
+ * only dropped for a safer one. Enemies and candidates sit in primitive
+ * arrays scored in one pass with no square roots or trigonometry, so ten
+ * robots cost a few hundred multiplications a turn and nothing is
+ * allocated once the arrays have grown to the number of enemies.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - RoboWiki Minimum Risk Movement
+ *         http://robowiki.net/wiki/Minimum_Risk_Movement
+ * @version 10/18/26
+ */
+public class MinimumRisk
+{
+    ///Destinations scored each turn, including the current one
+    public static final int CANDIDATES = 32;
+
+    ///Closest a destination may be to a wall
+    private static final double WALL_MARGIN = 40;
+
+    ///Shortest and longest random move
+    private static final double MIN_MOVE = 100, MAX_MOVE = 250;
+
+    ///Share of the distance to the nearest enemy a move may cover
+    private static final double NEAREST_SHARE = 0.8;
+
+    ///Most an enemy's energy counts for, as a multiple of ours
+    private static final double MAX_ENERGY_RATIO = 2;
+
+    ///Weight of an enemy that is likely aiming at us, as a multiple
+    private static final double TARGETED = 2;
+
+    ///Risk of staying where we were, as if an enemy of this weight were there
+    private static final double LAST_WEIGHT = 0.5;
+
+    ///Battlefield size
+    private double width = Double.MAX_VALUE, height = Double.MAX_VALUE;
+
+    ///Turns candidate moves away from the walls
+    private final WallSmoother smoother = new WallSmoother( WALL_MARGIN,
+                    WALL_MARGIN, Double.MAX_VALUE, Double.MAX_VALUE );
+
+    ///Enemy positions
+    private double[] enemyX = new double[8], enemyY = new double[8];
+
+    ///Enemy energies (while loading), then weights
+    private double[] weight = new double[8];
+
+    ///Whether each enemy is likely aiming at us
+    private boolean[] targeted = new boolean[8];
+
+    ///Enemies loaded
+    private int enemyCount;
+
+    ///Candidate destinations
+    private final double[] candidateX = new double[CANDIDATES];
+
+    ///Candidate destinations
+    private final double[] candidateY = new double[CANDIDATES];
+
+    ///Risk of each candidate from the last choice
+    private final double[] risk = new double[CANDIDATES];
+
+    ///Destination chosen
+    private double goalX, goalY;
+
+    ///Whether there is a destination
+    private boolean hasGoal;
+
+
+    /**
+     * Sets the battlefield destinations stay inside
+     *
+     * @param width  battlefield width
+     * @param height battlefield height
+     */
+    public void setField( double width, double height )
+    {
+        this.width = width;
+        this.height = height;
+        smoother.setField( WALL_MARGIN, WALL_MARGIN, width - WALL_MARGIN,
+                        height - WALL_MARGIN );
+    }
+
+
+    /**
+     * Forgets the enemies of the last turn
+     */
+    public void clearEnemies()
+    {
+        enemyCount = 0;
+    }
+
+
+    /**
+     * Adds an enemy for this turn
+     *
+     * @param x        enemy x
+     * @param y        enemy y
+     * @param energy   enemy energy
+     * @param shooter  whether it is known to be shooting at us
+     */
+    public void addEnemy( double x, double y, double energy,
+                    boolean shooter )
+    {
+        if ( enemyCount == weight.length )
+        {
+            int size = enemyCount * 2;
+            enemyX = grow( enemyX, size );
+            enemyY = grow( enemyY, size );
+            weight = grow( weight, size );
+            boolean[] grown = new boolean[size];
+            System.arraycopy( targeted, 0, grown, 0, enemyCount );
+            targeted = grown;
+        }
+        enemyX[enemyCount] = x;
+        enemyY[enemyCount] = y;
+        weight[enemyCount] = energy;
+        targeted[enemyCount] = shooter;
+        enemyCount++;
+    }
+
+
+    /**
+     * Draws candidates around us and keeps the least risky as the
+     * destination
+     *
+     * @param x      our x
+     * @param y      our y
+     * @param energy our energy
+     * @param lastX  where we were a while ago
+     * @param lastY  where we were a while ago
+     * @param random random numbers for the candidates
+     */
+    public void choose( double x, double y, double energy, double lastX,
+                    double lastY, Random random )
+    {
+        if ( enemyCount == 0 )
+        {
+            return;
+        }
+
+        //Weigh each enemy, and find the nearest for the move length
+        double nearest = Double.MAX_VALUE;
+        for ( int i = 0; i < enemyCount; i++ )
+        {
+            double dx = enemyX[i] - x;
+            double dy = enemyY[i] - y;
+            double ours = dx * dx + dy * dy;
+            nearest = Math.min( nearest, ours );
+
+            //Aiming at us if no other robot is closer to it than we are
+            boolean closer = false;
+            for ( int j = 0; j < enemyCount && !closer; j++ )
+            {
+                double ox = enemyX[j] - enemyX[i];
+                double oy = enemyY[j] - enemyY[i];
+                closer = j != i && ox * ox + oy * oy < ours;
+            }
+            boolean aiming = targeted[i] || !closer;
+            weight[i] = Math.min( weight[i] / Math.max( energy, 0.1 ),
+                            MAX_ENERGY_RATIO ) * ( aiming ? TARGETED : 1 );
+        }
+        double reach = Math.min( Math.sqrt( nearest ) * NEAREST_SHARE,
+                        MAX_MOVE );
+
+        //The current destination competes with the new candidates
+        int first = 0;
+        if ( hasGoal )
+        {
+            candidateX[0] = goalX;
+            candidateY[0] = goalY;
+            first = 1;
+        }
+
+        //A move along a smoothed angle stays clear for any length up to
+        // reach (clamped anyway, in case we already stand too near a wall)
+        smoother.setOrigin( x, y, reach );
+        for ( int c = first; c < CANDIDATES; c++ )
+        {
+            double angle = smoother.smooth( random.nextDouble() * 2 * Math.PI,
+                            ( c & 1 ) == 0 ? 1 : -1 );
+            double length = Math.min( reach, MIN_MOVE + random.nextDouble()
+                            * ( MAX_MOVE - MIN_MOVE ) );
+            candidateX[c] = Math.max( WALL_MARGIN, Math.min( width
+                            - WALL_MARGIN, x + Math.sin( angle ) * length ) );
+            candidateY[c] = Math.max( WALL_MARGIN, Math.min( height
+                            - WALL_MARGIN, y + Math.cos( angle ) * length ) );
+        }
+
+        int best = 0;
+        for ( int c = 0; c < CANDIDATES; c++ )
+        {
+            double cx = candidateX[c];
+            double cy = candidateY[c];
+            double mx = cx - x;
+            double my = cy - y;
+            double move = mx * mx + my * my;
+
+            double lx = cx - lastX;
+            double ly = cy - lastY;
+            double total = LAST_WEIGHT / ( lx * lx + ly * ly + 1 );
+            for ( int i = 0; i < enemyCount; i++ )
+            {
+                double ex = enemyX[i] - cx;
+                double ey = enemyY[i] - cy;
+                double apart = ex * ex + ey * ey + 1;
+
+                //Squared cosine of the angle between the move and the
+                // line to the enemy (1 along it, 0 across it)
+                double dot = mx * ex + my * ey;
+                double along = dot * dot / ( move * apart + 1 );
+                total += weight[i] * ( 1 + along ) / apart;
+            }
+            risk[c] = total;
+            if ( total < risk[best] )
+            {
+                best = c;
+            }
+        }
+
+        goalX = candidateX[best];
+        goalY = candidateY[best];
+        hasGoal = true;
+    }
+
+
+    /**
+     * Forgets the destination
+     */
+    public void reset()
+    {
+        hasGoal = false;
+        enemyCount = 0;
+    }
+
+
+    /**
+     * @return whether a destination has been chosen
+     */
+    public boolean hasGoal()
+    {
+        return hasGoal;
+    }
+
+
+    /**
+     * @return destination x
+     */
+    public double getGoalX()
+    {
+        return goalX;
+    }
+
+
+    /**
+     * @return destination y
+     */
+    public double getGoalY()
+    {
+        return goalY;
+    }
+
+
+    /**
+     * @param c candidate index
+     * @return risk of the candidate at the last choice
+     */
+    public double getRisk( int c )
+    {
+        return risk[c];
+    }
+
+
+    /**
+     * Copies an array into a longer one
+     *
+     * @param array array to grow
+     * @param size  new length
+     * @return longer array
+     */
+    private static double[] grow( double[] array, int size )
+    {
+        double[] grown = new double[size];
+        System.arraycopy( array, 0, grown, 0, array.length );
+        return grown;
+    }
+}
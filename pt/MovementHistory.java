@@ -23,6 +23,70 @@ public class MovementHistory
     /// tells how effective movement 2 was
     double move2Effectiveness = 0;  // Movement 2 is stop go movement
 
+    /// tells how effective movement 3 was
+    double move3Effectiveness = 0;  // Movement 3 is wave surfing
+
     /// movement 1 win counter
     int winsWithMovement1 = 0;
+
+    /// guess factor bins by segment (created by GuessFactorGun)
+    double[] guessFactors;
+
+    /// situations and the guess factors they led to (created by
+    /// DynamicClusteringGun)
+    KdTree situations;
+
+    /// movement tick by tick, indexed for matching (created by
+    /// PatternMatchGun)
+    PatternIndex patterns;
+
+    /// virtual bullets fired and hits, by gun (created by VirtualGuns)
+    int[] virtualFired, virtualHits;
+
+    /// real shots fired and hits, and the sum of their escape angles, by
+    /// distance band (created by FirePower)
+    int[] shotsFired, shotsHit;
+    double[] shotEscapes;
+
+    /// where enemy bullets hit us, by guess factor (created by WaveSurfer)
+    double[] surfStats;
+
+
+    /**
+     * Estimates the memory this profile holds, reading its fields without
+     * locking (a part creating one meanwhile is counted next time)
+     *
+     * @return bytes in its arrays, trees and indexes
+     */
+    long estimateBytes()
+    {
+        KdTree tree = situations;
+        PatternIndex index = patterns;
+        return 8L * ( length( guessFactors ) + length( shotEscapes )
+                        + length( surfStats ) ) + 4L * ( length( virtualFired )
+                        + length( virtualHits ) + length( shotsFired )
+                        + length( shotsHit ) )
+                        + ( tree == null ? 0 : tree.estimateBytes() )
+                        + ( index == null ? 0 : index.estimateBytes() );
+    }
+
+
+    /**
+     * @param array array (may be null)
+     * @return its length, 0 if null
+     */
+    private static int length( double[] array )
+    {
+        return array == null ? 0 : array.length;
+    }
+
+
+    /**
+     * @param array array (may be null)
+     * @return its length, 0 if null
+     */
+    private static int length( int[] array )
+    {
+        return array == null ? 0 : array.length;
+    }
 }
@@ -0,0 +1,436 @@
+package pt;
+
+import robocode.Rules;
+
+
+/**
+ * Moves our own robot forward tick by tick under the commands it is given
+ * <p/>
+ * Works the way Robocode 1.9 carries out setAhead, setTurnRightRadians and
+ * setMaxVelocity: each tick the robot turns by what is left of its turn,
+ * at most 10 - 0.75 |v| degrees, then picks the velocity that covers the
+ * distance left as fast as it can while still able to stop on the spot
+ * (speeding up by 1 and slowing down by 2, and when slowing through zero
+ * spending the rest of the tick speeding up the other way), and moves
+ * along its new heading. Driving past the end of a move that was changed
+ * to a shorter one is cut off once the robot stops, as Robocode does. A
+ * robot that would leave the battlefield stops against the wall with
+ * velocity 0 and no distance left.
+ * <p/>
+ * A plan of commands can be queued by tick (the ahead and turn issued at
+ * the start of that tick, either left out with NaN), so a movement can try
+ * out several candidate paths from the same start and compare where each
+ * ends up. All state is primitive fields and arrays that only grow with
+ * the plan, so predicting hundreds of ticks allocates nothing. As in
+ * EnemyPredictor, the heading's sine and cosine are rotated by the turn
+ * rather than worked out again while the turn stays the same.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - RoboWiki Robocode/Game Physics
+ *         http://robowiki.net/wiki/Robocode/Game_Physics
+ * @version 10/18/26
+ */
+public class OwnPredictor
+{
+    ///Distance from a robot's center to the edge of its body
+    private static final double HALF_ROBOT = 18;
+
+    ///Velocities closer to zero than this count as stopped (as in Robocode)
+    private static final double NEAR_ZERO = 1e-5;
+
+    ///Distance left from which a robot can still go full speed and stop
+    /// in time (8 this tick, then 6 + 4 + 2 braking)
+    private static final double FULL_SPEED_DISTANCE = 20;
+
+    ///Battlefield size
+    private double width = Double.MAX_VALUE, height = Double.MAX_VALUE;
+
+    ///Predicted position
+    private double x, y;
+
+    ///Predicted heading (radians) and velocity
+    private double heading, velocity;
+
+    ///Sine and cosine of the heading
+    private double sinHeading, cosHeading;
+
+    ///Last turn made, with its sine and cosine
+    private double lastTurn, sinTurn, cosTurn;
+
+    ///Distance and turn (radians) still to go
+    private double distanceRemaining, turnRemaining;
+
+    ///Fastest the robot may go
+    private double maxVelocity = Rules.MAX_VELOCITY;
+
+    ///Whether the robot is going too fast to stop where its move ends
+    private boolean overDriving;
+
+    ///Ticks predicted since the start
+    private int ticks;
+
+    ///Whether the robot has run into a wall
+    private boolean hitWall;
+
+    ///Tick of each planned command, in order
+    private int[] planTick = new int[16];
+
+    ///Distance each planned command drives (NaN to leave it)
+    private double[] planAhead = new double[16];
+
+    ///Turn each planned command makes (radians, NaN to leave it)
+    private double[] planTurn = new double[16];
+
+    ///Commands planned
+    private int planCount;
+
+    ///Next planned command to issue
+    private int planNext;
+
+
+    /**
+     * Sets the battlefield the robot stays inside
+     *
+     * @param width  battlefield width
+     * @param height battlefield height
+     */
+    public void setField( double width, double height )
+    {
+        this.width = width;
+        this.height = height;
+    }
+
+
+    /**
+     * Starts from the robot's state, with nothing left to drive or turn
+     *
+     * @param x        x
+     * @param y        y
+     * @param heading  heading (radians)
+     * @param velocity velocity
+     */
+    public void setStart( double x, double y, double heading,
+                    double velocity )
+    {
+        this.x = x;
+        this.y = y;
+        this.heading = heading;
+        this.velocity = velocity;
+        sinHeading = Math.sin( heading );
+        cosHeading = Math.cos( heading );
+        lastTurn = 0;
+        sinTurn = 0;
+        cosTurn = 1;
+        distanceRemaining = 0;
+        turnRemaining = 0;
+        maxVelocity = Rules.MAX_VELOCITY;
+        overDriving = false;
+        ticks = 0;
+        hitWall = false;
+        planNext = 0;
+    }
+
+
+    /**
+     * Sets the distance to drive, as setAhead does (negative drives back)
+     *
+     * @param distance distance
+     */
+    public void setAhead( double distance )
+    {
+        distanceRemaining = distance;
+    }
+
+
+    /**
+     * Sets the turn to make, as setTurnRightRadians does
+     *
+     * @param turn turn (radians, negative turns left)
+     */
+    public void setTurnRightRadians( double turn )
+    {
+        turnRemaining = turn;
+    }
+
+
+    /**
+     * Caps the speed, as setMaxVelocity does
+     *
+     * @param max fastest speed (held between 0 and 8)
+     */
+    public void setMaxVelocity( double max )
+    {
+        maxVelocity = Math.max( 0, Math.min( Rules.MAX_VELOCITY, max ) );
+    }
+
+
+    /**
+     * Forgets the planned commands
+     */
+    public void clearPlan()
+    {
+        planCount = 0;
+        planNext = 0;
+    }
+
+
+    /**
+     * Plans commands to issue at the start of a tick (ticks counted from
+     * the start, planned in order)
+     *
+     * @param tick  tick to issue them at (0 for the first step)
+     * @param ahead distance to drive (NaN to leave the distance)
+     * @param turn  turn to make (radians, NaN to leave the turn)
+     */
+    public void plan( int tick, double ahead, double turn )
+    {
+        if ( planCount == planTick.length )
+        {
+            int size = planCount * 2;
+            int[] grownTick = new int[size];
+            System.arraycopy( planTick, 0, grownTick, 0, planCount );
+            planTick = grownTick;
+            double[] grownAhead = new double[size];
+            System.arraycopy( planAhead, 0, grownAhead, 0, planCount );
+            planAhead = grownAhead;
+            double[] grownTurn = new double[size];
+            System.arraycopy( planTurn, 0, grownTurn, 0, planCount );
+            planTurn = grownTurn;
+        }
+        planTick[planCount] = tick;
+        planAhead[planCount] = ahead;
+        planTurn[planCount] = turn;
+        planCount++;
+    }
+
+
+    /**
+     * Moves on some ticks, issuing the planned commands as their ticks come
+     *
+     * @param count ticks to predict
+     */
+    public void run( int count )
+    {
+        for ( int i = 0; i < count; i++ )
+        {
+            while ( planNext < planCount && planTick[planNext] <= ticks )
+            {
+                if ( !Double.isNaN( planAhead[planNext] ) )
+                {
+                    distanceRemaining = planAhead[planNext];
+                }
+                if ( !Double.isNaN( planTurn[planNext] ) )
+                {
+                    turnRemaining = planTurn[planNext];
+                }
+                planNext++;
+            }
+            step();
+        }
+    }
+
+
+    /**
+     * Moves the robot on one tick
+     */
+    public void step()
+    {
+        //Turn first, as fast as the velocity before moving allows
+        double maxTurn = Rules.getTurnRateRadians( velocity );
+        double turn = Math.max( -maxTurn, Math.min( maxTurn,
+                        turnRemaining ) );
+        if ( turn != 0 )
+        {
+            if ( turn != lastTurn )
+            {
+                lastTurn = turn;
+                sinTurn = Math.sin( turn );
+                cosTurn = Math.cos( turn );
+            }
+            //Rotate by the turn instead of taking new sines
+            double sin = sinHeading * cosTurn + cosHeading * sinTurn;
+            cosHeading = cosHeading * cosTurn - sinHeading * sinTurn;
+            sinHeading = sin;
+            heading += turn;
+            turnRemaining -= turn;
+        }
+
+        //Then speed up or slow down for the distance left, and move
+        double distance = distanceRemaining;
+        velocity = nextVelocity( velocity, distance, maxVelocity );
+        if ( overDriving && Math.abs( velocity ) < NEAR_ZERO )
+        {
+            distance = 0;
+            overDriving = false;
+        }
+        if ( distance * velocity >= 0 )
+        {
+            overDriving = stoppingDistance( velocity ) > Math.abs( distance );
+        }
+        distanceRemaining = distance - velocity;
+
+        double nextX = x + sinHeading * velocity;
+        double nextY = y + cosHeading * velocity;
+        if ( nextX < HALF_ROBOT || nextX > width - HALF_ROBOT
+                        || nextY < HALF_ROBOT || nextY > height - HALF_ROBOT )
+        {
+            nextX = Math.max( HALF_ROBOT, Math.min( width - HALF_ROBOT,
+                            nextX ) );
+            nextY = Math.max( HALF_ROBOT, Math.min( height - HALF_ROBOT,
+                            nextY ) );
+            velocity = 0;
+            distanceRemaining = 0;
+            hitWall = true;
+        }
+        x = nextX;
+        y = nextY;
+        ticks++;
+    }
+
+
+    /**
+     * Velocity after one tick of driving toward the end of a move, as
+     * Robocode 1.9 works it out
+     *
+     * @param velocity current velocity
+     * @param distance distance left to drive
+     * @param max      fastest speed allowed
+     * @return next velocity
+     */
+    static double nextVelocity( double velocity, double distance,
+                    double max )
+    {
+        if ( distance < 0 )
+        {
+            return -nextVelocity( -velocity, -distance, max );
+        }
+
+        double goal = Math.min( fastestToStop( distance ), max );
+        if ( velocity >= 0 )
+        {
+            return Math.max( velocity - Rules.DECELERATION,
+                            Math.min( goal, velocity + Rules.ACCELERATION ) );
+        }
+
+        //Going backwards: slow down, then speed up for the rest of the tick
+        double stopping = -velocity / Rules.DECELERATION;
+        double change = Math.min( 1, stopping ) * Rules.DECELERATION
+                        + Math.max( 0, 1 - stopping ) * Rules.ACCELERATION;
+        return Math.max( velocity - Rules.ACCELERATION,
+                        Math.min( goal, velocity + change ) );
+    }
+
+
+    /**
+     * Fastest speed from which a robot can still stop within a distance
+     *
+     * @param distance distance left
+     * @return speed
+     */
+    private static double fastestToStop( double distance )
+    {
+        if ( distance >= FULL_SPEED_DISTANCE )
+        {
+            return Rules.MAX_VELOCITY;
+        }
+        double ticks = Math.max( 1, Math.ceil( ( Math.sqrt( 4
+                        * ( 2 / Rules.DECELERATION ) * distance + 1 ) - 1 )
+                        / 2 ) );
+        double braking = ticks / 2 * ( ticks - 1 ) * Rules.DECELERATION;
+        return ( ticks - 1 ) * Rules.DECELERATION + ( distance - braking )
+                        / ticks;
+    }
+
+
+    /**
+     * Distance a robot covers while braking to a stop
+     *
+     * @param velocity velocity
+     * @return distance
+     */
+    private static double stoppingDistance( double velocity )
+    {
+        double speed = Math.abs( velocity );
+        double distance = 0;
+        while ( speed > 0 )
+        {
+            speed = Math.max( 0, speed - Rules.DECELERATION );
+            distance += speed;
+        }
+        return distance;
+    }
+
+
+    /**
+     * @return predicted x
+     */
+    public double getX()
+    {
+        return x;
+    }
+
+
+    /**
+     * @return predicted y
+     */
+    public double getY()
+    {
+        return y;
+    }
+
+
+    /**
+     * @return predicted heading (radians, not normalized)
+     */
+    public double getHeading()
+    {
+        return heading;
+    }
+
+
+    /**
+     * @return predicted velocity
+     */
+    public double getVelocity()
+    {
+        return velocity;
+    }
+
+
+    /**
+     * @return distance still to drive
+     */
+    public double getDistanceRemaining()
+    {
+        return distanceRemaining;
+    }
+
+
+    /**
+     * @return turn still to make (radians)
+     */
+    public double getTurnRemaining()
+    {
+        return turnRemaining;
+    }
+
+
+    /**
+     * @return ticks predicted since the start
+     */
+    public int getTicks()
+    {
+        return ticks;
+    }
+
+
+    /**
+     * @return whether the robot has run into a wall
+     */
+    public boolean hasHitWall()
+    {
+        return hitWall;
+    }
+}
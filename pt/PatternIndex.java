@@ -0,0 +1,555 @@
+package pt;
+
+/**
+ * An enemy's movement, tick by tick, indexed for pattern matching
+ * <p/>
+ * Each tick's velocity and heading change become one symbol (velocity
+ * rounded to a whole speed, heading change to a whole degree), and every
+ * symbol is fed to a suffix automaton as it comes. After each tick the
+ * automaton knows the longest run of ticks ending now that also happened
+ * before, and where that earlier run ended, in amortized constant time, so
+ * finding the match no longer means scanning the whole history.
+ * <p/>
+ * The last CAPACITY ticks are kept in ring buffers. Two automata share
+ * them: the older answers matches, while the younger (started CAPACITY / 2
+ * ticks later) is fed the same ticks. When the older one spans CAPACITY
+ * ticks it is emptied and becomes the younger, so no tick pays for a
+ * rebuild. The buffers and automata start at INITIAL ticks and double as
+ * the ticks come in, so an enemy seen briefly costs little; once CAPACITY
+ * ticks have been added nothing more is allocated.
+ * <p/>
+ * The root state can be left by any symbol, so its transitions are a table
+ * indexed by symbol; every other state keeps a short list.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - RoboWiki Pattern Matching, Suffix automaton
+ *         http://robowiki.net/wiki/Pattern_Matching
+ *         https://cp-algorithms.com/string/suffix-automaton.html
+ * @version 10/18/26
+ */
+public class PatternIndex
+{
+    ///Ticks kept (a power of two)
+    public static final int CAPACITY = 16384;
+
+    ///Ticks room is made for at first (a power of two)
+    private static final int INITIAL = 512;
+
+    ///Heading changes told apart (-10 to 10 degrees)
+    private static final int TURNS = 21;
+
+    ///Symbol for a break in the data (new round, long gap)
+    private static final int BREAK = 17 * TURNS;
+
+    ///Number of symbols
+    private static final int SYMBOLS = BREAK + 1;
+
+    ///Velocity of each tick
+    private double[] velocity = new double[INITIAL];
+
+    ///Heading change of each tick (radians)
+    private double[] headingChange = new double[INITIAL];
+
+    ///Symbol of each tick
+    private int[] symbol = new int[INITIAL];
+
+    ///Mask turning a tick into a ring slot
+    private int mask = INITIAL - 1;
+
+    ///Ticks added so far (the next tick's position)
+    private int size = 0;
+
+    ///Automaton answering matches
+    private Automaton older = new Automaton( INITIAL );
+
+    ///Automaton started later, taking over when the older is full
+    private Automaton younger = new Automaton( INITIAL );
+
+    ///Length of the match after the last tick
+    private int matchLength = 0;
+
+    ///Position where the earlier run of the match ended
+    private int matchEnd = -1;
+
+
+    /**
+     * Adds a tick
+     *
+     * @param velocity      velocity that tick
+     * @param headingChange heading change that tick (radians)
+     */
+    public void add( double velocity, double headingChange )
+    {
+        int v = (int)Math.round( Math.max( -8, Math.min( 8, velocity ) ) );
+        int turn = (int)Math.round( Math.max( -10, Math.min( 10,
+                        Math.toDegrees( headingChange ) ) ) );
+        append( ( v + 8 ) * TURNS + turn + 10, velocity, headingChange );
+    }
+
+
+    /**
+     * Adds a break, which no match should run across (a new round, or a
+     * gap too long to fill in)
+     */
+    public void addBreak()
+    {
+        append( BREAK, 0, 0 );
+    }
+
+
+    /**
+     * Stores a tick and feeds it to both automata
+     *
+     * @param s             symbol
+     * @param velocity      velocity
+     * @param headingChange heading change
+     */
+    private void append( int s, double velocity, double headingChange )
+    {
+        if ( size - older.start == CAPACITY )
+        {
+            //The older automaton would reach past the ring: retire it
+            Automaton retired = older;
+            older = younger;
+            younger = retired;
+            younger.clear( size );
+        }
+        else if ( size - older.start == CAPACITY / 2
+                        && younger.start <= older.start )
+        {
+            younger.clear( size );
+        }
+        if ( size == symbol.length && size < CAPACITY )
+        {
+            grow( size * 2 );
+        }
+
+        int slot = size & mask;
+        this.velocity[slot] = velocity;
+        this.headingChange[slot] = headingChange;
+        symbol[slot] = s;
+
+        older.extend( s, size );
+        if ( younger.start > older.start )
+        {
+            younger.extend( s, size );
+        }
+
+        matchLength = older.matchLength();
+        matchEnd = older.matchEnd();
+        size++;
+    }
+
+
+    /**
+     * Makes room for more ticks, before the ring first wraps (so each tick
+     * keeps its slot)
+     *
+     * @param ticks ticks to make room for (a power of two)
+     */
+    private void grow( int ticks )
+    {
+        velocity = copy( velocity, ticks );
+        headingChange = copy( headingChange, ticks );
+        symbol = Automaton.copy( symbol, ticks );
+        mask = ticks - 1;
+
+        //Neither automaton spans more ticks than the ring holds
+        older.reserve( ticks );
+        younger.reserve( ticks );
+    }
+
+
+    /**
+     * @param array  array
+     * @param length new length
+     * @return longer array starting with the same values
+     */
+    private static double[] copy( double[] array, int length )
+    {
+        double[] grown = new double[length];
+        System.arraycopy( array, 0, grown, 0, array.length );
+        return grown;
+    }
+
+
+    /**
+     * @return ticks added so far
+     */
+    public int size()
+    {
+        return size;
+    }
+
+
+    /**
+     * @return ticks in the longest earlier run matching the latest ticks
+     */
+    public int getMatchLength()
+    {
+        return matchLength;
+    }
+
+
+    /**
+     * @return position of the last tick of that earlier run (-1 if none)
+     */
+    public int getMatchEnd()
+    {
+        return matchEnd;
+    }
+
+
+    /**
+     * @param position tick position
+     * @return whether the tick is still kept
+     */
+    public boolean isKept( int position )
+    {
+        return position >= 0 && position < size
+                        && position >= size - symbol.length;
+    }
+
+
+    /**
+     * @param position kept tick position
+     * @return whether the tick is a break
+     */
+    public boolean isBreak( int position )
+    {
+        return symbol[position & mask] == BREAK;
+    }
+
+
+    /**
+     * @param position kept tick position
+     * @return velocity that tick
+     */
+    public double getVelocity( int position )
+    {
+        return velocity[position & mask];
+    }
+
+
+    /**
+     * @param position kept tick position
+     * @return heading change that tick (radians)
+     */
+    public double getHeadingChange( int position )
+    {
+        return headingChange[position & mask];
+    }
+
+
+    /**
+     * Estimates the memory the index holds (its arrays, without headers)
+     *
+     * @return bytes
+     */
+    public long estimateBytes()
+    {
+        return ( 8L + 8 + 4 ) * symbol.length + older.estimateBytes()
+                        + younger.estimateBytes();
+    }
+
+
+    /**
+     * Suffix automaton over ticks from start on, in flat arrays
+     * <p/>
+     * Transitions out of the root are a table by symbol. Those out of other
+     * states are kept as a linked list of edges per state; movement rarely
+     * branches much, so the lists stay short.
+     */
+    private static final class Automaton
+    {
+        ///Root state
+        private static final int ROOT = 0;
+
+        ///Marks a missing state or edge
+        private static final int NONE = -1;
+
+        ///Position of the first tick fed in
+        int start = 0;
+
+        ///State each symbol leads to from the root (NONE if none)
+        private final int[] rootTarget = new int[SYMBOLS];
+
+        ///Length of the longest string reaching each state
+        private int[] length;
+
+        ///Suffix link of each state
+        private int[] link;
+
+        ///Where each state's strings first ended (a tick position)
+        private int[] firstEnd;
+
+        ///First edge out of each state
+        private int[] firstEdge;
+
+        ///Symbol of each edge
+        private int[] edgeSymbol;
+
+        ///State each edge leads to
+        private int[] edgeTarget;
+
+        ///Next edge out of the same state
+        private int[] nextEdge;
+
+        ///States in use
+        private int states;
+
+        ///Edges in use
+        private int edges;
+
+        ///State of the whole text so far
+        private int last;
+
+
+        /**
+         * Constructor for Automaton
+         *
+         * @param ticks most ticks it will span until reserve is called
+         */
+        Automaton( int ticks )
+        {
+            length = new int[ticks * 2];
+            link = new int[ticks * 2];
+            firstEnd = new int[ticks * 2];
+            firstEdge = new int[ticks * 2];
+            edgeSymbol = new int[ticks * 3];
+            edgeTarget = new int[ticks * 3];
+            nextEdge = new int[ticks * 3];
+            clear( 0 );
+        }
+
+
+        /**
+         * Makes room for spanning more ticks, keeping what it holds (a
+         * suffix automaton of n ticks has under 2n states and 3n edges)
+         *
+         * @param ticks most ticks it will span
+         */
+        void reserve( int ticks )
+        {
+            length = copy( length, ticks * 2 );
+            link = copy( link, ticks * 2 );
+            firstEnd = copy( firstEnd, ticks * 2 );
+            firstEdge = copy( firstEdge, ticks * 2 );
+            edgeSymbol = copy( edgeSymbol, ticks * 3 );
+            edgeTarget = copy( edgeTarget, ticks * 3 );
+            nextEdge = copy( nextEdge, ticks * 3 );
+        }
+
+
+        /**
+         * @param array  array
+         * @param length new length
+         * @return longer array starting with the same values
+         */
+        static int[] copy( int[] array, int length )
+        {
+            int[] grown = new int[length];
+            System.arraycopy( array, 0, grown, 0, array.length );
+            return grown;
+        }
+
+
+        /**
+         * Estimates the memory the automaton holds
+         *
+         * @return bytes in its arrays
+         */
+        long estimateBytes()
+        {
+            return 4L * ( rootTarget.length + 4 * length.length
+                            + 3 * edgeSymbol.length );
+        }
+
+
+        /**
+         * Empties the automaton
+         *
+         * @param start position of the first tick to be fed in
+         */
+        void clear( int start )
+        {
+            this.start = start;
+            states = 0;
+            edges = 0;
+            for ( int s = 0; s < SYMBOLS; s++ )
+            {
+                rootTarget[s] = NONE;
+            }
+            last = newState( 0, NONE );
+            link[last] = NONE;
+        }
+
+
+        /**
+         * Feeds in a tick
+         *
+         * @param s        symbol
+         * @param position tick position
+         */
+        void extend( int s, int position )
+        {
+            int current = newState( length[last] + 1, position );
+            int p = last;
+            while ( p != NONE && target( p, s ) == NONE )
+            {
+                addEdge( p, s, current );
+                p = link[p];
+            }
+
+            if ( p == NONE )
+            {
+                link[current] = 0;
+            }
+            else
+            {
+                int q = target( p, s );
+                if ( length[p] + 1 == length[q] )
+                {
+                    link[current] = q;
+                }
+                else
+                {
+                    int clone = newState( length[p] + 1, firstEnd[q] );
+                    for ( int e = firstEdge[q]; e != NONE; e = nextEdge[e] )
+                    {
+                        addEdge( clone, edgeSymbol[e], edgeTarget[e] );
+                    }
+                    link[clone] = link[q];
+                    while ( p != NONE && retarget( p, s, q, clone ) )
+                    {
+                        p = link[p];
+                    }
+                    link[q] = clone;
+                    link[current] = clone;
+                }
+            }
+            last = current;
+        }
+
+
+        /**
+         * @return length of the longest suffix that also ended earlier
+         */
+        int matchLength()
+        {
+            int suffix = link[last];
+            return suffix == NONE ? 0 : length[suffix];
+        }
+
+
+        /**
+         * @return where that suffix first ended (-1 if it is empty)
+         */
+        int matchEnd()
+        {
+            int suffix = link[last];
+            return suffix == NONE || length[suffix] == 0 ?
+                            NONE :
+                            firstEnd[suffix];
+        }
+
+
+        /**
+         * Makes a state with no edges
+         *
+         * @param length   length of its longest string
+         * @param firstEnd where its strings first ended
+         * @return state
+         */
+        private int newState( int length, int firstEnd )
+        {
+            int state = states++;
+            this.length[state] = length;
+            this.firstEnd[state] = firstEnd;
+            firstEdge[state] = NONE;
+            return state;
+        }
+
+
+        /**
+         * Adds an edge
+         *
+         * @param from   state
+         * @param s      symbol
+         * @param target state it leads to
+         */
+        private void addEdge( int from, int s, int target )
+        {
+            if ( from == ROOT )
+            {
+                rootTarget[s] = target;
+                return;
+            }
+            int e = edges++;
+            edgeSymbol[e] = s;
+            edgeTarget[e] = target;
+            nextEdge[e] = firstEdge[from];
+            firstEdge[from] = e;
+        }
+
+
+        /**
+         * @param from state
+         * @param s    symbol
+         * @return state the symbol leads to, or NONE
+         */
+        private int target( int from, int s )
+        {
+            if ( from == ROOT )
+            {
+                return rootTarget[s];
+            }
+            for ( int e = firstEdge[from]; e != NONE; e = nextEdge[e] )
+            {
+                if ( edgeSymbol[e] == s )
+                {
+                    return edgeTarget[e];
+                }
+            }
+            return NONE;
+        }
+
+
+        /**
+         * Points an edge at a clone if it leads to the cloned state
+         *
+         * @param from  state
+         * @param s     symbol
+         * @param q     cloned state
+         * @param clone clone
+         * @return whether the edge was changed
+         */
+        private boolean retarget( int from, int s, int q, int clone )
+        {
+            if ( from == ROOT )
+            {
+                if ( rootTarget[s] != q )
+                {
+                    return false;
+                }
+                rootTarget[s] = clone;
+                return true;
+            }
+            for ( int e = firstEdge[from]; e != NONE; e = nextEdge[e] )
+            {
+                if ( edgeSymbol[e] == s )
+                {
+                    if ( edgeTarget[e] != q )
+                    {
+                        return false;
+                    }
+                    edgeTarget[e] = clone;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
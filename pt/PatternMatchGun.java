@@ -0,0 +1,288 @@
+package pt;
+
+import robocode.util.Utils;
+
+
+/**
+ * Pattern matching gun
+ * <p/>
+ * Every scan of the target adds its velocity and heading change for each
+ * tick since its last scan to its PatternIndex (kept in its profile, so the
+ * history runs across rounds); other robots get no index, since in melee
+ * most are never aimed at. To aim at the target, the gun takes the
+ * longest earlier run of ticks matching its latest ticks and plays what the
+ * target did after that run forward from where it is now, tick by tick,
+ * until a bullet fired now would reach it. For a repeating pattern the
+ * earlier run is usually the latest cycle, so a replay that catches up with
+ * the present starts that cycle over. Near the turn's time limit shorter
+ * flights are replayed (see CpuBudget).
+ * <p/>
+ * Short gaps between scans are filled in evenly; a new round, a longer gap
+ * or a spell as someone else's target adds a break, which no replay runs
+ * across. Until a match is at least MIN_MATCH ticks long the
+ * linear/circular Gun aims instead.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - RoboWiki Pattern Matching
+ *         http://robowiki.net/wiki/Pattern_Matching
+ * @version 10/18/26
+ */
+public class PatternMatchGun implements RobotPart, Aim
+{
+    ///Shortest match worth replaying
+    private static final int MIN_MATCH = 8;
+
+    ///Longest gap between scans that is filled in
+    private static final long MAX_GAP = 8;
+
+    ///Longest bullet flight replayed
+    private static final int MAX_FLIGHT = 120;
+
+    ///Longest flight replayed when short on CPU time
+    private static final int MIN_FLIGHT = 30;
+
+    ///Distance from a robot's center to the edge of its body
+    private static final double HALF_ROBOT = 18;
+
+    ///Robot this part drives
+    private final RobotControl robot;
+
+    ///Knowledge shared with the other parts
+    private final CarverState state;
+
+    ///Aims while there is no usable match
+    private final Gun fallback;
+
+    ///Movement of each robot, by registry id (null until first targeted)
+    private PatternIndex[] indexes = new PatternIndex[8];
+
+    ///Robot whose ticks are being recorded (registry id)
+    private int recording = EnemyRegistry.NONE;
+
+    ///Where the replay put the target
+    private double predictedX, predictedY;
+
+
+    /**
+     * Constructor for PatternMatchGun
+     *
+     * @param robot robot to drive
+     * @param state knowledge shared with the other parts
+     */
+    public PatternMatchGun( RobotControl robot, CarverState state )
+    {
+        this.robot = robot;
+        this.state = state;
+        fallback = new Gun( robot, state );
+    }
+
+
+    /**
+     * Initialize
+     */
+    public void init()
+    {
+        fallback.init();
+    }
+
+
+    /**
+     * Records this turn's scan of the target, then aims and shoots
+     */
+    public void move()
+    {
+        double power = Gun.firePower( robot, state );
+        update( power );
+
+        // don't shoot if I've got no enemy
+        if ( state.enemy.none() || state.targetId == EnemyRegistry.NONE )
+        {
+            return;
+        }
+
+        double aim = aim( power );
+        if ( Double.isNaN( aim ) )
+        {
+            fallback.move();
+            return;
+        }
+        Gun.turnAndFire( robot, state, aim, power );
+    }
+
+
+    /**
+     * Records this turn's scan of the target
+     *
+     * @param power bullet power we would fire this turn (not used)
+     */
+    public void update( double power )
+    {
+        int target = state.targetId;
+        if ( target != EnemyRegistry.NONE && state.snapshot.hasScan( target ) )
+        {
+            //The index belongs to the profile, which others may share
+            synchronized ( state.profile( target ) )
+            {
+                record( target );
+            }
+        }
+    }
+
+
+    /**
+     * Replays the target's movement after the longest match
+     *
+     * @param power bullet power
+     * @return absolute bearing to fire at (radians), NaN if there is no
+     *         target or no match long enough
+     */
+    public double aim( double power )
+    {
+        int target = state.targetId;
+        if ( state.enemy.none() || target == EnemyRegistry.NONE )
+        {
+            return Double.NaN;
+        }
+        PatternIndex index = indexFor( target );
+        synchronized ( state.profile( target ) )
+        {
+            if ( !replay( index, target, Waves.speed( power ) ) )
+            {
+                return Double.NaN;
+            }
+        }
+        return Math.atan2( predictedX - robot.getX(),
+                        predictedY - robot.getY() );
+    }
+
+
+    /**
+     * Adds the ticks since a robot's last scan to its index
+     *
+     * @param id robot (registry id)
+     */
+    private void record( int id )
+    {
+        PatternIndex index = indexFor( id );
+        EnemyRegistry enemies = state.enemies;
+        if ( enemies.getScans( id ) < 2 || id != recording )
+        {
+            //First scan this round, or the ticks since the last scan were
+            // not recorded while another robot was the target
+            recording = id;
+            index.addBreak();
+            return;
+        }
+
+        long gap = enemies.getTime( id, 0 ) - enemies.getTime( id, 1 );
+        if ( gap <= 0 || gap > MAX_GAP )
+        {
+            index.addBreak();
+            return;
+        }
+
+        double turn = Utils.normalRelativeAngle(
+                        enemies.getHeadingRadians( id, 0 )
+                                        - enemies.getHeadingRadians( id, 1 ) )
+                        / gap;
+        double from = enemies.getVelocity( id, 1 );
+        double to = enemies.getVelocity( id, 0 );
+        for ( long t = 1; t <= gap; t++ )
+        {
+            index.add( from + ( to - from ) * t / gap, turn );
+        }
+    }
+
+
+    /**
+     * Plays the target's movement after the matched run forward from where
+     * it is now, until a bullet fired now would reach it
+     *
+     * @param index  target's index
+     * @param id     target (registry id)
+     * @param speed  bullet speed
+     * @return whether there was a match to replay (predictedX and
+     *         predictedY are set if so)
+     */
+    private boolean replay( PatternIndex index, int id, double speed )
+    {
+        if ( index.getMatchLength() < MIN_MATCH )
+        {
+            return false;
+        }
+
+        EnemyRegistry enemies = state.enemies;
+        double x = enemies.getX( id, 0 );
+        double y = enemies.getY( id, 0 );
+        double heading = enemies.getHeadingRadians( id, 0 );
+        double width = robot.getBattleFieldWidth();
+        double height = robot.getBattleFieldHeight();
+
+        //The ticks since the earlier run ended are one cycle of the
+        // pattern: when the replay catches up with now, it goes round again
+        int cycleStart = index.getMatchEnd() + 1;
+        int position = cycleStart;
+        int maxFlight = state.budget.scale( MAX_FLIGHT, MIN_FLIGHT );
+        for ( int t = 1; t <= maxFlight; t++, position++ )
+        {
+            if ( position == index.size() )
+            {
+                position = cycleStart;
+            }
+            if ( !index.isKept( position ) || index.isBreak( position ) )
+            {
+                //The recording ends here; aim where it got to
+                break;
+            }
+            heading += index.getHeadingChange( position );
+            double velocity = index.getVelocity( position );
+            x = Math.max( HALF_ROBOT, Math.min( width - HALF_ROBOT,
+                            x + Math.sin( heading ) * velocity ) );
+            y = Math.max( HALF_ROBOT, Math.min( height - HALF_ROBOT,
+                            y + Math.cos( heading ) * velocity ) );
+
+            if ( Math.hypot( x - robot.getX(), y - robot.getY() )
+                            <= t * speed )
+            {
+                break;
+            }
+        }
+
+        predictedX = x;
+        predictedY = y;
+        return true;
+    }
+
+
+    /**
+     * Gets the index of a robot, from its profile the first time
+     *
+     * @param id robot (registry id)
+     * @return index
+     */
+    private PatternIndex indexFor( int id )
+    {
+        if ( id >= indexes.length )
+        {
+            PatternIndex[] grown = new PatternIndex[Math.max(
+                            indexes.length * 2, id + 1 )];
+            System.arraycopy( indexes, 0, grown, 0, indexes.length );
+            indexes = grown;
+        }
+        if ( indexes[id] == null )
+        {
+            MovementHistory hist = state.profile( id );
+            synchronized ( hist )
+            {
+                if ( hist.patterns == null )
+                {
+                    hist.patterns = new PatternIndex();
+                }
+                indexes[id] = hist.patterns;
+            }
+        }
+        return indexes[id];
+    }
+}
@@ -0,0 +1,383 @@
+package pt;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * Reads and writes an enemy's profile as a small compressed file
+ * <p/>
+ * A file is gzipped binary: a magic number, the format version and the
+ * enemy's full name, then the movement choice and its effectiveness, the
+ * virtual gun scores, the real shots and hits by distance band and the
+ * surfing bins. Guess factor bins are most of a profile, so each segment
+ * is stored as its largest bin and every bin as a byte scaled to it; a
+ * segment that never saw a wave is just a zero. Aiming only compares bins
+ * within a segment, so the lost precision does not change where the gun
+ * fires. Situations (KdTree) and movement patterns (PatternIndex) grow with
+ * every tick seen and would not fit a robot's quota, so they are learned
+ * again each battle.
+ * <p/>
+ * A file of another version, for another enemy or with arrays of the wrong
+ * size for this build is refused with an IOException, and the profile
+ * starts empty.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - RoboWiki Saving Data
+ *         http://robowiki.net/wiki/Saving_Data
+ * @version 10/18/26
+ */
+public final class ProfileCodec
+{
+    ///First bytes of every profile file ("CARV")
+    private static final int MAGIC = 0x43415256;
+
+    ///Format version, bumped whenever the layout changes
+    private static final byte VERSION = 1;
+
+    ///Largest value a scaled bin is stored as
+    private static final int SCALE = 255;
+
+    ///Longest part of the enemy's name kept in a file name
+    private static final int MAX_NAME = 48;
+
+    ///Length stored for an array that was never created
+    private static final int ABSENT = -1;
+
+    ///End of every profile's file name
+    public static final String SUFFIX = ".prof";
+
+
+    /**
+     * No instances
+     */
+    private ProfileCodec()
+    {
+    }
+
+
+    /**
+     * Gets the data file an enemy's profile is kept in
+     * <p/>
+     * Characters a file system might not take are replaced, and the name's
+     * hash is added so names that differ only in those stay apart.
+     *
+     * @param name enemy name
+     * @return file name
+     */
+    public static String fileName( String name )
+    {
+        StringBuilder file = new StringBuilder();
+        for ( int i = 0; i < name.length() && i < MAX_NAME; i++ )
+        {
+            char c = name.charAt( i );
+            boolean safe = ( c >= 'a' && c <= 'z' ) || ( c >= 'A' && c <= 'Z' )
+                            || ( c >= '0' && c <= '9' ) || c == '.' || c == '-';
+            file.append( safe ? c : '_' );
+        }
+        return file.append( '_' ).append( Integer.toHexString(
+                        name.hashCode() ) ).append( SUFFIX ).toString();
+    }
+
+
+    /**
+     * Writes a profile (the caller holds the profile's lock)
+     *
+     * @param name enemy name
+     * @param hist profile
+     * @param out  stream to write to (closed when done)
+     * @throws IOException if the stream fails
+     */
+    public static void write( String name, MovementHistory hist,
+                    OutputStream out ) throws IOException
+    {
+        DataOutputStream data = new DataOutputStream( new GZIPOutputStream(
+                        out ) );
+        try
+        {
+            data.writeInt( MAGIC );
+            data.writeByte( VERSION );
+            data.writeUTF( name );
+
+            data.writeInt( hist.chosenMovement );
+            data.writeInt( hist.bestMoveNotFound );
+            data.writeInt( hist.winsWithMovement1 );
+            data.writeDouble( hist.move1Effectiveness );
+            data.writeDouble( hist.move2Effectiveness );
+            data.writeDouble( hist.move3Effectiveness );
+
+            writeInts( data, hist.virtualFired );
+            writeInts( data, hist.virtualHits );
+            writeInts( data, hist.shotsFired );
+            writeInts( data, hist.shotsHit );
+            writeFloats( data, hist.shotEscapes );
+            writeFloats( data, hist.surfStats );
+            writeBins( data, hist.guessFactors );
+        }
+        finally
+        {
+            data.close();
+        }
+    }
+
+
+    /**
+     * Reads a profile into an empty MovementHistory
+     *
+     * @param name enemy name the file should hold
+     * @param hist profile to fill
+     * @param in   stream to read from (closed when done)
+     * @throws IOException if the stream fails or the file is not a profile
+     *                     this build can use
+     */
+    public static void read( String name, MovementHistory hist,
+                    InputStream in ) throws IOException
+    {
+        if ( !read( hist, in ).equals( name ) )
+        {
+            throw new IOException( "Profile of another enemy" );
+        }
+    }
+
+
+    /**
+     * Reads a profile into an empty MovementHistory, whoever it is of
+     *
+     * @param hist profile to fill
+     * @param in   stream to read from (closed when done)
+     * @return name of the enemy the file holds
+     * @throws IOException if the stream fails or the file is not a profile
+     *                     this build can use
+     */
+    public static String read( MovementHistory hist, InputStream in )
+                    throws IOException
+    {
+        DataInputStream data = new DataInputStream( new GZIPInputStream( in ) );
+        try
+        {
+            if ( data.readInt() != MAGIC )
+            {
+                throw new IOException( "Not a profile" );
+            }
+            if ( data.readByte() != VERSION )
+            {
+                throw new IOException( "Profile version not supported" );
+            }
+            String name = data.readUTF();
+
+            hist.chosenMovement = data.readInt();
+            hist.bestMoveNotFound = data.readInt();
+            hist.winsWithMovement1 = data.readInt();
+            hist.move1Effectiveness = data.readDouble();
+            hist.move2Effectiveness = data.readDouble();
+            hist.move3Effectiveness = data.readDouble();
+
+            //VirtualGuns starts over if the number of guns has changed
+            hist.virtualFired = readInts( data, ABSENT );
+            hist.virtualHits = readInts( data, ABSENT );
+            if ( hist.virtualFired == null || hist.virtualHits == null
+                            || hist.virtualFired.length
+                            != hist.virtualHits.length )
+            {
+                hist.virtualFired = null;
+                hist.virtualHits = null;
+            }
+            hist.shotsFired = readInts( data, FirePower.BANDS );
+            hist.shotsHit = readInts( data, FirePower.BANDS );
+            hist.shotEscapes = readFloats( data, FirePower.BANDS );
+            if ( hist.shotsFired == null || hist.shotsHit == null
+                            || hist.shotEscapes == null )
+            {
+                hist.shotsFired = null;
+                hist.shotsHit = null;
+                hist.shotEscapes = null;
+            }
+            hist.surfStats = readFloats( data, WaveSurfer.BINS );
+            hist.guessFactors = readBins( data );
+            return name;
+        }
+        finally
+        {
+            data.close();
+        }
+    }
+
+
+    /**
+     * @param data  stream
+     * @param array ints to write (may be null)
+     * @throws IOException if the stream fails
+     */
+    private static void writeInts( DataOutputStream data, int[] array )
+                    throws IOException
+    {
+        data.writeInt( array == null ? ABSENT : array.length );
+        if ( array != null )
+        {
+            for ( int value : array )
+            {
+                data.writeInt( value );
+            }
+        }
+    }
+
+
+    /**
+     * @param data  stream
+     * @param array doubles to write as floats (may be null)
+     * @throws IOException if the stream fails
+     */
+    private static void writeFloats( DataOutputStream data, double[] array )
+                    throws IOException
+    {
+        data.writeInt( array == null ? ABSENT : array.length );
+        if ( array != null )
+        {
+            for ( double value : array )
+            {
+                data.writeFloat( (float)value );
+            }
+        }
+    }
+
+
+    /**
+     * Writes guess factor bins, each segment scaled to its largest bin
+     *
+     * @param data stream
+     * @param bins guess factor bins (may be null)
+     * @throws IOException if the stream fails
+     */
+    private static void writeBins( DataOutputStream data, double[] bins )
+                    throws IOException
+    {
+        data.writeInt( bins == null ? ABSENT : bins.length );
+        if ( bins == null )
+        {
+            return;
+        }
+        for ( int start = 0; start < bins.length;
+              start += GuessFactorGun.BINS )
+        {
+            double max = 0;
+            for ( int i = start; i < start + GuessFactorGun.BINS; i++ )
+            {
+                max = Math.max( max, bins[i] );
+            }
+            data.writeFloat( (float)max );
+            if ( max > 0 )
+            {
+                for ( int i = start; i < start + GuessFactorGun.BINS; i++ )
+                {
+                    data.writeByte( (int)Math.round( Math.max( 0, bins[i] )
+                                    / max * SCALE ) );
+                }
+            }
+        }
+    }
+
+
+    /**
+     * @param data   stream
+     * @param length length this build uses (ABSENT for any)
+     * @return ints read, or null if absent or of another length
+     * @throws IOException if the stream fails
+     */
+    private static int[] readInts( DataInputStream data, int length )
+                    throws IOException
+    {
+        int stored = readLength( data );
+        if ( stored == ABSENT )
+        {
+            return null;
+        }
+        int[] array = new int[stored];
+        for ( int i = 0; i < stored; i++ )
+        {
+            array[i] = data.readInt();
+        }
+        return ( length == ABSENT || stored == length ) ? array : null;
+    }
+
+
+    /**
+     * @param data   stream
+     * @param length length this build uses
+     * @return doubles read, or null if absent or of another length
+     * @throws IOException if the stream fails
+     */
+    private static double[] readFloats( DataInputStream data, int length )
+                    throws IOException
+    {
+        int stored = readLength( data );
+        if ( stored == ABSENT )
+        {
+            return null;
+        }
+        double[] array = new double[stored];
+        for ( int i = 0; i < stored; i++ )
+        {
+            array[i] = data.readFloat();
+        }
+        return stored == length ? array : null;
+    }
+
+
+    /**
+     * Reads guess factor bins written by writeBins
+     *
+     * @param data stream
+     * @return bins, or null if absent or segmented differently
+     * @throws IOException if the stream fails or the length is corrupt
+     */
+    private static double[] readBins( DataInputStream data )
+                    throws IOException
+    {
+        int stored = readLength( data );
+        if ( stored == ABSENT )
+        {
+            return null;
+        }
+        if ( stored != GuessFactorGun.SIZE )
+        {
+            //Bytes per segment depend on the data, so the rest is unreadable
+            throw new IOException( "Guess factor segments have changed" );
+        }
+        double[] bins = new double[stored];
+        for ( int start = 0; start < stored; start += GuessFactorGun.BINS )
+        {
+            double max = data.readFloat();
+            if ( max > 0 )
+            {
+                for ( int i = start; i < start + GuessFactorGun.BINS; i++ )
+                {
+                    bins[i] = data.readUnsignedByte() * max / SCALE;
+                }
+            }
+        }
+        return bins;
+    }
+
+
+    /**
+     * @param data stream
+     * @return array length stored, or ABSENT
+     * @throws IOException if the stream fails or the length is corrupt
+     */
+    private static int readLength( DataInputStream data ) throws IOException
+    {
+        int length = data.readInt();
+        if ( length < ABSENT || length > GuessFactorGun.SIZE )
+        {
+            throw new IOException( "Corrupt profile" );
+        }
+        return length;
+    }
+}
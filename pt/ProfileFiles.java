@@ -0,0 +1,63 @@
+package pt;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+
+/**
+ * Files in the robot's data directory that profiles are kept in
+ * <p/>
+ * Robocode only lets a robot write its data directory through its own
+ * stream class, and counts what it writes against a quota; the robot
+ * hosting a ProfileStore hands it one of these so the store does not need
+ * to know how.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+public interface ProfileFiles
+{
+    /**
+     * Lists the data files
+     *
+     * @return file names in the data directory (empty if none)
+     */
+    String[] list();
+
+    /**
+     * Opens a data file for reading
+     *
+     * @param fileName file name in the data directory
+     * @return stream, or null if there is no such file
+     * @throws IOException if the file cannot be opened
+     */
+    InputStream openInput( String fileName ) throws IOException;
+
+    /**
+     * Opens a data file for writing, replacing what was there
+     *
+     * @param fileName file name in the data directory
+     * @return stream
+     * @throws IOException if the file cannot be opened
+     */
+    OutputStream openOutput( String fileName ) throws IOException;
+
+    /**
+     * Gets the length of a data file
+     *
+     * @param fileName file name in the data directory
+     * @return length in bytes, 0 if there is no such file
+     */
+    long length( String fileName );
+
+    /**
+     * Gets how many more bytes may be written to the data directory
+     *
+     * @return bytes left in the quota
+     */
+    long getQuotaAvailable();
+}
@@ -0,0 +1,695 @@
+package pt;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Stores what we have learned about each enemy (by name)
+ * <p/>
+ * Robocode creates a new robot object every round, so a store has to
+ * outlive the robot that uses it. The share policy says who else sees it:
+ * <p/>
+ * SHARED - the one store every TheCarver in this class loader uses. Robocode
+ * loads each robot in its own class loader, so in a real battle this is
+ * exactly the old static map.
+ * ISOLATED - a private store, for harnesses that run many TheCarvers side by
+ * side in one JVM and must keep their learning apart.
+ * <p/>
+ * Lookups are thread-safe, and callers lock a MovementHistory while changing
+ * it, so teammates may share one store.
+ * <p/>
+ * Once a robot hands it its data files, a store keeps profiles between
+ * battles (see ProfileCodec): preload reads the saved profiles before the
+ * battle's first turn, and save writes every profile back when it ends,
+ * skipping any that would take the data directory past its quota. A lookup
+ * during the battle then only reads a file if its profile was saved but
+ * not preloaded, and never writes one.
+ * <p/>
+ * A store keeps the profiles in memory within a bound on their estimated
+ * size, so a long run against hundreds of enemies does not keep every
+ * one's gun data. Sizes are estimated from the arrays each profile holds:
+ * saved statistics take about 60 KB, while the situations and patterns the
+ * guns learn within a battle take about 4.7 MB more. Parts hold on to the
+ * profiles of the enemies they meet, so every profile looked up is pinned
+ * until the battle ends and is never dropped before then, even past the
+ * bound. Whenever a new enemy comes in past the bound, the unpinned
+ * profiles looked up longest ago are dropped (the situations and patterns
+ * with them) and wait to be written to their files by flush, which the
+ * robot calls once a round is over. A lookup before then takes its profile
+ * back as it was; later ones read it again. Files are read and written
+ * outside the store's lock, one thread at a time per enemy, so a lookup
+ * never reads half a file. Lookups that find a profile in memory (hits)
+ * and those that do not (misses) are counted.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - RoboWiki Saving Data
+ *         http://robowiki.net/wiki/Saving_Data
+ * @version 10/18/26
+ */
+public class ProfileStore
+{
+    /**
+     * Who a profile store is shared with
+     */
+    public enum SharePolicy
+    {
+        SHARED, ISOLATED
+    }
+
+    ///Estimated bytes of profiles a store holds unless told otherwise
+    public static final long DEFAULT_MAX_BYTES = 64L << 20;
+
+    ///Store used by every robot that asks for a shared one
+    private static final ProfileStore SHARED_STORE = new ProfileStore(
+                    SharePolicy.SHARED, DEFAULT_MAX_BYTES );
+
+    ///Maps enemy name to prior win statistics, looked up longest ago first
+    private final LinkedHashMap<String, MovementHistory> profiles;
+
+    ///Profiles dropped from memory that are still to be written, by name
+    private final Map<String, MovementHistory> pending =
+                    new LinkedHashMap<String, MovementHistory>();
+
+    ///Enemies looked up this battle, whose profiles are not dropped
+    private final Set<String> pinned = new HashSet<String>();
+
+    ///Data files known to exist (null until the data directory is listed)
+    private Set<String> stored;
+
+    ///Most estimated bytes of profiles held in memory
+    private final long maxBytes;
+
+    ///Estimated bytes of the profiles in memory, when a profile last came in
+    private long estimatedBytes;
+
+    ///How this store is shared
+    private final SharePolicy policy;
+
+    ///Data files profiles are loaded from and saved to (null if none)
+    private volatile ProfileFiles files;
+
+    ///Lookups that found the profile in memory, and those that did not
+    private long hits, misses;
+
+    ///Enemies whose files a thread is reading or writing
+    private final Set<String> busy = new HashSet<String>();
+
+
+    /**
+     * Constructor for ProfileStore
+     *
+     * @param policy   how this store is shared
+     * @param maxBytes most estimated bytes of profiles held in memory
+     */
+    private ProfileStore( SharePolicy policy, long maxBytes )
+    {
+        if ( maxBytes < 1 )
+        {
+            throw new IllegalArgumentException( "Bound must be positive" );
+        }
+        this.policy = policy;
+        this.maxBytes = maxBytes;
+        profiles = new LinkedHashMap<String, MovementHistory>( 16, 0.75f,
+                        true );
+    }
+
+
+    /**
+     * Gets a profile store following a share policy
+     *
+     * @param policy SHARED for the common store, ISOLATED for a new one
+     * @return profile store
+     */
+    public static ProfileStore create( SharePolicy policy )
+    {
+        return policy == SharePolicy.SHARED ?
+                        SHARED_STORE :
+                        new ProfileStore( SharePolicy.ISOLATED,
+                                        DEFAULT_MAX_BYTES );
+    }
+
+
+    /**
+     * Creates a private store that holds a given size of profiles
+     *
+     * @param maxBytes most estimated bytes of profiles held in memory
+     *                 (pinned profiles always stay)
+     * @return new ISOLATED profile store
+     * @throws IllegalArgumentException if maxBytes is below 1
+     */
+    public static ProfileStore create( long maxBytes )
+    {
+        return new ProfileStore( SharePolicy.ISOLATED, maxBytes );
+    }
+
+
+    /**
+     * Gets how this store is shared
+     *
+     * @return share policy
+     */
+    public SharePolicy getPolicy()
+    {
+        return policy;
+    }
+
+
+    /**
+     * Sets the data files profiles are kept in
+     * <p/>
+     * Robocode creates a new robot every round, so each round's robot hands
+     * over its own.
+     *
+     * @param files data files (null to stop loading and saving)
+     */
+    public void setFiles( ProfileFiles files )
+    {
+        this.files = files;
+    }
+
+
+    /**
+     * Gets the movement history for an enemy, loading or creating it if it
+     * is not in memory, and pins it until the battle ends
+     *
+     * @param name enemy name
+     * @return movement history (never null)
+     */
+    public MovementHistory get( String name )
+    {
+        synchronized ( profiles )
+        {
+            MovementHistory hist = profiles.get( name );
+            if ( hist != null )
+            {
+                hits++;
+                pinned.add( name );
+                return hist;
+            }
+            misses++;
+
+            //Dropped but not written yet: take it back as it is
+            hist = pending.remove( name );
+            if ( hist == null )
+            {
+                //Another thread may be reading or writing this enemy's file
+                awaitIdle( name );
+                hist = profiles.get( name );
+                if ( hist != null )
+                {
+                    pinned.add( name );
+                    return hist;
+                }
+                hist = pending.remove( name );
+            }
+            if ( hist == null && !mayHaveFile( name ) )
+            {
+                hist = new MovementHistory();
+            }
+            if ( hist != null )
+            {
+                keep( name, hist );
+                return hist;
+            }
+            busy.add( name );
+        }
+
+        MovementHistory loaded = null;
+        try
+        {
+            loaded = load( name );
+        }
+        finally
+        {
+            synchronized ( profiles )
+            {
+                busy.remove( name );
+                if ( loaded != null )
+                {
+                    keep( name, loaded );
+                }
+                profiles.notifyAll();
+            }
+        }
+        return loaded;
+    }
+
+
+    /**
+     * Puts a profile in memory, pinned, and drops others if past the bound
+     * (the caller holds the lock on profiles)
+     *
+     * @param name enemy name
+     * @param hist profile
+     */
+    private void keep( String name, MovementHistory hist )
+    {
+        profiles.put( name, hist );
+        pinned.add( name );
+        evict();
+    }
+
+
+    /**
+     * Drops the unpinned profiles looked up longest ago until the rest fit
+     * the bound, leaving them to be written by flush (the caller holds the
+     * lock on profiles)
+     */
+    private void evict()
+    {
+        long total = 0;
+        for ( MovementHistory hist : profiles.values() )
+        {
+            total += hist.estimateBytes();
+        }
+
+        Iterator<Map.Entry<String, MovementHistory>> eldest = profiles
+                        .entrySet().iterator();
+        while ( total > maxBytes && eldest.hasNext() )
+        {
+            Map.Entry<String, MovementHistory> entry = eldest.next();
+            if ( !pinned.contains( entry.getKey() ) )
+            {
+                pending.put( entry.getKey(), entry.getValue() );
+                total -= entry.getValue().estimateBytes();
+                eldest.remove();
+            }
+        }
+        estimatedBytes = total;
+    }
+
+
+    /**
+     * Unpins every profile, letting them be dropped again (when the battle
+     * is over)
+     */
+    public void unpinAll()
+    {
+        synchronized ( profiles )
+        {
+            pinned.clear();
+        }
+    }
+
+
+    /**
+     * Checks whether an enemy's profile might have been saved (the caller
+     * holds the lock on profiles)
+     *
+     * @param name enemy name
+     * @return false if there are no data files, or the data directory was
+     *         listed and holds no file for it
+     */
+    private boolean mayHaveFile( String name )
+    {
+        return files != null && name.length() > 0 && ( stored == null
+                        || stored.contains( ProfileCodec.fileName( name ) ) );
+    }
+
+
+    /**
+     * Waits until no other thread is reading or writing an enemy's file
+     * (the caller holds the lock on profiles)
+     *
+     * @param name enemy name
+     */
+    private void awaitIdle( String name )
+    {
+        boolean interrupted = false;
+        while ( busy.contains( name ) )
+        {
+            try
+            {
+                profiles.wait();
+            }
+            catch ( InterruptedException e )
+            {
+                //Finish waiting: the file must not be half read
+                interrupted = true;
+            }
+        }
+        if ( interrupted )
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Reads an enemy's profile from its data file
+     *
+     * @param name enemy name
+     * @return profile read, or a new one if there is no usable file
+     */
+    private MovementHistory load( String name )
+    {
+        ProfileFiles from = files;
+        if ( from == null )
+        {
+            return new MovementHistory();
+        }
+        try
+        {
+            InputStream in = from.openInput( ProfileCodec.fileName( name ) );
+            if ( in != null )
+            {
+                MovementHistory hist = new MovementHistory();
+                ProfileCodec.read( name, hist, in );
+                return hist;
+            }
+        }
+        catch ( IOException e )
+        {
+            //Missing, corrupt or from another version: start over
+        }
+        return new MovementHistory();
+    }
+
+
+    /**
+     * Reads every saved profile not yet in memory, as long as they fit the
+     * bound (before the battle's first turn, so lookups need not)
+     *
+     * @return number of profiles read
+     */
+    public int preload()
+    {
+        ProfileFiles from = files;
+        if ( from == null )
+        {
+            return 0;
+        }
+        String[] names = from.list();
+        Set<String> known = new HashSet<String>();
+        synchronized ( profiles )
+        {
+            stored = new HashSet<String>();
+            for ( String file : names )
+            {
+                if ( file.endsWith( ProfileCodec.SUFFIX ) )
+                {
+                    stored.add( file );
+                }
+            }
+            for ( String name : profiles.keySet() )
+            {
+                known.add( ProfileCodec.fileName( name ) );
+            }
+            for ( String name : pending.keySet() )
+            {
+                known.add( ProfileCodec.fileName( name ) );
+            }
+        }
+
+        int read = 0;
+        for ( String file : names )
+        {
+            if ( !file.endsWith( ProfileCodec.SUFFIX )
+                            || known.contains( file ) )
+            {
+                continue;
+            }
+            MovementHistory hist = new MovementHistory();
+            String name;
+            try
+            {
+                InputStream in = from.openInput( file );
+                if ( in == null )
+                {
+                    continue;
+                }
+                name = ProfileCodec.read( hist, in );
+            }
+            catch ( IOException e )
+            {
+                //Missing, corrupt or from another version: skip it
+                continue;
+            }
+            if ( !file.equals( ProfileCodec.fileName( name ) ) )
+            {
+                continue;
+            }
+
+            synchronized ( profiles )
+            {
+                if ( estimatedBytes + hist.estimateBytes() > maxBytes )
+                {
+                    break;
+                }
+                if ( !profiles.containsKey( name )
+                                && !pending.containsKey( name )
+                                && !busy.contains( name ) )
+                {
+                    profiles.put( name, hist );
+                    estimatedBytes += hist.estimateBytes();
+                    read++;
+                }
+            }
+        }
+        return read;
+    }
+
+
+    /**
+     * Writes the profiles dropped from memory to their data files (once a
+     * round is over, so no turn waits on it)
+     *
+     * @return number of profiles written
+     */
+    public int flush()
+    {
+        List<Map.Entry<String, MovementHistory>> entries;
+        synchronized ( profiles )
+        {
+            if ( pending.isEmpty() )
+            {
+                return 0;
+            }
+            entries = copy( pending );
+        }
+        return writeAll( entries );
+    }
+
+
+    /**
+     * Writes every profile in memory, and every one dropped but not yet
+     * written, to its data file, as long as the data directory stays within
+     * its quota
+     *
+     * @return number of profiles written
+     */
+    public int save()
+    {
+        List<Map.Entry<String, MovementHistory>> entries;
+        synchronized ( profiles )
+        {
+            entries = copy( pending );
+            entries.addAll( copy( profiles ) );
+        }
+        return writeAll( entries );
+    }
+
+
+    /**
+     * Copies the entries of a map, so they can be used outside the lock
+     * (the caller holds the lock on profiles)
+     *
+     * @param map profiles by name
+     * @return entries
+     */
+    private static List<Map.Entry<String, MovementHistory>> copy(
+                    Map<String, MovementHistory> map )
+    {
+        List<Map.Entry<String, MovementHistory>> entries =
+                        new ArrayList<Map.Entry<String, MovementHistory>>();
+        for ( Map.Entry<String, MovementHistory> entry : map.entrySet() )
+        {
+            entries.add( new AbstractMap.SimpleImmutableEntry<String,
+                            MovementHistory>( entry ) );
+        }
+        return entries;
+    }
+
+
+    /**
+     * Writes profiles to their data files, one thread at a time per enemy;
+     * those dropped from memory are let go once written (or if there are no
+     * data files)
+     *
+     * @param entries profiles by name
+     * @return number of profiles written
+     */
+    private int writeAll( List<Map.Entry<String, MovementHistory>> entries )
+    {
+        ProfileFiles to = files;
+        int saved = 0;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for ( Map.Entry<String, MovementHistory> entry : entries )
+        {
+            String name = entry.getKey();
+            synchronized ( profiles )
+            {
+                awaitIdle( name );
+                busy.add( name );
+            }
+            boolean written = false;
+            try
+            {
+                written = to != null && write( name, entry.getValue(), to,
+                                bytes );
+            }
+            finally
+            {
+                synchronized ( profiles )
+                {
+                    if ( pending.get( name ) == entry.getValue() )
+                    {
+                        pending.remove( name );
+                    }
+                    if ( written && stored != null )
+                    {
+                        stored.add( ProfileCodec.fileName( name ) );
+                    }
+                    busy.remove( name );
+                    profiles.notifyAll();
+                }
+            }
+            if ( written )
+            {
+                saved++;
+            }
+        }
+        return saved;
+    }
+
+
+    /**
+     * Writes a profile to its data file if the data directory has room
+     *
+     * @param name  enemy name
+     * @param hist  profile
+     * @param to    data files
+     * @param bytes buffer to encode into
+     * @return whether the profile was written
+     */
+    private static boolean write( String name, MovementHistory hist,
+                    ProfileFiles to, ByteArrayOutputStream bytes )
+    {
+        if ( name.length() == 0 )
+        {
+            return false;
+        }
+        try
+        {
+            bytes.reset();
+            synchronized ( hist )
+            {
+                ProfileCodec.write( name, hist, bytes );
+            }
+
+            //Rewriting a file gives back the space it took
+            String file = ProfileCodec.fileName( name );
+            if ( bytes.size() > to.getQuotaAvailable() + to.length( file ) )
+            {
+                return false;
+            }
+            OutputStream out = to.openOutput( file );
+            try
+            {
+                bytes.writeTo( out );
+            }
+            finally
+            {
+                out.close();
+            }
+            return true;
+        }
+        catch ( IOException e )
+        {
+            //Leave this profile's file as it was and go on
+            return false;
+        }
+    }
+
+
+    /**
+     * Gets the number of enemies profiled in memory (not counting those
+     * dropped but not yet written)
+     *
+     * @return number of profiles
+     */
+    public int size()
+    {
+        synchronized ( profiles )
+        {
+            return profiles.size();
+        }
+    }
+
+
+    /**
+     * Gets the most estimated bytes of profiles held in memory
+     *
+     * @return bound in bytes
+     */
+    public long getMaxBytes()
+    {
+        return maxBytes;
+    }
+
+
+    /**
+     * Gets the estimated size of the profiles in memory, as of the last
+     * lookup or preload that brought one in
+     *
+     * @return bytes
+     */
+    public long getEstimatedBytes()
+    {
+        synchronized ( profiles )
+        {
+            return estimatedBytes;
+        }
+    }
+
+
+    /**
+     * Gets the number of lookups that found the profile in memory
+     *
+     * @return hits
+     */
+    public long getHits()
+    {
+        synchronized ( profiles )
+        {
+            return hits;
+        }
+    }
+
+
+    /**
+     * Gets the number of lookups that had to load or create the profile
+     *
+     * @return misses
+     */
+    public long getMisses()
+    {
+        synchronized ( profiles )
+        {
+            return misses;
+        }
+    }
+}
@@ -29,10 +29,14 @@ public interface Radar extends RobotPart
     /**
      * Should track
      *
-     * @param e ScannedRobotEvent
+     * @param e               ScannedRobotEvent
+     * @param tracked         whether e is the robot being tracked
+     * @param trackedDistance distance to the robot being tracked
+     *                        (infinity when there is none)
      * @return is tracked
      */
-    boolean shouldTrack( ScannedRobotEvent e );
+    boolean shouldTrack( ScannedRobotEvent e, boolean tracked,
+                    double trackedDistance );
 
     /**
      * Check whether previously tracking
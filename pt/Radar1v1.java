@@ -0,0 +1,126 @@
+package pt;
+
+import robocode.RobotDeathEvent;
+import robocode.ScannedRobotEvent;
+
+
+/**
+ * 1v1 Radar
+ *
+ * @author Pranav Prakash
+ * @author Period: 7
+ * @author Assignment: Robo05PartsBot
+ * @author Source: RoboWiki Perfect Width Lock Radar
+ *         http://robowiki.net/wiki/One_on_One_Radar
+ * @version May 14, 2015
+ */
+public class Radar1v1 implements Radar
+{
+    ///Robot this part drives
+    private final RobotControl robot;
+
+    ///Knowledge shared with the other parts
+    private final CarverState state;
+
+
+    /**
+     * Constructor for Radar1v1
+     *
+     * @param robot robot to drive
+     * @param state knowledge shared with the other parts
+     */
+    public Radar1v1( RobotControl robot, CarverState state )
+    {
+        this.robot = robot;
+        this.state = state;
+    }
+
+
+    /**
+     * Initializes by calling needed methods
+     */
+    public void init()
+    {
+        robot.setAdjustRadarForGunTurn( true );
+        robot.setAdjustRadarForRobotTurn( true );
+        robot.setTurnRadarRight( 3600 );
+    }
+
+
+    /**
+     * Movement for 1v1 radar
+     */
+    public void move()
+    {
+        ///Stores the scan width
+        double scanWidth = 1.0;
+
+        if ( state.enemy.none() )
+        {
+            //If no enemy found, keep spinning
+            robot.setTurnRadarRight( 3600 );
+        }
+        else
+        {
+            // Absolute angle towards target
+            double enemyHeading = robot.getHeading() + state.enemy.getBearing();
+
+            // Subtract current radar heading to get the turn required to
+            // face the enemy, be sure it is normalized
+            double radarTurn = Angles.normalizeBearing(
+                            enemyHeading - robot.getRadarHeading() );
+
+            // Distance we want to scan from middle of enemy to either side
+            // scanWidth is how many units from the center of the enemy
+            // robot it scans.
+            double extraScan = Math.min( Math.atan(
+                                            scanWidth
+                                            / state.enemy.getDistance()
+                                            * 180 / 3.14 ),
+                            45 );
+
+            // Adjust the radar turn so it goes that much further in the
+            // direction it is going to turn
+            // Basically if we were going to turn it left, turn it even more
+            // left, if right, turn more right.
+            // This allows us to overshoot our enemy so that we get a good
+            // sweep that will not slip.
+            radarTurn += radarTurn >= 0 ? extraScan : -extraScan;
+
+            //Turn radar
+            robot.setTurnRadarRight( radarTurn );
+
+        }
+    }
+
+
+    /**
+     * Should track
+     *
+     * @param e               ScannedRobotEvent
+     * @param tracked         whether e is the robot being tracked
+     * @param trackedDistance distance to the robot being tracked
+     * @return is tracked
+     */
+    public boolean shouldTrack( ScannedRobotEvent e, boolean tracked,
+                    double trackedDistance )
+    {
+        // track if we have no enemy, the one we found is significantly
+        // closer, or we scanned the one we've been tracking.
+        // (no enemy means trackedDistance is infinite)
+        return ( e.getDistance() < trackedDistance - 70 || tracked );
+    }
+
+
+    /**
+     * Check whether previously tracking
+     *
+     * @param e RobotDeathEvent
+     * @return was previously tracking
+     */
+    public boolean wasTracking( RobotDeathEvent e )
+    {
+        // checks if robot that died is robot we targeted
+        return e.getName().equals( state.enemy.getName() );
+    }
+}
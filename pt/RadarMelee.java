@@ -0,0 +1,260 @@
+package pt;
+
+import robocode.Rules;
+import robocode.RobotDeathEvent;
+import robocode.ScannedRobotEvent;
+import robocode.util.Utils;
+
+
+/**
+ * Melee Radar
+ * <p/>
+ * Sweeps to keep what we know about every enemy as fresh as it can. The
+ * registry remembers the tick each enemy was last seen; each turn the
+ * radar heads for the enemy seen longest ago, going whichever way round
+ * sweeps over the most staleness per tick on the way (every enemy passed
+ * is scanned too). While some enemy has never been seen, it keeps spinning
+ * to find it. Only when the gun is about to fire does it narrow to a lock
+ * on the target, so the shot is aimed from a fresh scan. A cool gun may
+ * still hold its fire (no aim is good enough, or energy is short), so the
+ * lock gives way to the sweep whenever another enemy has gone unseen for
+ * MAX_AGE ticks.
+ *
+ * @author Pranav Prakash
+ * @author Period: 7
+ * @author Assignment: Robo05PartsBot
+ * @author Source: RoboWiki Melee Radar
+ *         http://robowiki.net/wiki/Melee_Radar
+ * @version May 14, 2015
+ */
+public class RadarMelee implements Radar
+{
+    ///Robot this part drives
+    private final RobotControl robot;
+
+    ///Knowledge shared with the other parts
+    private final CarverState state;
+
+    //Gun heat at which we lock on the target (3 ticks before it can fire)
+    private static final double LOCK_HEAT = 0.3;
+
+    //Ticks another enemy may go unseen before a lock gives way to the sweep
+    private static final long MAX_AGE = 16;
+
+    //Width scanned past the edge of a robot's center (a robot and a half)
+    private static final double OVERSHOOT_WIDTH = 54;
+
+    //Way the radar sweeps (1 clockwise, -1 counterclockwise)
+    private int sweep = 1;
+
+
+    /**
+     * Constructor for RadarMelee
+     *
+     * @param robot robot to drive
+     * @param state knowledge shared with the other parts
+     */
+    public RadarMelee( RobotControl robot, CarverState state )
+    {
+        this.robot = robot;
+        this.state = state;
+    }
+
+
+    /**
+     * Initialize variables and call needed methods
+     */
+    public void init()
+    {
+        //Initialize variables
+        robot.setAdjustRadarForGunTurn( true );
+        robot.setAdjustRadarForRobotTurn( true );
+        robot.setTurnRadarRight( 3600 );
+    }
+
+
+    /**
+     * Movement for radar
+     */
+    public void move()
+    {
+        EnemyRegistry enemies = state.enemies;
+        int target = state.targetId;
+        if ( target != EnemyRegistry.NONE && !state.enemy.none()
+                        && enemies.isAlive( target )
+                        && robot.getGunHeat() <= LOCK_HEAT
+                        && oldestAge( target ) < MAX_AGE )
+        {
+            //About to fire: lock on the target
+            double turn = turnTo( target );
+            robot.setTurnRadarRight( Math.toDegrees( turn
+                            + ( turn >= 0 ? 1 : -1 ) * overshoot( target ) ) );
+        }
+        else if ( enemies.countAlive() < robot.getOthers() )
+        {
+            //Someone has not been seen yet: keep spinning to find them
+            robot.setTurnRadarRight( sweep * 3600 );
+        }
+        else
+        {
+            sweepOldest();
+        }
+    }
+
+
+    /**
+     * Turns toward the enemy seen longest ago, the way round that scans
+     * the most staleness per tick on the way
+     */
+    private void sweepOldest()
+    {
+        EnemyRegistry enemies = state.enemies;
+        long now = robot.getTime();
+        int oldest = EnemyRegistry.NONE;
+        for ( int id = 0; id < enemies.size(); id++ )
+        {
+            if ( enemies.isAlive( id ) && ( oldest == EnemyRegistry.NONE
+                            || enemies.getLastSeen( id )
+                            < enemies.getLastSeen( oldest ) ) )
+            {
+                oldest = id;
+            }
+        }
+        if ( oldest == EnemyRegistry.NONE )
+        {
+            robot.setTurnRadarRight( sweep * 3600 );
+            return;
+        }
+
+        //Arc to the oldest each way round, past it by its overshoot
+        double turn = turnTo( oldest );
+        double past = overshoot( oldest );
+        double right = ( turn >= 0 ? turn : turn + 2 * Math.PI ) + past;
+        double left = ( turn <= 0 ? -turn : 2 * Math.PI - turn ) + past;
+
+        //Staleness swept over each way, per tick of sweeping
+        double rightAge = 0;
+        double leftAge = 0;
+        for ( int id = 0; id < enemies.size(); id++ )
+        {
+            if ( enemies.isAlive( id ) )
+            {
+                double to = turnTo( id );
+                long age = now - enemies.getLastSeen( id );
+                if ( ( to >= 0 ? to : to + 2 * Math.PI ) <= right )
+                {
+                    rightAge += age;
+                }
+                if ( ( to <= 0 ? -to : 2 * Math.PI - to ) <= left )
+                {
+                    leftAge += age;
+                }
+            }
+        }
+        double rightRate = rightAge / sweepTicks( right );
+        double leftRate = leftAge / sweepTicks( left );
+        if ( rightRate != leftRate )
+        {
+            sweep = rightRate > leftRate ? 1 : -1;
+        }
+        robot.setTurnRadarRight( Math.toDegrees( sweep > 0 ? right : -left ) );
+    }
+
+
+    /**
+     * Gets how long the enemy seen longest ago has gone unseen, leaving one
+     * enemy out
+     *
+     * @param except enemy not counted (registry id)
+     * @return ticks since it was last seen (0 if there is no other enemy)
+     */
+    private long oldestAge( int except )
+    {
+        EnemyRegistry enemies = state.enemies;
+        long now = robot.getTime();
+        long oldest = 0;
+        for ( int id = 0; id < enemies.size(); id++ )
+        {
+            if ( id != except && enemies.isAlive( id ) )
+            {
+                oldest = Math.max( oldest, now - enemies.getLastSeen( id ) );
+            }
+        }
+        return oldest;
+    }
+
+
+    /**
+     * Radar turn that points at an enemy's estimated position
+     *
+     * @param id enemy (registry id)
+     * @return turn (radians, -PI to PI)
+     */
+    private double turnTo( int id )
+    {
+        EnemyFilter estimate = state.enemies.getFilter( id );
+        double bearing = Math.atan2( estimate.getX() - robot.getX(),
+                        estimate.getY() - robot.getY() );
+        return Utils.normalRelativeAngle( bearing
+                        - Math.toRadians( robot.getRadarHeading() ) );
+    }
+
+
+    /**
+     * Angle to sweep past an enemy's center so it cannot slip by
+     *
+     * @param id enemy (registry id)
+     * @return angle (radians)
+     */
+    private double overshoot( int id )
+    {
+        EnemyFilter estimate = state.enemies.getFilter( id );
+        double distance = Math.hypot( estimate.getX() - robot.getX(),
+                        estimate.getY() - robot.getY() );
+        return Math.atan( OVERSHOOT_WIDTH / Math.max( distance, 1 ) );
+    }
+
+
+    /**
+     * @param arc arc to sweep (radians)
+     * @return ticks the radar needs for it (at least 1)
+     */
+    private static double sweepTicks( double arc )
+    {
+        return Math.max( 1, Math.ceil( arc / Rules.RADAR_TURN_RATE_RADIANS ) );
+    }
+
+
+    /**
+     * Should track
+     *
+     * @param e               robotevent
+     * @param tracked         whether e is the robot being tracked
+     * @param trackedDistance distance to the robot being tracked
+     * @return is tracked
+     */
+    public boolean shouldTrack( ScannedRobotEvent e, boolean tracked,
+                    double trackedDistance )
+    {
+        // track if we have no enemy, the one we found is significantly
+        // closer, or we scanned the one we've been tracking.
+        // (no enemy means trackedDistance is infinite)
+        return ( e.getDistance() < trackedDistance
+                        || ( e.getEnergy() < 40
+                        && e.getDistance() < trackedDistance * 2 )
+                        || tracked );
+    }
+
+
+    /**
+     * Used to check whether robot that died
+     * was the one that you are tracking
+     *
+     * @param e event
+     * @return was previously tracking
+     */
+    public boolean wasTracking( RobotDeathEvent e )
+    {
+        return e.getName().equals( state.enemy.getName() );
+    }
+}
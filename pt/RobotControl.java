@@ -0,0 +1,56 @@
+package pt;
+
+/**
+ * Commands the parts can give our own robot
+ * <p/>
+ * All commands are the non-blocking set versions, taking effect on the next
+ * execute, exactly like the AdvancedRobot methods of the same name.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+public interface RobotControl extends RobotView
+{
+    /**
+     * @param distance distance to move (negative is backwards)
+     */
+    void setAhead( double distance );
+
+    /**
+     * @param radians body turn (negative is left)
+     */
+    void setTurnRightRadians( double radians );
+
+    /**
+     * @param degrees gun turn (negative is left)
+     */
+    void setTurnGunRight( double degrees );
+
+    /**
+     * @param degrees radar turn (negative is left)
+     */
+    void setTurnRadarRight( double degrees );
+
+    /**
+     * @param power bullet power
+     */
+    void setFire( double power );
+
+    /**
+     * @param independent whether the gun ignores body turns
+     */
+    void setAdjustGunForRobotTurn( boolean independent );
+
+    /**
+     * @param independent whether the radar ignores gun turns
+     */
+    void setAdjustRadarForGunTurn( boolean independent );
+
+    /**
+     * @param independent whether the radar ignores body turns
+     */
+    void setAdjustRadarForRobotTurn( boolean independent );
+}
@@ -0,0 +1,87 @@
+package pt;
+
+import robocode.AdvancedRobot;
+import robocode.RobocodeFileOutputStream;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+
+/**
+ * A robot's data directory, as the profile store sees it
+ * <p/>
+ * Reading goes through getDataDirectory and getDataFile. Robocode only lets
+ * a robot write with RobocodeFileOutputStream, which needs the game
+ * running, so hosts outside it override createOutput.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - RoboWiki Saving Data
+ *         http://robowiki.net/wiki/Saving_Data
+ * @version 10/18/26
+ */
+public class RobotDataFiles implements ProfileFiles
+{
+    ///Robot whose data directory this is
+    private final AdvancedRobot robot;
+
+
+    /**
+     * Constructor for RobotDataFiles
+     *
+     * @param robot robot whose data directory to use
+     */
+    public RobotDataFiles( AdvancedRobot robot )
+    {
+        this.robot = robot;
+    }
+
+
+    public String[] list()
+    {
+        String[] names = robot.getDataDirectory().list();
+        return names == null ? new String[0] : names;
+    }
+
+
+    public InputStream openInput( String fileName ) throws IOException
+    {
+        File file = robot.getDataFile( fileName );
+        return file.isFile() ? new FileInputStream( file ) : null;
+    }
+
+
+    public OutputStream openOutput( String fileName ) throws IOException
+    {
+        return createOutput( robot.getDataFile( fileName ) );
+    }
+
+
+    public long length( String fileName )
+    {
+        return robot.getDataFile( fileName ).length();
+    }
+
+
+    public long getQuotaAvailable()
+    {
+        return robot.getDataQuotaAvailable();
+    }
+
+
+    /**
+     * Opens a file in the data directory for writing
+     *
+     * @param file file to write
+     * @return stream
+     * @throws IOException if the file cannot be opened
+     */
+    protected OutputStream createOutput( File file ) throws IOException
+    {
+        return new RobocodeFileOutputStream( file );
+    }
+}
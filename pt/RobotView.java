@@ -0,0 +1,91 @@
+package pt;
+
+/**
+ * Read-only view of our own robot, as the parts see it
+ * <p/>
+ * Angles are in degrees unless the method name says radians, exactly like
+ * the Robocode getters of the same name.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+public interface RobotView
+{
+    /**
+     * @return x position
+     */
+    double getX();
+
+    /**
+     * @return y position
+     */
+    double getY();
+
+    /**
+     * @return body heading in degrees
+     */
+    double getHeading();
+
+    /**
+     * @return body heading in radians
+     */
+    double getHeadingRadians();
+
+    /**
+     * @return gun heading in degrees
+     */
+    double getGunHeading();
+
+    /**
+     * @return radar heading in degrees
+     */
+    double getRadarHeading();
+
+    /**
+     * @return gun heat
+     */
+    double getGunHeat();
+
+    /**
+     * @return gun turn still to do in degrees
+     */
+    double getGunTurnRemaining();
+
+    /**
+     * @return body turn still to do in radians
+     */
+    double getTurnRemainingRadians();
+
+    /**
+     * @return energy
+     */
+    double getEnergy();
+
+    /**
+     * @return velocity
+     */
+    double getVelocity();
+
+    /**
+     * @return battle field width
+     */
+    double getBattleFieldWidth();
+
+    /**
+     * @return battle field height
+     */
+    double getBattleFieldHeight();
+
+    /**
+     * @return other robots still alive
+     */
+    int getOthers();
+
+    /**
+     * @return battle time
+     */
+    long getTime();
+}
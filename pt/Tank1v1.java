@@ -0,0 +1,266 @@
+package pt;
+
+import robocode.util.Utils;
+
+
+/**
+ * Tank movement for Melee mode
+ *
+ * @author Pranav Prakash
+ * @author Period: 7
+ * @author Assignment: Robo05PartsBot
+ * @author Source 1: Robocode Acero Nanobot
+ *         http://robowiki.net/wiki/Acero
+ * @author Source 2: Robocode LemonDropBot
+ *         github.com/axelson/ICS606-Robocode/
+ * @version May 14, 2015
+ */
+public class Tank1v1 implements Tank
+{
+    ///Robot this part drives
+    private final RobotControl robot;
+
+    ///Knowledge shared with the other parts
+    private final CarverState state;
+
+    //Used to store current direction (forwards or backwards)
+    double direction = 1;
+
+    //Used in stop-go movement to store current state
+    int startStop = 0;
+
+    //Used in stop-go movement to flip forwards-backwards on wall hit
+    boolean flip = false;
+
+    //Keeps oscillating clear of the walls (the field never changes size)
+    private WallSmoother oscillateSmoother;
+
+    //Keeps stop-go movement clear of the walls
+    private WallSmoother stopGoSmoother;
+
+    //Dodges enemy bullets in wave surfing movement
+    private final WaveSurfer surfer;
+
+
+    /**
+     * Constructor for Tank1v1
+     *
+     * @param robot robot to drive
+     * @param state knowledge shared with the other parts
+     */
+    public Tank1v1( RobotControl robot, CarverState state )
+    {
+        this.robot = robot;
+        this.state = state;
+        surfer = new WaveSurfer( robot, state );
+    }
+
+
+    /**
+     * Initialize
+     */
+    public void init()
+    {
+        oscillateSmoother = new WallSmoother( 19.0,
+                        19.0,
+                        robot.getBattleFieldWidth() - 19,
+                        robot.getBattleFieldHeight() - 19 );
+        stopGoSmoother = new WallSmoother( 20.0,
+                        20.0,
+                        robot.getBattleFieldWidth() - 30,
+                        robot.getBattleFieldHeight() - 30 );
+        chooseBestMovement();
+    }
+
+
+    /**
+     * Choose best movement based on prior statistics
+     * <p/>
+     * Source: Robocode LemonDropBot
+     * github.com/axelson/ICS606-Robocode/
+     */
+    public void chooseBestMovement()
+    {
+        // Determining Most Effective Movement
+
+        //Get movement information
+        // (created the first time we meet an enemy)
+        MovementHistory hist = state.targetProfile();
+
+        synchronized ( hist )
+        {
+            // if we have died 3 times with each movement,
+            // time to consider switching
+            if ( hist.chosenMovement >= 315 )
+            {
+                // You have found tentative best movement
+                hist.bestMoveNotFound = 0;
+
+                if ( hist.move3Effectiveness > hist.move1Effectiveness
+                                && hist.move3Effectiveness
+                                > hist.move2Effectiveness )
+                {   //if movement 3 performed the best
+                    hist.chosenMovement = 250; // use movement 3
+                }
+                else if ( hist.move2Effectiveness > hist.move1Effectiveness )
+                {   //if movement 2 performed the best
+                    hist.chosenMovement = 150; // use movement 2
+                }
+                else
+                {
+                    // if movement 1 performed the best
+                    hist.chosenMovement = 0; // use movement 1
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Move randomly in order to counter pattern matching
+     * <p/>
+     * Source: Robocode Acero Nanobot
+     * http://robowiki.net/wiki/Acero
+     */
+    public void oscillate()
+    {
+
+        //Turn perpendicular to enemy, maintaining distance at 600
+        double goalDirection = ( Math.toRadians( state.enemy.getBearing() )
+                        + robot.getHeadingRadians() ) -
+                        ( Math.PI / 2 + ( ( state.enemy.getDistance() ) >= 600 ?
+                                        0 :
+                                        0.4 ) ) * direction;
+
+        //Wall smoothing code: if you are going to intersect wall in
+        // current path, turn just far enough towards the enemy
+        double wanted = goalDirection;
+        goalDirection = oscillateSmoother.smooth( robot.getX(), robot.getY(),
+                        goalDirection, direction > 0 ? 1 : -1, 120 );
+
+        //But sometimes turn the other direction to not be as predictable
+        // (1% for every 0.1 radians turned)
+        if ( state.random.nextDouble() < Math.abs( goalDirection - wanted )
+                        / 10 )
+            direction = -direction;
+
+        //Normalize direction
+        goalDirection = Utils.normalRelativeAngle(
+                        goalDirection - robot.getHeadingRadians() );
+
+        //Use tan function to get a periodic oscillator
+        // that is more irregular than sin or cos
+        robot.setTurnRightRadians( Math.tan( goalDirection ) );
+
+        //If angle to enemy becomes too steep move the other direction
+        robot.setAhead( 100 * ( Math.abs( goalDirection ) > Math.PI / 2 ?
+                        -1 :
+                        1 ) );
+
+        //Random direction swapping
+        if ( state.random.nextDouble() < .04 )
+            direction = -direction;
+    }
+
+
+    /**
+     * Move start/stop to counter linear+circular targeting
+     * <p/>
+     * Source: Robocode Acero Nanobot
+     * http://robowiki.net/wiki/Acero
+     */
+    public void stopAndGo()
+    {
+
+        // Stop & Go
+        // Second type of movement
+
+        // Square off (perpendicular) against enemy
+        // flipping if necessary (to back out from walls)
+        double goalDirection = ( Math.toRadians( state.enemy.getBearing() )
+                        + robot.getHeadingRadians() ) - ( flip ?
+                        -Math.PI / 2 :
+                        Math.PI / 2 );
+
+        // Wall smoothing code: if you are going to intersect wall in
+        // current path, turn just far enough the other way
+        goalDirection = stopGoSmoother.smooth( robot.getX(), robot.getY(),
+                        goalDirection, -1, 100 );
+
+        //Indicate that we need to change our goal direction to back out
+        if ( stopGoSmoother.hasTurned() )
+            flip = !flip;
+
+        //Normalize direction
+        goalDirection = Utils.normalRelativeAngle(
+                        goalDirection - robot.getHeadingRadians() );
+
+        //Use tan periodicity to make it not so easy to predict
+        robot.setTurnRightRadians( Math.tan( goalDirection ) );
+
+        //Does three things:
+
+        //Choose random dist (min 50) in your start-stop movements
+        //Avoid becoming too parallel to enemy (angle to steep)
+        //Only move if startStop = 1
+        robot.setAhead( ( 50 + state.random.nextDouble() * 50 ) * (
+                        Math.abs( goalDirection ) > Math.PI / 2 ? -1 : 1 )
+                        * startStop );
+
+        //When we detect an energy drop, assume bullet fired
+        if ( state.enemy.getPreviousEnergy() > ( state.enemy.getEnergy() ) )
+        { // if the enemy fires
+            if ( startStop == 0 )
+            { // and we aren't moving,
+                startStop = 1; // move.
+            }
+            else
+            { // but if we are moving,
+                startStop = 0; // stop.
+            }
+        }
+
+    }
+
+
+    /**
+     * Surf the enemy's bullets to counter guess factor targeting
+     * <p/>
+     * Source: RoboWiki Wave Surfing Tutorial
+     * http://robowiki.net/wiki/Wave_Surfing_Tutorial
+     */
+    public void surf()
+    {
+        surfer.update();
+        surfer.move();
+    }
+
+
+    /**
+     * Dispatches to appropriate move method
+     * based on currently chosen movement
+     * <p/>
+     * Source: Robocode LemonDropBot
+     * github.com/axelson/ICS606-Robocode/
+     */
+    public void move()
+    {
+        chooseBestMovement();
+        MovementHistory hist = state.targetProfile();
+        if ( hist.chosenMovement < 105 )
+        {
+            oscillate();
+            state.isMovementOne = true;
+        }
+        else if ( hist.chosenMovement >= 105 && hist.chosenMovement < 210 )
+        {
+            stopAndGo();
+            state.isMovementOne = false;
+        }
+        else
+        {
+            surf();
+            state.isMovementOne = false;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package pt;
+
+import robocode.util.Utils;
+
+
+/**
+ * Tank movement for Melee mode
+ * <p/>
+ * Each turn every living enemy's estimated position and energy is handed to
+ * MinimumRisk, which scores candidate destinations against all of them and
+ * keeps the least risky; the tank then drives there, backwards when that
+ * turns less.
+ *
+ * @author Pranav Prakash
+ * @author Period: 7
+ * @author Assignment: Robo05PartsBot
+ * @author Sources: RoboWiki Minimum Risk Movement
+ *         http://robowiki.net/wiki/Minimum_Risk_Movement
+ * @version May 14, 2015
+ */
+public class TankMelee implements Tank
+{
+    ///Robot this part drives
+    private final RobotControl robot;
+
+    ///Knowledge shared with the other parts
+    private final CarverState state;
+
+    //Ticks between samples of where we were
+    private static final int LAST_TICKS = 10;
+
+    //Scores candidate destinations against the enemies
+    private final MinimumRisk risk = new MinimumRisk();
+
+    //Where we were up to LAST_TICKS ago
+    private double lastX, lastY;
+
+    //Time of that sample
+    private long lastTime = -LAST_TICKS;
+
+
+    /**
+     * Constructor for TankMelee
+     *
+     * @param robot robot to drive
+     * @param state knowledge shared with the other parts
+     */
+    public TankMelee( RobotControl robot, CarverState state )
+    {
+        this.robot = robot;
+        this.state = state;
+    }
+
+
+    /**
+     * Initialize
+     */
+    public void init()
+    {
+        risk.setField( robot.getBattleFieldWidth(),
+                        robot.getBattleFieldHeight() );
+        risk.reset();
+    }
+
+
+    /**
+     * Move the tank to the least risky destination
+     */
+    public void move()
+    {
+        double x = robot.getX();
+        double y = robot.getY();
+        long now = robot.getTime();
+        if ( now - lastTime >= LAST_TICKS || now < lastTime )
+        {
+            lastX = x;
+            lastY = y;
+            lastTime = now;
+        }
+
+        //Load every living enemy we have seen
+        EnemyRegistry enemies = state.enemies;
+        int shooter = state.bul.none() ?
+                        EnemyRegistry.NONE :
+                        enemies.idOf( state.bul.getName() );
+        risk.clearEnemies();
+        for ( int id = 0; id < enemies.size(); id++ )
+        {
+            if ( enemies.isAlive( id ) && enemies.getScans( id ) > 0 )
+            {
+                EnemyFilter estimate = enemies.getFilter( id );
+                risk.addEnemy( estimate.getX(), estimate.getY(),
+                                enemies.getEnergy( id, 0 ), id == shooter );
+            }
+        }
+
+        risk.choose( x, y, robot.getEnergy(), lastX, lastY, state.random );
+        if ( !risk.hasGoal() )
+        {
+            return;
+        }
+
+        //Drive there, backwards if that turns less
+        double dx = risk.getGoalX() - x;
+        double dy = risk.getGoalY() - y;
+        double turn = Utils.normalRelativeAngle( Math.atan2( dx, dy )
+                        - robot.getHeadingRadians() );
+        double distance = Math.sqrt( dx * dx + dy * dy );
+        if ( Math.abs( turn ) > Math.PI / 2 )
+        {
+            turn = Utils.normalRelativeAngle( turn + Math.PI );
+            distance = -distance;
+        }
+        robot.setTurnRightRadians( turn );
+        robot.setAhead( distance );
+    }
+}
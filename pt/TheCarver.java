@@ -1,12 +1,9 @@
 package pt;
 
 import robocode.*;
-import robocode.util.Utils;
 
 import java.awt.*;
-import java.awt.geom.Point2D;
-import java.awt.geom.Rectangle2D;
-import java.util.HashMap;
+import java.util.Random;
 
 
 /**
@@ -16,14 +13,15 @@ import java.util.HashMap;
  * <p/>
  * 1v1 Mode:
  * Perfect lock radar with 1pt beam diameter
- * Switches between two different movement patterns based on win rate
+ * Switches between three different movement patterns based on win rate
  * Randomized movement designed to counter pattern matching
  * Stop/go movement designed to counter linear/radial prediction
+ * Wave surfing to dodge where the enemy's bullets have hit before
  * <p/>
  * Melee Mode:
- * Corner movement
- * Sweeping radar that chooses target based on various factors
- * Switches beam diameter at regular intervals
+ * Minimum risk movement away from every enemy's position, energy and aim
+ * Radar that sweeps toward the enemy scanned longest ago
+ * Locks on the target just before firing, unless another enemy goes stale
  * Switches into 1v1 mode when necessary
  *
  * @author Pranav Prakash
@@ -34,15 +32,19 @@ import java.util.HashMap;
  */
 public class TheCarver extends AdvancedRobot
 {
-    ///Hold information about currently targetted enemy (heading, speed, etc.)
-    private AdvancedEnemyBot enemy = new AdvancedEnemyBot();
+    ///What we know, shared with the parts
+    private final CarverState state;
 
-    ///Hold information about the last bullet that impacted me
-    private BulletLocation bul = new BulletLocation();
+    ///What the parts drive (this robot)
+    private final RobotControl control = new AdvancedRobotControl( this );
 
     ///Array of hot-swappable modular robot parts
     private RobotPart[] parts = new RobotPart[3]; // make three parts
 
+    ///Runs the parts once per turn
+    private final TickPipeline pipeline = new TickPipeline();
+
+
     ///Indices of those parts
 
     ///Radar is index 0
@@ -54,20 +56,53 @@ public class TheCarver extends AdvancedRobot
     ///Tank is index 2
     private final static int TANK = 2;
 
-    ///Hold the current beam diameter
-    double scanWidth = -1;
-
     ///Threshold to switch into 1v1 mode from melee mode
     private final int ONEvONE_THRESHOLD = 1;
 
-    ///Whether we are in melee mode right now
-    boolean isMeleeMode = false;
 
-    ///Check whether our current movement schema is the first one (Oscillating)
-    boolean isMovementOne = true;
+    /**
+     * Constructor used by Robocode, sharing profiles like a static would
+     */
+    public TheCarver()
+    {
+        this( ProfileStore.create( ProfileStore.SharePolicy.SHARED ) );
+    }
+
+
+    /**
+     * Constructor for hosts that decide how profiles are shared
+     *
+     * @param profiles profile store to learn into
+     */
+    protected TheCarver( ProfileStore profiles )
+    {
+        this( profiles, new Random() );
+    }
+
+
+    /**
+     * Constructor for hosts that also decide the robot's random numbers,
+     * so a battle can be played again exactly
+     *
+     * @param profiles profile store to learn into
+     * @param random   random numbers for the parts
+     */
+    protected TheCarver( ProfileStore profiles, Random random )
+    {
+        state = new CarverState( profiles, random );
+        setUpPipeline();
+    }
+
 
-    /// Hashmap mapping enemy to prior win statistics
-    static HashMap<String, MovementHistory> moveHistoryMap = new HashMap<String, MovementHistory>();
+    /**
+     * Gets the profile store this robot learns into
+     *
+     * @return profile store
+     */
+    public ProfileStore getProfiles()
+    {
+        return state.getProfiles();
+    }
 
 
     /**
@@ -81,32 +116,7 @@ public class TheCarver extends AdvancedRobot
      */
     public double absoluteBearing( double x1, double y1, double x2, double y2 )
     {
-        double xo = x2 - x1;
-        double yo = y2 - y1;
-        double hyp = Point2D.distance( x1, y1, x2, y2 );
-        double arcSin = Math.toDegrees( Math.asin( xo / hyp ) );
-        double bearing = 0;
-
-        if ( xo > 0 && yo > 0 )
-        { // both pos: lower-Left
-            bearing = arcSin;
-        }
-        else if ( xo < 0 && yo > 0 )
-        { // x neg, y pos: lower-right
-            bearing = 360 + arcSin; // arcsin is negative here, actually 360 -
-            // ang
-        }
-        else if ( xo > 0 && yo < 0 )
-        { // x pos, y neg: upper-left
-            bearing = 180 - arcSin;
-        }
-        else if ( xo < 0 && yo < 0 )
-        { // both neg: upper-right
-            bearing = 180 - arcSin; // arcsin is negative here, actually 180 +
-            // ang
-        }
-
-        return bearing;
+        return Angles.absoluteBearing( x1, y1, x2, y2 );
     }
 
 
@@ -118,16 +128,7 @@ public class TheCarver extends AdvancedRobot
      */
     public double normalizeBearing( double angle )
     {
-        //Subtracts multiples of 360 degrees until angle is between [-180, 180]
-        while ( angle > 180 )
-        {
-            angle -= 360;
-        }
-        while ( angle < -180 )
-        {
-            angle += 360;
-        }
-        return angle;
+        return Angles.normalizeBearing( angle );
     }
 
 
@@ -145,22 +146,131 @@ public class TheCarver extends AdvancedRobot
 
         setColors( bodyColor, gunColor, radarColor, bulletColor, scanArcColor );
 
+        setUpParts();
+
+        // one pass of the pipeline per turn
+        while ( true )
+        {
+            runTick();
+        }
+    }
+
+
+    /**
+     * Hands the pipeline the work for each stage
+     */
+    private void setUpPipeline()
+    {
+        //Time every stage so expensive parts can cut back near the limit
+        pipeline.setTimer( state.budget );
+        pipeline.setStage( TickPipeline.Stage.SENSE, new Runnable()
+        {
+            public void run()
+            {
+                sense();
+            }
+        } );
+        pipeline.setStage( TickPipeline.Stage.PREDICT, new Runnable()
+        {
+            public void run()
+            {
+                state.predict( control );
+            }
+        } );
+        pipeline.setStage( TickPipeline.Stage.RADAR, new PartMover( RADAR ) );
+        pipeline.setStage( TickPipeline.Stage.GUN, new PartMover( GUN ) );
+        pipeline.setStage( TickPipeline.Stage.TANK, new PartMover( TANK ) );
+        pipeline.setStage( TickPipeline.Stage.EXECUTE, new Runnable()
+        {
+            public void run()
+            {
+                //Events arriving during execute belong to the next turn
+                state.snapshot.clear();
+                execute();
+            }
+        } );
+    }
+
+
+    /**
+     * Moves whichever part is in a slot (parts change with the mode)
+     */
+    private class PartMover implements Runnable
+    {
+        ///Slot in parts
+        private final int index;
+
+
+        /**
+         * Constructor for PartMover
+         *
+         * @param index slot in parts
+         */
+        PartMover( int index )
+        {
+            this.index = index;
+        }
+
+
+        public void run()
+        {
+            // polymorphism galore!
+            parts[index].move();
+        }
+    }
+
+
+    /**
+     * Gets the pipeline that runs each turn
+     *
+     * @return pipeline
+     */
+    public TickPipeline getPipeline()
+    {
+        return pipeline;
+    }
+
+
+    /**
+     * Gets the CPU budget, with this round's statistics
+     *
+     * @return budget
+     */
+    public CpuBudget getBudget()
+    {
+        return state.budget;
+    }
+
+
+    /**
+     * Chooses parts for melee or 1v1 mode and initializes them
+     */
+    protected void setUpParts()
+    {
+        // keep profiles in this robot's data directory
+        state.profiles.setFiles( createDataFiles() );
+        if ( getRoundNum() == 0 )
+        {
+            //Read saved profiles now, so no turn waits on the disk
+            state.profiles.preload();
+        }
+
         // If melee mode
         if ( getOthers() > ONEvONE_THRESHOLD )
         {
-            System.out.println( "Melee Mode" );
-            isMeleeMode = true;
-            parts[RADAR] = new RadarMelee();
-            parts[GUN] = new Gun();
-            parts[TANK] = new TankMelee();
+            out.println( "Melee Mode" );
+            state.isMeleeMode = true;
+            parts[RADAR] = new RadarMelee( control, state );
+            parts[GUN] = new VirtualGuns( control, state );
+            parts[TANK] = new TankMelee( control, state );
         }
         else // If one on one
         {
-            System.out.println( "1v1 Mode" );
-            isMeleeMode = false;
-            parts[RADAR] = new Radar1v1();
-            parts[GUN] = new Gun();
-            parts[TANK] = new Tank1v1();
+            out.println( "1v1 Mode" );
+            state.isMeleeMode = false;
+            parts[RADAR] = new Radar1v1( control, state );
+            parts[GUN] = new VirtualGuns( control, state );
+            parts[TANK] = new Tank1v1( control, state );
         }
 
         // initialize each part
@@ -169,19 +279,36 @@ public class TheCarver extends AdvancedRobot
             // behold, the magic of polymorphism
             part.init();
         }
+    }
 
-        // iterate through each part, moving them as we go
-        int i = 0;
-        while ( true )
-        {
-            // polymorphism galore!
-            parts[i].move();
-            if ( i == 0 )
-            {
-                execute();
-            }
-            i = ( i + 1 ) % parts.length;
-        }
+
+    /**
+     * Gets the data files profiles are loaded from and saved to
+     *
+     * @return this robot's data directory
+     */
+    protected ProfileFiles createDataFiles()
+    {
+        return new RobotDataFiles( this );
+    }
+
+
+    /**
+     * Runs one turn: sense, predict, radar, gun, tank, then execute
+     */
+    protected void runTick()
+    {
+        pipeline.runTick();
+    }
+
+
+    /**
+     * Takes in everything that happened since last turn, in one pass
+     */
+    private void sense()
+    {
+        //Downcast the robot part to a radar (which is itself an interface)
+        state.sense( (Radar)parts[RADAR], control );
     }
 
 
@@ -192,21 +319,8 @@ public class TheCarver extends AdvancedRobot
      */
     public void onScannedRobot( ScannedRobotEvent e )
     {
-        //Downcast the robot part to a radar (which is itself an interface)
-        Radar radar = (Radar)parts[RADAR];
-
-        //If you are currently tracking this bot
-        // or (for Melee mode) if it is the bot that shot at you
-        if ( radar.shouldTrack( e ) || e.getName().equals( bul.getName() ) )
-        {
-            //Reset volatile bullet info
-            // (no longer needed as you have found your enemy)
-            if ( e.getName().equals( bul.getName() ) )
-                bul.reset();
-
-            //Update enemy information
-            enemy.update( e, this, getTime() );
-        }
+        //Taken in by the SENSE stage at the start of next turn
+        state.snapshot.addScan( e );
     }
 
 
@@ -217,21 +331,47 @@ public class TheCarver extends AdvancedRobot
      */
     public void onHitByBullet( HitByBulletEvent event )
     {
-        //Increase scan width so that (in Melee mode) robots are easier to find
-        if ( getEnergy() > 30 )
-        {
-            if ( scanWidth != -1 )
-                scanWidth += 5;
-            //Update bullet information (velocity, bearing, etc.)
-            bul.update( event );
-        }
+        //Taken in by the SENSE stage at the start of next turn
+        state.snapshot.addHit( event );
+    }
 
-        //Get out of the way
-        setAhead( 100 );
 
-        //Debugging information
-        //System.out.println( "Ouch. Speed:" + bul.getVelocity() );
+    /**
+     * Action to take when one of our bullets hits a robot
+     *
+     * @param event BulletHitEvent
+     */
+    public void onBulletHit( BulletHitEvent event )
+    {
+        //Taken in by the SENSE stage at the start of next turn
+        state.snapshot.addShot( event.getBullet(),
+                        TickSnapshot.ShotResult.HIT );
+    }
+
 
+    /**
+     * Action to take when one of our bullets leaves the battlefield
+     *
+     * @param event BulletMissedEvent
+     */
+    public void onBulletMissed( BulletMissedEvent event )
+    {
+        //Taken in by the SENSE stage at the start of next turn
+        state.snapshot.addShot( event.getBullet(),
+                        TickSnapshot.ShotResult.MISSED );
+    }
+
+
+    /**
+     * Action to take when one of our bullets hits another bullet
+     *
+     * @param event BulletHitBulletEvent
+     */
+    public void onBulletHitBullet( BulletHitBulletEvent event )
+    {
+        //Taken in by the SENSE stage at the start of next turn
+        state.snapshot.addShot( event.getBullet(),
+                        TickSnapshot.ShotResult.CANCELLED );
     }
 
 
@@ -242,6 +382,9 @@ public class TheCarver extends AdvancedRobot
      */
     public void onHitRobot( HitRobotEvent e )
     {
+        //Taken in by the SENSE stage at the start of next turn
+        state.snapshot.addRam( e.getName() );
+
         //Fire with maximum power since we are head to head
         double turnGunAmt = normalizeBearing(
                         e.getBearing() + getHeading() - getGunHeading() );
@@ -250,6 +393,18 @@ public class TheCarver extends AdvancedRobot
     }
 
 
+    /**
+     * Action to take when Robocode skipped our turn for thinking too long
+     *
+     * @param event SkippedTurnEvent
+     */
+    public void onSkippedTurn( SkippedTurnEvent event )
+    {
+        //Cut expensive work right away
+        state.budget.turnSkipped();
+    }
+
+
     /**
      * Action to take if we hit a wall
      *
@@ -258,7 +413,7 @@ public class TheCarver extends AdvancedRobot
     public void onHitWall( HitWallEvent event )
     {
         //Should never happen
-        System.out.println( "Ouch. I hit a wall" );
+        out.println( "Ouch. I hit a wall" );
     }
 
 
@@ -275,37 +430,50 @@ public class TheCarver extends AdvancedRobot
     {
         // If movement is unsuccessful, switch to a new movement.
 
-        if ( !isMeleeMode ) //Only switch movement if we lose in 1v1 mode
+        if ( !state.isMeleeMode ) //Only switch movement if we lose in 1v1 mode
         {
             //Get the previous win rates against current enemy
-            MovementHistory hist = moveHistoryMap.get( enemy.getName() );
-
-            //Debugging info
-            System.out.println( ( hist.chosenMovement < 105 ) ?
-                            "Oscillate" :
-                            "StopGo" );
+            MovementHistory hist = state.targetProfile();
 
-            //If we lose and haven't won three with movement 1 yet,
-            // gradually switch to movement 2
-            if ( hist.winsWithMovement1 < 3 )
+            //Teammates may share this history, so hold it while we change it
+            synchronized ( hist )
             {
-                hist.chosenMovement += ( 35 * hist.bestMoveNotFound );
-                // Increase movement number if we haven't found best movement
-                // yet (when bestMoveNotFound = 1)
-            }
+                //Debugging info
+                out.println( ( hist.chosenMovement < 105 ) ?
+                                "Oscillate" :
+                                ( hist.chosenMovement < 210 ) ?
+                                                "StopGo" :
+                                                "Surf" );
+
+                //If we lose and haven't won three with movement 1 yet,
+                // gradually switch to movement 2
+                if ( hist.winsWithMovement1 < 3 )
+                {
+                    hist.chosenMovement += ( 35 * hist.bestMoveNotFound );
+                    // Increase movement number if we haven't found best
+                    // movement yet (when bestMoveNotFound = 1)
+                }
 
-            //Update win frequencies
-            if ( hist.chosenMovement < 110 )    // If we are using movement 1
-            {
-                hist.move1Effectiveness =
-                                hist.move1Effectiveness - enemy.getEnergy();
-                // record how much energy the enemy had left
-            }
-            else // and if we are using movement 2
-            {
-                hist.move2Effectiveness =
-                                hist.move2Effectiveness - enemy.getEnergy();
-                // record how much energy the enemy had left
+                //Update win frequencies
+                if ( hist.chosenMovement < 110 ) // If we are using movement 1
+                {
+                    hist.move1Effectiveness = hist.move1Effectiveness
+                                    - state.enemy.getEnergy();
+                    // record how much energy the enemy had left
+                }
+                else if ( hist.chosenMovement < 245 )
+                {
+                    // and if we are using movement 2
+                    hist.move2Effectiveness = hist.move2Effectiveness
+                                    - state.enemy.getEnergy();
+                    // record how much energy the enemy had left
+                }
+                else // and if we are using movement 3
+                {
+                    hist.move3Effectiveness = hist.move3Effectiveness
+                                    - state.enemy.getEnergy();
+                    // record how much energy the enemy had left
+                }
             }
         }
     }
@@ -323,709 +491,117 @@ public class TheCarver extends AdvancedRobot
     {
         // If movement is successful, increment current movement effectiveness
 
-        if ( !isMeleeMode ) //Only record data  if we win in 1v1 mode
+        if ( !state.isMeleeMode ) //Only record data  if we win in 1v1 mode
         {
             //Get the previous win rates against current enemy
-            MovementHistory hist = moveHistoryMap.get( enemy.getName() );
-
-            //Debugging info
-            System.out.println( ( hist.chosenMovement < 105 ) ?
-                            "Oscillate" :
-                            "StopGo" );
+            MovementHistory hist = state.targetProfile();
 
-            if ( hist.chosenMovement < 1 )  // and are using movement 1
-            {
-                // record how much energy we had left
-                hist.move1Effectiveness = hist.move1Effectiveness + getEnergy();
-
-                // add a win to the movement 1 counter
-                hist.winsWithMovement1 += 1;
-            }
-            else // and if we are using movement 2
+            //Teammates may share this history, so hold it while we change it
+            synchronized ( hist )
             {
-                // record how much energy we had left
-                hist.move2Effectiveness = hist.move2Effectiveness + getEnergy();
-            }
-        }
-    }
-
-
-    /**
-     * When an enemy robot dies
-     *
-     * @param e RobotDeathEvent
-     */
-    public void onRobotDeath( RobotDeathEvent e )
-    {
-        //Downcast to a Radar object
-        Radar radar = (Radar)parts[RADAR];
-
-        // If it is now 1v1, switch out parts
-        if ( getOthers() != 0 && getOthers() <= ONEvONE_THRESHOLD )
-        {
-            System.out.println( "Switched to 1v1 mode" );
-            isMeleeMode = false;
-            parts[RADAR] = new Radar1v1();
-            parts[GUN] = new Gun();
-            parts[TANK] = new Tank1v1();
-
-            // initialize each part
-            for ( RobotPart part : parts )
-            {
-                // behold, the magic of polymorphism
-                part.init();
-            }
-
-        }
-
-        //If the robot that died was the one that hit us, reset
-        if ( e.getName().equals( bul.getName() ) )
-        {
-            bul.reset();
-        }
-
-        //If the robot that died was our current enemy, reset
-        if ( radar.wasTracking( e ) )
-        {
-            enemy.reset();
-        }
-    }
-
-
-    /**
-     * Melee Radar
-     *
-     * @author Pranav Prakash
-     * @author Period: 7
-     * @author Assignment: Robo05PartsBot
-     * @author Source: RoboWiki Perfect Width Lock Radar
-     *         http://robowiki.net/wiki/One_on_One_Radar
-     * @version May 14, 2015
-     */
-    public class RadarMelee implements Radar
-    {
-
-        /**
-         * Initialize variables and call needed methods
-         */
-        public void init()
-        {
-            //Initialize variables
-            setAdjustRadarForGunTurn( true );
-            setAdjustRadarForRobotTurn( true );
-            setTurnRadarRight( 3600 );
-            scanWidth = 100;
-        }
-
-
-        /**
-         * Movement for radar
-         */
-        public void move()
-        {
-            //If we have not found our enemy
-            // (either through stored EnemyBot or through last bullet info)
-            if ( !bul.none() && !enemy.getName().equals( bul.getName() ) )
-            {
-                // Absolute angle towards target
-                double enemyHeading = getHeading() + bul.getBearing();
-
-                // Subtract current radar heading to get the turn required to
-                // face the enemy, be sure it is normalized
-                double radarTurn = normalizeBearing(
-                                enemyHeading - getRadarHeading() );
+                //Debugging info
+                out.println( ( hist.chosenMovement < 105 ) ?
+                                "Oscillate" :
+                                ( hist.chosenMovement < 210 ) ?
+                                                "StopGo" :
+                                                "Surf" );
+
+                if ( hist.chosenMovement < 1 )  // and are using movement 1
+                {
+                    // record how much energy we had left
+                    hist.move1Effectiveness = hist.move1Effectiveness
+                                    + getEnergy();
 
-                //Turn radar
-                setTurnRadarRight( radarTurn );
-            }
-            else if ( enemy.none() )
-            {
-                // If no enemy currently found, keep spinning
-                setTurnRadarRight( 3600 );
-                scanWidth = 100;
-            }
-            else  // If no enemy currently found, keep spinning
-            {
-                //If our gun heat is too high, we can't shoot
-                // anyway so keep searching for best enemy
-                if ( getGunHeat() > 2 )
+                    // add a win to the movement 1 counter
+                    hist.winsWithMovement1 += 1;
+                }
+                else if ( hist.chosenMovement < 210 )
                 {
-                    //Keep increasing scanwidth to find enemies faster
-                    scanWidth = Math.min( scanWidth + 1, 10 );
+                    // and if we are using movement 2
+                    // record how much energy we had left
+                    hist.move2Effectiveness = hist.move2Effectiveness
+                                    + getEnergy();
                 }
-                else if ( scanWidth > 4 )
+                else // and if we are using movement 3
                 {
-                    //Else if we have locked onto a bot,
-                    // gradually narrow beam width
-                    scanWidth--;
+                    // record how much energy we had left
+                    hist.move3Effectiveness = hist.move3Effectiveness
+                                    + getEnergy();
                 }
-
-                // Absolute angle towards target
-                double enemyHeading = getHeading() + enemy.getBearing();
-
-                // Subtract current radar heading to get the turn required to
-                // face the enemy, be sure it is normalized
-                double radarTurn = normalizeBearing(
-                                enemyHeading - getRadarHeading() );
-
-                // Distance we want to scan from middle of enemy to either side
-                // scanWidth is how many units from the center of the enemy
-                // robot it scans.
-                double extraScan = Math.min( scanWidth + Math.atan(
-                                                scanWidth / enemy.getDistance()
-                                                                * 180 / 3.14 ),
-                                50 );
-
-                // Adjust the radar turn so it goes that much further in the
-                // direction it is going to turn
-                // Basically if we were going to turn it left, turn it even more
-                // left, if right, turn more right.
-                // This allows us to overshoot our enemy so that we get a good
-                // sweep that will not slip.
-                radarTurn += radarTurn >= 0 ? extraScan : -extraScan;
-
-                //Turn radar
-                setTurnRadarRight( radarTurn );
-
-            }
-        }
-
-
-        /**
-         * Should track
-         *
-         * @param e robotevent
-         * @return is tracked
-         */
-        public boolean shouldTrack( ScannedRobotEvent e )
-        {
-            // track if we have no enemy, the one we found is significantly
-            // closer, or we scanned the one we've been tracking.
-            return ( ( enemy.none() || e.getDistance() < enemy.getDistance()
-                            || ( e.getEnergy() < 40
-                            && e.getDistance() < enemy.getDistance() * 2 )
-                            || e.getName().equals( enemy.getName() ) ) );
-        }
-
-
-        /**
-         * Used to check whether robot that died
-         * was the one that you are tracking
-         *
-         * @param e event
-         * @return was previously tracking
-         */
-        public boolean wasTracking( RobotDeathEvent e )
-        {
-            return e.getName().equals( enemy.getName() );
-        }
-    }
-
-
-    /**
-     * 1v1 Radar
-     *
-     * @author Pranav Prakash
-     * @author Period: 7
-     * @author Assignment: Robo05PartsBot
-     * @author Source: RoboWiki Perfect Width Lock Radar
-     *         http://robowiki.net/wiki/One_on_One_Radar
-     * @version May 14, 2015
-     */
-    public class Radar1v1 implements Radar
-    {
-        /**
-         * Initializes by calling needed methods
-         */
-        public void init()
-        {
-            setAdjustRadarForGunTurn( true );
-            setAdjustRadarForRobotTurn( true );
-            setTurnRadarRight( 3600 );
-        }
-
-
-        /**
-         * Movement for 1v1 radar
-         */
-        public void move()
-        {
-            ///Stores the scan width
-            double scanWidth = 1.0;
-
-            if ( enemy.none() )
-            {
-                //If no enemy found, keep spinning
-                setTurnRadarRight( 3600 );
-            }
-            else
-            {
-                // Absolute angle towards target
-                double enemyHeading = getHeading() + enemy.getBearing();
-
-                // Subtract current radar heading to get the turn required to
-                // face the enemy, be sure it is normalized
-                double radarTurn = normalizeBearing(
-                                enemyHeading - getRadarHeading() );
-
-                // Distance we want to scan from middle of enemy to either side
-                // scanWidth is how many units from the center of the enemy
-                // robot it scans.
-                double extraScan = Math.min( Math.atan(
-                                                scanWidth / enemy.getDistance()
-                                                                * 180 / 3.14 ),
-                                45 );
-
-                // Adjust the radar turn so it goes that much further in the
-                // direction it is going to turn
-                // Basically if we were going to turn it left, turn it even more
-                // left, if right, turn more right.
-                // This allows us to overshoot our enemy so that we get a good
-                // sweep that will not slip.
-                radarTurn += radarTurn >= 0 ? extraScan : -extraScan;
-
-                //Turn radar
-                setTurnRadarRight( radarTurn );
-
             }
         }
-
-
-        /**
-         * Should track
-         *
-         * @param e ScannedRobotEvent
-         * @return is tracked
-         */
-        public boolean shouldTrack( ScannedRobotEvent e )
-        {
-            // track if we have no enemy, the one we found is significantly
-            // closer, or we scanned the one we've been tracking.
-            return ( enemy.none() || e.getDistance() < enemy.getDistance() - 70
-                            || e.getName().equals( enemy.getName() ) );
-        }
-
-
-        /**
-         * Check whether previously tracking
-         *
-         * @param e RobotDeathEvent
-         * @return was previously tracking
-         */
-        public boolean wasTracking( RobotDeathEvent e )
-        {
-            // checks if robot that died is robot we targeted
-            return e.getName().equals( enemy.getName() );
-        }
     }
 
 
     /**
-     * Robot gun
+     * Writes the profiles dropped from memory during the round
      *
-     * @author Pranav Prakash
-     * @author Period: 7
-     * @author Assignment: Robo05PartsBot
-     * @author Sources: PartsBot
-     * @version May 14, 2015
+     * @param event RoundEndedEvent
      */
-    public class Gun implements RobotPart
+    public void onRoundEnded( RoundEndedEvent event )
     {
-        /**
-         * Initialize
-         */
-        public void init()
-        {
-            // divorce gun movement from tank movement
-            setAdjustGunForRobotTurn( true );
-        }
-
-
-        /**
-         * Handle gun movement and shooting
-         * <p/>
-         * Source: IBM Robocode Secrets
-         * ibm.com/developerworks/library/j-circular/
-         */
-        public void move()
-        {
-            // don't shoot if I've got no enemy
-            if ( enemy.none() )
-            {
-                // exit method
-                return;
-            }
-
-            // calculate fire-power based on distance
-            // 3 is maximum firepower for robot
-            // 1.2 is a good average low-power constant value
-            double firePower = ( getEnergy() > 20 ) ?
-                            Math.min( 500 / enemy.getDistance(), 3 ) :
-                            1.2;
-
-            //Use linear prediction if we are oscillating
-            // or enemy movement is locally linear
-            if ( enemy.isLinear() || isMovementOne )
-            {
-                // calculate speed of bullet
-                double bulletSpeed = 20 - firePower * 3;
-                // distance = rate * time, solved for time
-                long time = (long)( enemy.getDistance() / bulletSpeed );
-
-                // calculate gun turn to predicted x,y location
-                double futureX = enemy.getFutureXLinear( time );
-                double futureY = enemy.getFutureYLinear( time );
-
-                double absDeg = absoluteBearing( getX(),
-                                getY(),
-                                futureX,
-                                futureY );
-
-                // turn the gun to the predicted x,y location
-                setTurnGunRight( normalizeBearing( absDeg - getGunHeading() ) );
-            }
-            else //If we are using stop go then circular is almost always better
-            {
-                // calculate speed of bullet
-                double bulletSpeed = 20 - firePower * 3;
-
-                // distance = rate * time, solved for time
-                long time = (long)( enemy.getDistance() / bulletSpeed );
-
-                // calculate gun turn to predicted x,y location
-                double futureX = enemy.getX();
-                double futureY = enemy.getY();
-
-                //iterate to refine circular approximation
-                for ( int i = 0; i < 10; i++ )
-                {
-                    //Compute new time as distance / rate
-                    time = (long)( Point2D.distance( getX(),
-                                    getY(),
-                                    futureX,
-                                    futureY ) / bulletSpeed );
-
-                    //Get new, better futureX and futureY coordinates
-                    futureX = enemy.getFutureXCircular( time );
-                    futureY = enemy.getFutureYCircular( time );
-                }
-
-                //Find the absolute heading of future enemy
-                double absDeg = absoluteBearing( getX(),
-                                getY(),
-                                futureX,
-                                futureY );
-
-                // turn the gun to the predicted angle
-                setTurnGunRight( normalizeBearing( absDeg - getGunHeading() ) );
-            }
-
-            // if the gun is cool and we're pointed in the right direction,
-            // shoot!
-            if ( getGunHeat() == 0 && Math.abs( getGunTurnRemaining() ) < 10 )
-            {
-                setFire( firePower );
-            }
-        }
+        state.profiles.flush();
     }
 
 
     /**
-     * Tank movement for Melee mode
+     * Saves what we learned about each enemy for the next battle
      *
-     * @author Pranav Prakash
-     * @author Period: 7
-     * @author Assignment: Robo05PartsBot
-     * @author Sources: Robocode Lib Nanobot
-     *         http://robowiki.net/wiki/CornerMovement
-     * @version May 14, 2015
+     * @param event BattleEndedEvent
      */
-    public class TankMelee implements Tank
+    public void onBattleEnded( BattleEndedEvent event )
     {
-        //Stores the length of our movement pattern
-        private final int PATTERN_LENGTH = 8;
-
-        //These are the coordinates of
-        // our corner movement (if it was in the lower-left corner).
-
-        //Can be flipped as necessary for other corners
-        //Change directions (as in forward or reverse) for each point.
-        private final int[] xcoords = { 30, 30, 90, 30, 150, 150, 30, 210 };
-
-        private final int[] ycoords = { 30, 210, 30, 150, 150, 30, 90, 30 };
-
-        //Store flippable direction
-        private double direction = Math.PI / 2;
-
-        //Distance to move with each stride
-        private double moveDist = 64.4;
-
-        //Store current index in movement pattern
-        int index = 0;
-
-
-        /**
-         * Initialize
-         */
-        public void init()
-        {
-            //Nothing to initialize here
-        }
-
-
-        /**
-         * Move the tank as per the pattern
-         */
-        public void move()
-        {
-            //Find and flip y coordinate based on closest corner
-            double goalY = ( getY() > getBattleFieldHeight() / 2 ) ?
-                            getBattleFieldHeight() - ycoords[index] :
-                            ycoords[index];
+        ProfileStore profiles = state.profiles;
+        out.println( "Saved " + profiles.save() + " of " + profiles.size()
+                        + " profiles (" + profiles.getHits() + " hits, "
+                        + profiles.getMisses() + " misses)" );
 
-            //Find and flip x coordinate based on closest corner
-            double goalX = ( getX() > getBattleFieldWidth() / 2 ) ?
-                            getBattleFieldWidth() - xcoords[index] :
-                            xcoords[index];
-
-            if ( Point2D.distance( goalX, goalY, getX(), getY() ) < 10 )
-            {
-                //If you have pretty much arrived
-                // at your destination move on to next point
-                direction = -direction;
-                moveDist = -moveDist;
-                index = ( index + 1 ) % PATTERN_LENGTH;
-            }
-
-            setAhead( moveDist );
-
-            setAhead( getTurnRemainingRadians() == 0 ? moveDist : 0 );
-
-            //Turn, accounting for direction flip by adding 180 degrees
-            setTurnRightRadians( Utils.normalRelativeAngle(
-                            Math.atan2( goalX - getX(), goalY - getY() )
-                                            + Math.PI / 2 - direction
-                                            - getHeadingRadians() ) );
-        }
+        //The next battle's enemies may be others
+        profiles.unpinAll();
     }
 
 
     /**
-     * Tank movement for Melee mode
+     * When an enemy robot dies
      *
-     * @author Pranav Prakash
-     * @author Period: 7
-     * @author Assignment: Robo05PartsBot
-     * @author Source 1: Robocode Acero Nanobot
-     *         http://robowiki.net/wiki/Acero
-     * @author Source 2: Robocode LemonDropBot
-     *         github.com/axelson/ICS606-Robocode/
-     * @version May 14, 2015
+     * @param e RobotDeathEvent
      */
-    public class Tank1v1 implements Tank
+    public void onRobotDeath( RobotDeathEvent e )
     {
+        //Downcast to a Radar object
+        Radar radar = (Radar)parts[RADAR];
 
-        //Used to store current direction (forwards or backwards)
-        double direction = 1;
-
-        //Used in stop-go movement to store current state
-        int startStop = 0;
-
-        //Used in stop-go movement to flip forwards-backwards on wall hit
-        boolean flip = false;
-
-
-        /**
-         * Initialize
-         */
-        public void init()
-        {
-            chooseBestMovement();
-        }
-
-
-        /**
-         * Choose best movement based on prior statistics
-         * <p/>
-         * Source: Robocode LemonDropBot
-         * github.com/axelson/ICS606-Robocode/
-         */
-        public void chooseBestMovement()
-        {
-            // Determining Most Effective Movement
-
-            //If we have no information for current enemy, create one
-            if ( moveHistoryMap.get( enemy.getName() ) == null )
-            {
-                moveHistoryMap.put( enemy.getName(), new MovementHistory() );
-            }
-
-            //Get movement information
-            MovementHistory hist = moveHistoryMap.get( enemy.getName() );
-
-            // if we have died 3 times with current movement,
-            // time to consider switching
-            if ( hist.chosenMovement >= 210 )
-            {
-                // You have found tentative best movement
-                hist.bestMoveNotFound = 0;
-
-                if ( hist.move2Effectiveness > hist.move1Effectiveness )
-                {   //if movement 2 performed the best
-                    hist.chosenMovement = 150; // use movement 2
-                }
-                else
-                {
-                    // if movement 1 performed the best
-                    hist.chosenMovement = 0; // use movement 1
-                }
-            }
-        }
-
-
-        /**
-         * Move randomly in order to counter pattern matching
-         * <p/>
-         * Source: Robocode Acero Nanobot
-         * http://robowiki.net/wiki/Acero
-         */
-        public void oscillate()
+        // If it is now 1v1, switch out parts
+        if ( getOthers() != 0 && getOthers() <= ONEvONE_THRESHOLD )
         {
+            out.println( "Switched to 1v1 mode" );
+            state.isMeleeMode = false;
+            parts[RADAR] = new Radar1v1( control, state );
+            parts[GUN] = new VirtualGuns( control, state );
+            parts[TANK] = new Tank1v1( control, state );
 
-            //Turn perpendicular to enemy, maintaining distance at 600
-            double goalDirection = ( Math.toRadians( enemy.getBearing() )
-                            + getHeadingRadians() ) -
-                            ( Math.PI / 2 + ( ( enemy.getDistance() ) >= 600 ?
-                                            0 :
-                                            0.4 ) ) * direction;
-
-            //Wall smoothing code
-
-            //If you are going to intersect wall in current path
-            while ( !new Rectangle2D.Double( 19.0,
-                            19.0,
-                            getBattleFieldWidth() - 38,
-                            getBattleFieldHeight() - 38 ).contains(
-                            getX() + Math.sin( goalDirection ) * 120,
-                            getY() + Math.cos( goalDirection ) * 120 ) )
+            // initialize each part
+            for ( RobotPart part : parts )
             {
-                //Turn a little bit towards the enemy
-                goalDirection = goalDirection + direction * .1;
-
-                //But sometimes turn the other direction
-                // to not be as predictable
-                if ( Math.random() < .01 )
-                    direction = -direction;
+                // behold, the magic of polymorphism
+                part.init();
             }
 
-            //Normalize direction
-            goalDirection = Utils.normalRelativeAngle(
-                            goalDirection - getHeadingRadians() );
-
-            //Use tan function to get a periodic oscillator
-            // that is more irregular than sin or cos
-            setTurnRightRadians( Math.tan( goalDirection ) );
-
-            //If angle to enemy becomes too steep move the other direction
-            setAhead( 100 * ( Math.abs( goalDirection ) > Math.PI / 2 ?
-                            -1 :
-                            1 ) );
-
-            //Random direction swapping
-            if ( Math.random() < .04 )
-                direction = -direction;
         }
 
+        //Keep its scans, but stop counting it among the living
+        state.enemies.died( e.getName() );
 
-        /**
-         * Move start/stop to counter linear+circular targeting
-         * <p/>
-         * Source: Robocode Acero Nanobot
-         * http://robowiki.net/wiki/Acero
-         */
-        public void stopAndGo()
+        //If the robot that died was the one that hit us, reset
+        if ( e.getName().equals( state.bul.getName() ) )
         {
-
-            // Stop & Go
-            // Second type of movement
-
-            // Square off (perpendicular) against enemy
-            // flipping if necessary (to back out from walls)
-            double goalDirection = ( Math.toRadians( enemy.getBearing() )
-                            + getHeadingRadians() ) - ( flip ?
-                            -Math.PI / 2 :
-                            Math.PI / 2 );
-
-            // Wall smoothing code
-
-            //If you are going to intersect wall in current path
-            while ( !new Rectangle2D.Double( 20.0,
-                            20.0,
-                            getBattleFieldWidth() - 50,
-                            getBattleFieldHeight() - 50 ).contains(
-                            getX() + Math.sin( goalDirection ) * 100,
-                            getY() + Math.cos( goalDirection ) * 100 ) )
-            {
-                //Turn a little bit towards the enemy
-                goalDirection = goalDirection - 0.1;
-
-                //Indicate that we need to change our goal direction to back out
-                flip = !flip;
-            }
-
-            //Normalize direction
-            goalDirection = Utils.normalRelativeAngle(
-                            goalDirection - getHeadingRadians() );
-
-            //Use tan periodicity to make it not so easy to predict
-            setTurnRightRadians( Math.tan( goalDirection ) );
-
-            //Does three things:
-
-            //Choose random dist (min 50) in your start-stop movements
-            //Avoid becoming too parallel to enemy (angle to steep)
-            //Only move if startStop = 1
-            setAhead( ( 50 + Math.random() * 50 ) * (
-                            Math.abs( goalDirection ) > Math.PI / 2 ? -1 : 1 )
-                            * startStop );
-
-            //When we detect an energy drop, assume bullet fired
-            if ( enemy.getPreviousEnergy() > ( enemy.getEnergy() ) )
-            { // if the enemy fires
-                if ( startStop == 0 )
-                { // and we aren't moving,
-                    startStop = 1; // move.
-                }
-                else
-                { // but if we are moving,
-                    startStop = 0; // stop.
-                }
-            }
-
+            state.bul.reset();
         }
 
-
-        /**
-         * Dispatches to appropriate move method
-         * based on currently chosen movement
-         * <p/>
-         * Source: Robocode LemonDropBot
-         * github.com/axelson/ICS606-Robocode/
-         */
-        public void move()
+        //If the robot that died was our current enemy, reset
+        if ( radar.wasTracking( e ) )
         {
-            chooseBestMovement();
-            MovementHistory hist = moveHistoryMap.get( enemy.getName() );
-            if ( hist.chosenMovement < 105 )
-            {
-                oscillate();
-                isMovementOne = true;
-            }
-            else if ( hist.chosenMovement >= 105 && hist.chosenMovement < 210 )
-            {
-                stopAndGo();
-                isMovementOne = false;
-            }
+            state.lostTarget();
         }
     }
 }
@@ -0,0 +1,131 @@
+package pt;
+
+/**
+ * Runs TheCarver's work for one turn, stage by stage in a fixed order
+ * <p/>
+ * SENSE takes in what happened last turn, PREDICT brings estimates up to
+ * date, RADAR, GUN and TANK decide, and EXECUTE ends the turn. Each stage is
+ * plain work handed in by the robot; stages without work are skipped. When
+ * a timer is set every stage is timed with System.nanoTime and reported, so
+ * per-turn latency can be watched (and later controlled) stage by stage.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+public class TickPipeline
+{
+    /**
+     * Stages of a turn, in the order they run
+     */
+    public enum Stage
+    {
+        SENSE, PREDICT, RADAR, GUN, TANK, EXECUTE
+    }
+
+
+    /**
+     * Hears how long each stage took
+     */
+    public interface Timer
+    {
+        /**
+         * Called after a stage ran
+         *
+         * @param stage stage that ran
+         * @param nanos time it took
+         */
+        void stageTimed( Stage stage, long nanos );
+
+        /**
+         * Called after the whole turn ran
+         *
+         * @param nanos time spent thinking (every stage but EXECUTE, which
+         *              waits for the engine)
+         */
+        void turnTimed( long nanos );
+    }
+
+
+    ///All stages, in order
+    private static final Stage[] STAGES = Stage.values();
+
+    ///Work for each stage (by ordinal)
+    private final Runnable[] work = new Runnable[STAGES.length];
+
+    ///Hears stage times (null for no timing)
+    private Timer timer;
+
+
+    /**
+     * Sets the work done in a stage
+     *
+     * @param stage stage
+     * @param task  work to do (null for none)
+     */
+    public void setStage( Stage stage, Runnable task )
+    {
+        work[stage.ordinal()] = task;
+    }
+
+
+    /**
+     * Sets who hears stage times
+     *
+     * @param timer timer (null to stop timing)
+     */
+    public void setTimer( Timer timer )
+    {
+        this.timer = timer;
+    }
+
+
+    /**
+     * Gets who hears stage times
+     *
+     * @return timer (null when not timing)
+     */
+    public Timer getTimer()
+    {
+        return timer;
+    }
+
+
+    /**
+     * Runs every stage once, in order
+     */
+    public void runTick()
+    {
+        Timer t = timer;
+        if ( t == null )
+        {
+            for ( Runnable task : work )
+            {
+                if ( task != null )
+                {
+                    task.run();
+                }
+            }
+            return;
+        }
+
+        long thinking = 0;
+        for ( int i = 0; i < work.length; i++ )
+        {
+            if ( work[i] != null )
+            {
+                long start = System.nanoTime();
+                work[i].run();
+                long nanos = System.nanoTime() - start;
+                t.stageTimed( STAGES[i], nanos );
+                if ( STAGES[i] != Stage.EXECUTE )
+                {
+                    thinking += nanos;
+                }
+            }
+        }
+        t.turnTimed( thinking );
+    }
+}
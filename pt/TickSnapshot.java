@@ -0,0 +1,295 @@
+package pt;
+
+import robocode.Bullet;
+import robocode.HitByBulletEvent;
+import robocode.ScannedRobotEvent;
+
+
+/**
+ * Everything that happened to us in one turn, taken in all at once
+ * <p/>
+ * Event handlers only drop their events in here; the SENSE stage then
+ * handles the whole turn in one pass before any part runs. Arrays grow the
+ * first few turns and are reused after that, so buffering allocates nothing.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+public class TickSnapshot
+{
+    ///Scans this turn
+    private ScannedRobotEvent[] scans = new ScannedRobotEvent[8];
+
+    ///Registry ids of the scans (filled in by the SENSE stage)
+    private int[] scanIds = new int[8];
+
+    ///Number of scans this turn
+    private int scanCount = 0;
+
+    ///Bullet hits this turn
+    private HitByBulletEvent[] hits = new HitByBulletEvent[4];
+
+    ///Number of bullet hits this turn
+    private int hitCount = 0;
+
+    ///Our bullets that hit a robot, missed or hit a bullet this turn
+    private Bullet[] shots = new Bullet[4];
+
+    ///What became of each of our bullets
+    private ShotResult[] shotResults = new ShotResult[4];
+
+    ///Number of our bullets that finished this turn
+    private int shotCount = 0;
+
+    ///Names of the robots we collided with this turn
+    private String[] rams = new String[4];
+
+    ///Number of collisions this turn
+    private int ramCount = 0;
+
+
+    /**
+     * What became of one of our bullets
+     */
+    public enum ShotResult
+    {
+        ///It hit a robot
+        HIT,
+
+        ///It left the battlefield
+        MISSED,
+
+        ///It hit another bullet
+        CANCELLED
+    }
+
+
+    /**
+     * Adds a scan
+     *
+     * @param e scan
+     */
+    public void addScan( ScannedRobotEvent e )
+    {
+        if ( scanCount == scans.length )
+        {
+            ScannedRobotEvent[] grown = new ScannedRobotEvent[scanCount * 2];
+            System.arraycopy( scans, 0, grown, 0, scanCount );
+            scans = grown;
+            int[] grownIds = new int[scanCount * 2];
+            System.arraycopy( scanIds, 0, grownIds, 0, scanCount );
+            scanIds = grownIds;
+        }
+        scans[scanCount++] = e;
+    }
+
+
+    /**
+     * Adds a bullet hit
+     *
+     * @param e hit
+     */
+    public void addHit( HitByBulletEvent e )
+    {
+        if ( hitCount == hits.length )
+        {
+            HitByBulletEvent[] grown = new HitByBulletEvent[hitCount * 2];
+            System.arraycopy( hits, 0, grown, 0, hitCount );
+            hits = grown;
+        }
+        hits[hitCount++] = e;
+    }
+
+
+    /**
+     * Adds one of our bullets that finished
+     *
+     * @param bullet bullet
+     * @param result what became of it
+     */
+    public void addShot( Bullet bullet, ShotResult result )
+    {
+        if ( shotCount == shots.length )
+        {
+            Bullet[] grown = new Bullet[shotCount * 2];
+            System.arraycopy( shots, 0, grown, 0, shotCount );
+            shots = grown;
+            ShotResult[] grownResults = new ShotResult[shotCount * 2];
+            System.arraycopy( shotResults, 0, grownResults, 0, shotCount );
+            shotResults = grownResults;
+        }
+        shots[shotCount] = bullet;
+        shotResults[shotCount++] = result;
+    }
+
+
+    /**
+     * Adds a collision with another robot
+     *
+     * @param name name of the robot (both of us lost energy)
+     */
+    public void addRam( String name )
+    {
+        if ( ramCount == rams.length )
+        {
+            String[] grown = new String[ramCount * 2];
+            System.arraycopy( rams, 0, grown, 0, ramCount );
+            rams = grown;
+        }
+        rams[ramCount++] = name;
+    }
+
+
+    /**
+     * @return scans this turn
+     */
+    public int getScanCount()
+    {
+        return scanCount;
+    }
+
+
+    /**
+     * @param i scan index (in the order they came)
+     * @return scan
+     */
+    public ScannedRobotEvent getScan( int i )
+    {
+        return scans[i];
+    }
+
+
+    /**
+     * @param i scan index
+     * @return registry id of the scanned robot
+     */
+    public int getScanId( int i )
+    {
+        return scanIds[i];
+    }
+
+
+    /**
+     * @param i  scan index
+     * @param id registry id of the scanned robot
+     */
+    void setScanId( int i, int id )
+    {
+        scanIds[i] = id;
+    }
+
+
+    /**
+     * @param id registry id
+     * @return whether the robot was scanned this turn
+     */
+    public boolean hasScan( int id )
+    {
+        for ( int i = 0; i < scanCount; i++ )
+        {
+            if ( scanIds[i] == id )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * @return bullet hits this turn
+     */
+    public int getHitCount()
+    {
+        return hitCount;
+    }
+
+
+    /**
+     * @param i hit index (in the order they came)
+     * @return hit
+     */
+    public HitByBulletEvent getHit( int i )
+    {
+        return hits[i];
+    }
+
+
+    /**
+     * @return our bullets that finished this turn
+     */
+    public int getShotCount()
+    {
+        return shotCount;
+    }
+
+
+    /**
+     * @param i shot index (in the order they came)
+     * @return bullet
+     */
+    public Bullet getShot( int i )
+    {
+        return shots[i];
+    }
+
+
+    /**
+     * @param i shot index
+     * @return what became of the bullet
+     */
+    public ShotResult getShotResult( int i )
+    {
+        return shotResults[i];
+    }
+
+
+    /**
+     * @return collisions with other robots this turn
+     */
+    public int getRamCount()
+    {
+        return ramCount;
+    }
+
+
+    /**
+     * @param i collision index (in the order they came)
+     * @return name of the robot we collided with
+     */
+    public String getRam( int i )
+    {
+        return rams[i];
+    }
+
+
+    /**
+     * Empties the snapshot for the next turn (dropping event references)
+     */
+    public void clear()
+    {
+        for ( int i = 0; i < scanCount; i++ )
+        {
+            scans[i] = null;
+        }
+        for ( int i = 0; i < hitCount; i++ )
+        {
+            hits[i] = null;
+        }
+        for ( int i = 0; i < shotCount; i++ )
+        {
+            shots[i] = null;
+        }
+        for ( int i = 0; i < ramCount; i++ )
+        {
+            rams[i] = null;
+        }
+        scanCount = 0;
+        hitCount = 0;
+        shotCount = 0;
+        ramCount = 0;
+    }
+}
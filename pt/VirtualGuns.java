@@ -0,0 +1,281 @@
+package pt;
+
+import robocode.util.Utils;
+
+
+/**
+ * Virtual gun array: every aiming strategy shoots, the best one fires
+ * <p/>
+ * Each turn every registered Aim is updated and asked where it would fire
+ * at the target. Whenever the target was scanned, one wave carries all of
+ * those bearings; when it reaches the target, each gun whose bearing would
+ * have hit its body scores a virtual hit. Virtual bullets fired and hits are
+ * counted per enemy and per gun in int arrays in the enemy's profile, so
+ * the scores carry across rounds. The real gun follows the strategy with
+ * the best hit rate against the target (counting one hit and one miss in
+ * advance, so untried guns start even), earlier guns winning ties.
+ * <p/>
+ * Waves come from the shared pool and bearings sit in arrays inside them,
+ * so scoring allocates nothing however many guns there are (up to
+ * Waves.AIMS).
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - RoboWiki Virtual Guns
+ *         http://robowiki.net/wiki/Virtual_Guns
+ * @version 10/18/26
+ */
+public class VirtualGuns implements RobotPart
+{
+    ///Distance from a robot's center to the edge of its body
+    private static final double HALF_ROBOT = 18;
+
+    ///Robot this part drives
+    private final RobotControl robot;
+
+    ///Knowledge shared with the other parts
+    private final CarverState state;
+
+    ///Aiming strategies, best first when scores are even
+    private final Aim[] guns;
+
+    ///Where each gun would fire this turn
+    private final double[] aims;
+
+    ///Virtual bullets in flight
+    private final Waves waves = new Waves();
+
+    ///Virtual bullets fired by each gun, by registry id
+    private int[][] fired = new int[8][];
+
+    ///Virtual hits of each gun, by registry id
+    private int[][] hits = new int[8][];
+
+
+    /**
+     * Constructor for VirtualGuns, with every gun TheCarver has
+     *
+     * @param robot robot to drive
+     * @param state knowledge shared with the other parts
+     */
+    public VirtualGuns( RobotControl robot, CarverState state )
+    {
+        this( robot, state, new Aim[] {
+                        new DynamicClusteringGun( robot, state ),
+                        new GuessFactorGun( robot, state ),
+                        new PatternMatchGun( robot, state ),
+                        new Gun( robot, state, Gun.Prediction.PRECISE ),
+                        new Gun( robot, state, Gun.Prediction.CIRCULAR ),
+                        new Gun( robot, state, Gun.Prediction.LINEAR ),
+                        new Gun( robot, state, Gun.Prediction.HEAD_ON ) } );
+    }
+
+
+    /**
+     * Constructor for VirtualGuns
+     *
+     * @param robot robot to drive
+     * @param state knowledge shared with the other parts
+     * @param guns  aiming strategies (at most Waves.AIMS), best first when
+     *              scores are even
+     */
+    public VirtualGuns( RobotControl robot, CarverState state, Aim[] guns )
+    {
+        if ( guns.length > Waves.AIMS )
+        {
+            throw new IllegalArgumentException( "At most " + Waves.AIMS
+                            + " guns, got " + guns.length );
+        }
+        this.robot = robot;
+        this.state = state;
+        this.guns = guns.clone();
+        aims = new double[guns.length];
+    }
+
+
+    /**
+     * Initialize
+     */
+    public void init()
+    {
+        // divorce gun movement from tank movement
+        robot.setAdjustGunForRobotTurn( true );
+    }
+
+
+    /**
+     * Updates every gun, scores the virtual bullets that arrived, fires a
+     * new wave, then aims with the best gun and shoots
+     */
+    public void move()
+    {
+        long now = robot.getTime();
+        double power = Gun.firePower( robot, state );
+        for ( Aim gun : guns )
+        {
+            gun.update( power );
+        }
+
+        updateWaves( now );
+
+        // don't shoot if I've got no enemy
+        int target = state.targetId;
+        if ( state.enemy.none() || target == EnemyRegistry.NONE )
+        {
+            return;
+        }
+
+        countersFor( target );
+        int best = -1;
+        double bestRate = -1;
+        for ( int g = 0; g < guns.length; g++ )
+        {
+            aims[g] = guns[g].aim( power );
+            double rate = hitRate( target, g );
+            if ( !Double.isNaN( aims[g] ) && rate > bestRate )
+            {
+                best = g;
+                bestRate = rate;
+            }
+        }
+
+        if ( state.snapshot.hasScan( target ) )
+        {
+            EnemyRegistry enemies = state.enemies;
+            double bearing = Math.atan2(
+                            enemies.getX( target, 0 ) - robot.getX(),
+                            enemies.getY( target, 0 ) - robot.getY() );
+            Waves.Wave w = waves.fire( target, robot.getX(), robot.getY(),
+                            bearing, 1, Waves.speed( power ), now );
+            System.arraycopy( aims, 0, w.aims, 0, guns.length );
+        }
+
+        if ( best >= 0 )
+        {
+            Gun.turnAndFire( robot, state, aims[best], power );
+        }
+    }
+
+
+    /**
+     * Gets how often a gun's virtual bullets hit an enemy, counting one hit
+     * and one miss in advance
+     *
+     * @param id  enemy (registry id)
+     * @param gun gun index
+     * @return hit rate between 0 and 1
+     */
+    public double hitRate( int id, int gun )
+    {
+        countersFor( id );
+        return ( hits[id][gun] + 1.0 ) / ( fired[id][gun] + 2.0 );
+    }
+
+
+    /**
+     * @return number of guns
+     */
+    public int size()
+    {
+        return guns.length;
+    }
+
+
+    /**
+     * @param gun gun index
+     * @return the gun
+     */
+    public Aim getGun( int gun )
+    {
+        return guns[gun];
+    }
+
+
+    /**
+     * Moves waves on; those that reached their robot score every gun
+     *
+     * @param now current time
+     */
+    private void updateWaves( long now )
+    {
+        EnemyRegistry enemies = state.enemies;
+        for ( int i = waves.size() - 1; i >= 0; i-- )
+        {
+            Waves.Wave w = waves.get( i );
+            if ( !enemies.isAlive( w.id ) )
+            {
+                waves.release( i );
+                continue;
+            }
+
+            double ex = enemies.getX( w.id, 0 );
+            double ey = enemies.getY( w.id, 0 );
+            if ( !Waves.reached( w, ex, ey, now ) )
+            {
+                continue;
+            }
+
+            //Bearings within this much of the robot's center hit its body
+            double bearing = Math.atan2( ex - w.x, ey - w.y );
+            double width = Math.atan( HALF_ROBOT
+                            / Math.max( HALF_ROBOT, Math.hypot( ex - w.x,
+                                            ey - w.y ) ) );
+            int[] gunFired = fired[w.id];
+            int[] gunHits = hits[w.id];
+
+            //The counters belong to the profile, which others may share
+            synchronized ( state.profile( w.id ) )
+            {
+                for ( int g = 0; g < guns.length; g++ )
+                {
+                    if ( !Double.isNaN( w.aims[g] ) )
+                    {
+                        gunFired[g]++;
+                        if ( Math.abs( Utils.normalRelativeAngle(
+                                        w.aims[g] - bearing ) ) <= width )
+                        {
+                            gunHits[g]++;
+                        }
+                    }
+                }
+            }
+            waves.release( i );
+        }
+    }
+
+
+    /**
+     * Gets the counters of an enemy ready, from its profile the first time
+     *
+     * @param id enemy (registry id)
+     */
+    private void countersFor( int id )
+    {
+        if ( id >= fired.length )
+        {
+            int size = Math.max( fired.length * 2, id + 1 );
+            int[][] grownFired = new int[size][];
+            System.arraycopy( fired, 0, grownFired, 0, fired.length );
+            fired = grownFired;
+            int[][] grownHits = new int[size][];
+            System.arraycopy( hits, 0, grownHits, 0, hits.length );
+            hits = grownHits;
+        }
+        if ( fired[id] == null )
+        {
+            MovementHistory hist = state.profile( id );
+            synchronized ( hist )
+            {
+                if ( hist.virtualFired == null
+                                || hist.virtualFired.length != guns.length )
+                {
+                    hist.virtualFired = new int[guns.length];
+                    hist.virtualHits = new int[guns.length];
+                }
+                fired[id] = hist.virtualFired;
+                hits[id] = hist.virtualHits;
+            }
+        }
+    }
+}
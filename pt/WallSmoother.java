@@ -0,0 +1,178 @@
+package pt;
+
+import robocode.util.Utils;
+
+
+/**
+ * Turns a movement angle away from the walls in constant time
+ * <p/>
+ * A heading is safe when a stick of some length held out along it ends
+ * inside the field (the field less a margin). A wall the robot is closer
+ * to than the stick's length rules out an arc of headings centered on the
+ * direction straight into that wall, of half-width acos(distance / stick):
+ * exactly the headings whose stick end lands beyond the wall. So instead
+ * of turning a little at a time and testing the stick end again, the
+ * smoother works out the (at most four) arcs once from the robot's
+ * position, then moves the wanted angle to the edge of any arc it falls
+ * in, going the way it was asked to turn. In a corner two arcs overlap and
+ * leaving one can land in the other, so the arcs are walked again, at most
+ * once per wall; the cost never depends on how far the angle has to turn.
+ * <p/>
+ * If the stick is too long for the field to fit it in any direction, the
+ * angle ends at the edge of the last arc left.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - RoboWiki Wall Smoothing
+ *         http://robowiki.net/wiki/Wall_Smoothing
+ * @version 10/18/26
+ */
+public class WallSmoother
+{
+    ///Direction straight into each wall: top, right, bottom, left (radians)
+    private static final double[] WALL_ANGLE = { 0, Math.PI / 2, Math.PI,
+                    3 * Math.PI / 2 };
+
+    ///Edges of the area the stick end must stay in
+    private double left, bottom, right, top;
+
+    ///Half-width of the arc each wall rules out (negative if none)
+    private final double[] halfArc = new double[WALL_ANGLE.length];
+
+    ///Whether the last smooth turned the angle
+    private boolean turned;
+
+
+    /**
+     * Constructor for WallSmoother
+     *
+     * @param left   lowest x the stick may end at
+     * @param bottom lowest y the stick may end at
+     * @param right  highest x the stick may end at
+     * @param top    highest y the stick may end at
+     */
+    public WallSmoother( double left, double bottom, double right,
+                    double top )
+    {
+        setField( left, bottom, right, top );
+    }
+
+
+    /**
+     * Sets the area the stick end must stay in
+     *
+     * @param left   lowest x the stick may end at
+     * @param bottom lowest y the stick may end at
+     * @param right  highest x the stick may end at
+     * @param top    highest y the stick may end at
+     */
+    public void setField( double left, double bottom, double right,
+                    double top )
+    {
+        this.left = left;
+        this.bottom = bottom;
+        this.right = right;
+        this.top = top;
+    }
+
+
+    /**
+     * Works out which headings are ruled out from a position
+     *
+     * @param x     robot x
+     * @param y     robot y
+     * @param stick length of the stick held out
+     */
+    public void setOrigin( double x, double y, double stick )
+    {
+        halfArc[0] = ruledOut( top - y, stick );
+        halfArc[1] = ruledOut( right - x, stick );
+        halfArc[2] = ruledOut( y - bottom, stick );
+        halfArc[3] = ruledOut( x - left, stick );
+    }
+
+
+    /**
+     * Turns an angle until the stick from the last origin clears the walls
+     *
+     * @param angle     wanted angle (radians)
+     * @param direction way to turn (1 clockwise, -1 counterclockwise)
+     * @return nearest safe angle that way (radians, not normalized)
+     */
+    public double smooth( double angle, int direction )
+    {
+        turned = false;
+        for ( int pass = 0; pass < WALL_ANGLE.length; pass++ )
+        {
+            boolean moved = false;
+            for ( int wall = 0; wall < WALL_ANGLE.length; wall++ )
+            {
+                double half = halfArc[wall];
+                double off = Utils.normalRelativeAngle( angle
+                                - WALL_ANGLE[wall] );
+                if ( Math.abs( off ) < half )
+                {
+                    //To the edge of the arc, the way we turn
+                    angle += direction * half - off;
+                    moved = true;
+                }
+            }
+            if ( !moved )
+            {
+                break;
+            }
+            turned = true;
+        }
+        return angle;
+    }
+
+
+    /**
+     * Turns an angle until a stick held out from a position clears the walls
+     *
+     * @param x         robot x
+     * @param y         robot y
+     * @param angle     wanted angle (radians)
+     * @param direction way to turn (1 clockwise, -1 counterclockwise)
+     * @param stick     length of the stick held out
+     * @return nearest safe angle that way (radians, not normalized)
+     */
+    public double smooth( double x, double y, double angle, int direction,
+                    double stick )
+    {
+        setOrigin( x, y, stick );
+        return smooth( angle, direction );
+    }
+
+
+    /**
+     * @return whether the last smooth had to turn the angle
+     */
+    public boolean hasTurned()
+    {
+        return turned;
+    }
+
+
+    /**
+     * Half-width of the arc of headings a wall rules out
+     *
+     * @param distance distance to the wall
+     * @param stick    length of the stick
+     * @return half-width (radians), negative if the wall is out of reach
+     */
+    private static double ruledOut( double distance, double stick )
+    {
+        if ( distance >= stick )
+        {
+            return -1;
+        }
+        if ( distance <= -stick )
+        {
+            //Already beyond the wall: every heading ends beyond it
+            return Math.PI;
+        }
+        return Math.acos( distance / stick );
+    }
+}
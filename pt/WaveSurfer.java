@@ -0,0 +1,542 @@
+package pt;
+
+import robocode.Bullet;
+import robocode.HitByBulletEvent;
+import robocode.Rules;
+import robocode.util.Utils;
+
+
+/**
+ * Wave surfing: dodges the enemy's bullets by where they have hit us before
+ * <p/>
+ * An energy drop of 0.1 to 3 between two scans (after taking off what our
+ * own bullets did to it and adding back what its bullets gave it) means the
+ * enemy fired the tick before. A wave is fired from where it was then, at
+ * the bearing to where we were, and moves out at the bullet's speed. When
+ * one of its bullets hits us, the guess factor of the hit on its wave is
+ * added to that enemy's bins (kept in its profile, so they outlive the
+ * round).
+ * <p/>
+ * Each turn the nearest SURFED waves are surfed. For each orbit direction,
+ * and for stopping, an OwnPredictor is handed the commands move would
+ * give, tick by tick, orbiting each wave's source in turn until the wave
+ * reaches us; the danger of the option is
+ * what the bins say about where we end up on each wave, weighted by the
+ * wave's bullet damage. We then take the safest option. Near the turn's
+ * time limit fewer ticks are predicted (see CpuBudget). The prediction
+ * works on a few doubles and waves come from a pool, so surfing allocates
+ * nothing.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - RoboWiki Wave Surfing Tutorial
+ *         http://robowiki.net/wiki/Wave_Surfing_Tutorial
+ * @version 10/18/26
+ */
+public class WaveSurfer
+{
+    ///Bins per enemy (odd, so guess factor 0 has its own bin)
+    static final int BINS = 47;
+
+    ///Bin of guess factor 0
+    private static final int MIDDLE = ( BINS - 1 ) / 2;
+
+    ///Waves surfed at once
+    private static final int SURFED = 3;
+
+    ///Most ticks predicted for one direction
+    private static final int MAX_PREDICT = 150;
+
+    ///Ticks predicted for one direction when short on CPU time (enough to
+    /// reach most waves about to hit)
+    private static final int MIN_PREDICT = 40;
+
+    ///Distance a wave may pass us by before it is dropped
+    private static final double PASSED = 50;
+
+    ///Distance below which we orbit a little away from the enemy
+    private static final double CLOSE = 400;
+
+    ///How far past perpendicular we orbit while too close (radians)
+    private static final double RETREAT = 0.3;
+
+    ///Distance ahead that must stay inside the field
+    private static final double WALL_STICK = 160;
+
+    ///Distance from a robot's center to the edge of its body
+    private static final double HALF_ROBOT = 18;
+
+    ///Distance from a wall within which a robot that stopped dead is taken
+    /// to have hit it (scanned positions are a little off)
+    private static final double WALL_TOUCH = HALF_ROBOT + 1;
+
+    ///Robot this part drives
+    private final RobotControl robot;
+
+    ///Knowledge shared with the other parts
+    private final CarverState state;
+
+    ///Enemy waves in flight
+    private final Waves waves = new Waves();
+
+    ///Turns orbits away from the walls
+    private final WallSmoother smoother = new WallSmoother( 0, 0, 0, 0 );
+
+    ///Where bullets hit us, by registry id
+    private double[][] stats = new double[8][];
+
+    ///Indexes of the waves surfed, nearest first
+    private final int[] surfed = new int[SURFED];
+
+    ///Direction we orbit in (1 clockwise, -1 counter-clockwise)
+    private int direction = 1;
+
+    ///Our position last tick
+    private double lastX, lastY;
+
+    ///Our lateral direction around the enemy last tick
+    private int lastDirection = 1;
+
+    ///Whether last tick's position is known
+    private boolean hasLast = false;
+
+    ///Predicts our own movement through the waves
+    private final OwnPredictor own = new OwnPredictor();
+
+
+    /**
+     * Constructor for WaveSurfer
+     *
+     * @param robot robot to drive
+     * @param state knowledge shared with the other parts
+     */
+    public WaveSurfer( RobotControl robot, CarverState state )
+    {
+        this.robot = robot;
+        this.state = state;
+    }
+
+
+    /**
+     * Logs the bullets that hit us, fires a wave if the enemy fired and
+     * drops waves that have passed
+     */
+    public void update()
+    {
+        int target = state.targetId;
+        if ( state.enemy.none() || target == EnemyRegistry.NONE )
+        {
+            return;
+        }
+
+        long now = robot.getTime();
+        TickSnapshot snapshot = state.snapshot;
+        for ( int i = 0; i < snapshot.getHitCount(); i++ )
+        {
+            logHit( snapshot.getHit( i ) );
+        }
+
+        EnemyRegistry enemies = state.enemies;
+        if ( snapshot.hasScan( target ) && enemies.getScans( target ) >= 2
+                        && hasLast )
+        {
+            double power = enemies.getEnergy( target, 1 )
+                            - enemies.getEnergy( target, 0 )
+                            + gainedByEnemy( target );
+            if ( power >= Rules.MIN_BULLET_POWER - 0.01
+                            && power <= Rules.MAX_BULLET_POWER + 0.01 )
+            {
+                double ex = enemies.getX( target, 1 );
+                double ey = enemies.getY( target, 1 );
+                waves.fire( target, ex, ey,
+                                Math.atan2( lastX - ex, lastY - ey ),
+                                lastDirection, Waves.speed( power ), now - 1 );
+            }
+        }
+
+        double x = robot.getX();
+        double y = robot.getY();
+        for ( int i = waves.size() - 1; i >= 0; i-- )
+        {
+            Waves.Wave w = waves.get( i );
+            double travelled = ( now - w.time ) * w.speed;
+            if ( w.id != target || w.time > now
+                            || travelled > Math.hypot( x - w.x, y - w.y )
+                                            + PASSED )
+            {
+                waves.release( i );
+            }
+        }
+
+        //Lateral direction around the enemy, for the next wave
+        double bearing = Math.atan2( x - enemies.getX( target, 0 ),
+                        y - enemies.getY( target, 0 ) );
+        double lateral = robot.getVelocity() * Math.sin(
+                        robot.getHeadingRadians() - bearing );
+        if ( lateral != 0 )
+        {
+            lastDirection = lateral > 0 ? 1 : -1;
+        }
+        lastX = x;
+        lastY = y;
+        hasLast = true;
+    }
+
+
+    /**
+     * Orbits in the safest direction of the nearest waves, or stops if that
+     * is safer still (orbits the enemy while there are no waves)
+     */
+    public void move()
+    {
+        int target = state.targetId;
+        if ( state.enemy.none() || target == EnemyRegistry.NONE )
+        {
+            return;
+        }
+
+        int count = nearestWaves();
+        double sourceX;
+        double sourceY;
+        double speed = Rules.MAX_VELOCITY;
+        if ( count == 0 )
+        {
+            sourceX = state.enemies.getX( target, 0 );
+            sourceY = state.enemies.getY( target, 0 );
+        }
+        else
+        {
+            //Keeping on is preferred when dangers are even
+            double[] bins = statsFor( target );
+            double ahead = danger( bins, count, direction,
+                            Rules.MAX_VELOCITY );
+            double reverse = danger( bins, count, -direction,
+                            Rules.MAX_VELOCITY );
+            double stopped = danger( bins, count, direction, 0 );
+            if ( reverse < ahead && reverse <= stopped )
+            {
+                direction = -direction;
+            }
+            else if ( stopped < ahead )
+            {
+                speed = 0;
+            }
+            Waves.Wave nearest = waves.get( surfed[0] );
+            sourceX = nearest.x;
+            sourceY = nearest.y;
+        }
+
+        double x = robot.getX();
+        double y = robot.getY();
+        double goal = orbit( x, y, sourceX, sourceY, direction );
+        double turn = Utils.normalRelativeAngle(
+                        goal - robot.getHeadingRadians() );
+
+        //Drive backwards rather than turn more than a quarter
+        if ( Math.abs( turn ) > Math.PI / 2 )
+        {
+            robot.setTurnRightRadians( Utils.normalRelativeAngle(
+                            turn + Math.PI ) );
+            robot.setAhead( -100 * speed / Rules.MAX_VELOCITY );
+        }
+        else
+        {
+            robot.setTurnRightRadians( turn );
+            robot.setAhead( 100 * speed / Rules.MAX_VELOCITY );
+        }
+    }
+
+
+    /**
+     * Finds the waves that reach us soonest, nearest first
+     *
+     * @return number of waves found (at most SURFED)
+     */
+    private int nearestWaves()
+    {
+        long now = robot.getTime();
+        double x = robot.getX();
+        double y = robot.getY();
+        int count = 0;
+        for ( int i = 0; i < waves.size(); i++ )
+        {
+            Waves.Wave w = waves.get( i );
+            double ticks = ( Math.hypot( x - w.x, y - w.y )
+                            - ( now - w.time ) * w.speed ) / w.speed;
+            if ( ticks < 0 )
+            {
+                continue;
+            }
+
+            //Insert into the short list, nearest first
+            int j = Math.min( count, SURFED - 1 );
+            if ( count == SURFED && ticks >= arrival( surfed[j] ) )
+            {
+                continue;
+            }
+            while ( j > 0 && arrival( surfed[j - 1] ) > ticks )
+            {
+                surfed[j] = surfed[j - 1];
+                j--;
+            }
+            surfed[j] = i;
+            count = Math.min( count + 1, SURFED );
+        }
+        return count;
+    }
+
+
+    /**
+     * @param i wave index
+     * @return ticks until the wave reaches us
+     */
+    private double arrival( int i )
+    {
+        Waves.Wave w = waves.get( i );
+        return ( Math.hypot( robot.getX() - w.x, robot.getY() - w.y )
+                        - ( robot.getTime() - w.time ) * w.speed ) / w.speed;
+    }
+
+
+    /**
+     * Predicts orbiting in one direction through the surfed waves and adds
+     * up the danger where each one reaches us
+     *
+     * @param bins      where bullets hit us
+     * @param count     waves surfed
+     * @param direction orbit direction
+     * @param speed     speed to keep (0 to stop)
+     * @return danger
+     */
+    private double danger( double[] bins, int count, int direction,
+                    double speed )
+    {
+        own.setField( robot.getBattleFieldWidth(),
+                        robot.getBattleFieldHeight() );
+        own.setStart( robot.getX(), robot.getY(), robot.getHeadingRadians(),
+                        robot.getVelocity() );
+        long time = robot.getTime();
+        int ticks = 0;
+        int maxTicks = state.budget.scale( MAX_PREDICT, MIN_PREDICT );
+
+        double danger = 0;
+        for ( int k = 0; k < count; k++ )
+        {
+            Waves.Wave w = waves.get( surfed[k] );
+            while ( ticks < maxTicks
+                            && !Waves.reached( w, own.getX(), own.getY(),
+                                            time ) )
+            {
+                step( w.x, w.y, direction, speed );
+                time++;
+                ticks++;
+            }
+
+            int bin = (int)Math.round( Waves.guessFactor( w, own.getX(),
+                            own.getY() ) * MIDDLE ) + MIDDLE;
+            danger += bins[bin] * Rules.getBulletDamage(
+                            ( 20 - w.speed ) / 3 );
+        }
+        return danger;
+    }
+
+
+    /**
+     * Moves the prediction on one tick, giving the commands move would
+     * give to orbit a point
+     *
+     * @param sourceX   x orbited
+     * @param sourceY   y orbited
+     * @param direction orbit direction
+     * @param speed     speed to keep (0 to stop)
+     */
+    private void step( double sourceX, double sourceY, int direction,
+                    double speed )
+    {
+        double goal = orbit( own.getX(), own.getY(), sourceX, sourceY,
+                        direction );
+        double turn = Utils.normalRelativeAngle( goal - own.getHeading() );
+        double ahead = 100 * speed / Rules.MAX_VELOCITY;
+        if ( Math.abs( turn ) > Math.PI / 2 )
+        {
+            turn = Utils.normalRelativeAngle( turn + Math.PI );
+            ahead = -ahead;
+        }
+        own.setTurnRightRadians( turn );
+        own.setAhead( ahead );
+        own.step();
+    }
+
+
+    /**
+     * Heading that orbits a point, turned away from the walls
+     *
+     * @param x         our x
+     * @param y         our y
+     * @param sourceX   x orbited
+     * @param sourceY   y orbited
+     * @param direction orbit direction
+     * @return heading (radians)
+     */
+    private double orbit( double x, double y, double sourceX,
+                    double sourceY, int direction )
+    {
+        double offset = Math.PI / 2;
+        if ( Math.hypot( x - sourceX, y - sourceY ) < CLOSE )
+        {
+            offset += RETREAT;
+        }
+        double angle = Math.atan2( x - sourceX, y - sourceY )
+                        + direction * offset;
+
+        //Turn until a stick ahead stays inside the field
+        smoother.setField( HALF_ROBOT, HALF_ROBOT,
+                        robot.getBattleFieldWidth() - HALF_ROBOT,
+                        robot.getBattleFieldHeight() - HALF_ROBOT );
+        return smoother.smooth( x, y, angle, direction, WALL_STICK );
+    }
+
+
+    /**
+     * Logs where a bullet hit us on the wave that carried it
+     *
+     * @param e bullet hit
+     */
+    private void logHit( HitByBulletEvent e )
+    {
+        Bullet bullet = e.getBullet();
+        long now = robot.getTime();
+        for ( int i = waves.size() - 1; i >= 0; i-- )
+        {
+            Waves.Wave w = waves.get( i );
+            double travelled = ( now - w.time ) * w.speed;
+            if ( Math.abs( w.speed - bullet.getVelocity() ) < 0.001
+                            && Math.abs( travelled - Math.hypot(
+                                            bullet.getX() - w.x,
+                                            bullet.getY() - w.y ) ) < PASSED )
+            {
+                double[] bins = statsFor( w.id );
+                int hit = (int)Math.round( Waves.guessFactor( w,
+                                bullet.getX(), bullet.getY() ) * MIDDLE )
+                                + MIDDLE;
+
+                //The bins belong to the profile, which others may share
+                synchronized ( state.profile( w.id ) )
+                {
+                    for ( int b = 0; b < BINS; b++ )
+                    {
+                        int d = b - hit;
+                        bins[b] += 1.0 / ( d * d + 1 );
+                    }
+                }
+                waves.release( i );
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * Energy the enemy gained or lost this turn other than by firing
+     * <p/>
+     * Its wall hits are not reported to us, so they are guessed: it stopped
+     * dead against a wall from faster than it can brake in one tick.
+     *
+     * @param id enemy (registry id)
+     * @return energy its bullets that hit us gave it, less what our
+     *         bullets, collisions with us and the walls took
+     */
+    private double gainedByEnemy( int id )
+    {
+        TickSnapshot snapshot = state.snapshot;
+        String name = state.enemies.getName( id );
+        double gained = 0;
+        for ( int i = 0; i < snapshot.getHitCount(); i++ )
+        {
+            HitByBulletEvent hit = snapshot.getHit( i );
+            if ( name.equals( hit.getName() ) )
+            {
+                gained += Rules.getBulletHitBonus( hit.getPower() );
+            }
+        }
+        for ( int i = 0; i < snapshot.getRamCount(); i++ )
+        {
+            if ( name.equals( snapshot.getRam( i ) ) )
+            {
+                gained -= Rules.ROBOT_HIT_DAMAGE;
+            }
+        }
+        gained -= wallDamage( id );
+        for ( int i = 0; i < snapshot.getShotCount(); i++ )
+        {
+            Bullet bullet = snapshot.getShot( i );
+            if ( snapshot.getShotResult( i ) == TickSnapshot.ShotResult.HIT
+                            && name.equals( bullet.getVictim() ) )
+            {
+                gained -= Rules.getBulletDamage( bullet.getPower() );
+            }
+        }
+        return gained;
+    }
+
+
+    /**
+     * Guesses the damage an enemy took hitting a wall since its last scan
+     *
+     * @param id enemy (registry id)
+     * @return damage, from its speed at the last scan (0 if it did not
+     *         seem to hit a wall)
+     */
+    private double wallDamage( int id )
+    {
+        EnemyRegistry enemies = state.enemies;
+        double speed = Math.abs( enemies.getVelocity( id, 1 ) );
+        if ( enemies.getTime( id, 0 ) - enemies.getTime( id, 1 ) != 1
+                        || enemies.getVelocity( id, 0 ) != 0
+                        || speed <= Rules.DECELERATION )
+        {
+            return 0;
+        }
+        double x = enemies.getX( id, 0 );
+        double y = enemies.getY( id, 0 );
+        if ( Math.min( x, robot.getBattleFieldWidth() - x ) > WALL_TOUCH
+                        && Math.min( y, robot.getBattleFieldHeight() - y )
+                                        > WALL_TOUCH )
+        {
+            return 0;
+        }
+        return Rules.getWallHitDamage( speed );
+    }
+
+
+    /**
+     * Gets the bins of an enemy, from its profile the first time
+     *
+     * @param id enemy (registry id)
+     * @return bins
+     */
+    private double[] statsFor( int id )
+    {
+        if ( id >= stats.length )
+        {
+            double[][] grown = new double[Math.max( stats.length * 2,
+                            id + 1 )][];
+            System.arraycopy( stats, 0, grown, 0, stats.length );
+            stats = grown;
+        }
+        if ( stats[id] == null )
+        {
+            MovementHistory hist = state.profile( id );
+            synchronized ( hist )
+            {
+                if ( hist.surfStats == null )
+                {
+                    hist.surfStats = new double[BINS];
+                }
+                stats[id] = hist.surfStats;
+            }
+        }
+        return stats[id];
+    }
+}
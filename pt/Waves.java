@@ -0,0 +1,222 @@
+package pt;
+
+import robocode.util.Utils;
+
+
+/**
+ * Virtual bullets in flight, drawn from a pool
+ * <p/>
+ * Guns fire a wave at a robot every time they see it and learn from where
+ * the robot was when the wave reached it. Waves are reused, and the arrays
+ * holding them only grow, so firing and breaking waves allocates nothing
+ * once enough waves have been made.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - RoboWiki Waves
+ *         http://robowiki.net/wiki/Waves
+ * @version 10/18/26
+ */
+public class Waves
+{
+    ///Situation values a wave can carry
+    public static final int FEATURES = 6;
+
+    ///Virtual gun bearings a wave can carry
+    public static final int AIMS = 8;
+
+    ///Waves in flight
+    private Wave[] waves = new Wave[64];
+
+    ///Number of waves in flight
+    private int count = 0;
+
+    ///Spare waves
+    private Wave[] pool = new Wave[64];
+
+    ///Number of spare waves
+    private int poolCount = 0;
+
+
+    /**
+     * A virtual bullet, fired to see where a robot goes
+     */
+    public static final class Wave
+    {
+        ///Robot it was fired at (registry id)
+        int id;
+
+        ///Where it was fired from
+        double x, y;
+
+        ///Absolute bearing to the robot when fired (radians)
+        double bearing;
+
+        ///Lateral direction of the robot when fired (1 or -1)
+        int direction;
+
+        ///Bullet speed
+        double speed;
+
+        ///Time fired
+        long time;
+
+        ///Statistics slot the robot's situation fell in (for segmented guns)
+        int segment;
+
+        ///Robot's situation when fired (for guns that compare situations)
+        final double[] features = new double[FEATURES];
+
+        ///Where each virtual gun fired (radians, NaN if it did not)
+        final double[] aims = new double[AIMS];
+    }
+
+
+    /**
+     * Constructor for Waves
+     */
+    public Waves()
+    {
+        for ( int i = 0; i < pool.length; i++ )
+        {
+            pool[poolCount++] = new Wave();
+        }
+    }
+
+
+    /**
+     * Fires a wave
+     *
+     * @param id        robot fired at (registry id)
+     * @param x         x fired from
+     * @param y         y fired from
+     * @param bearing   absolute bearing to the robot (radians)
+     * @param direction lateral direction of the robot (1 or -1)
+     * @param speed     bullet speed
+     * @param time      time fired
+     * @return the wave, for the caller to fill in segment or features
+     */
+    public Wave fire( int id, double x, double y, double bearing,
+                    int direction, double speed, long time )
+    {
+        if ( poolCount == 0 )
+        {
+            pool[poolCount++] = new Wave();
+        }
+        Wave w = pool[--poolCount];
+        w.id = id;
+        w.x = x;
+        w.y = y;
+        w.bearing = bearing;
+        w.direction = direction;
+        w.speed = speed;
+        w.time = time;
+
+        if ( count == waves.length )
+        {
+            Wave[] grown = new Wave[count * 2];
+            System.arraycopy( waves, 0, grown, 0, count );
+            waves = grown;
+            Wave[] grownPool = new Wave[count * 2];
+            System.arraycopy( pool, 0, grownPool, 0, poolCount );
+            pool = grownPool;
+        }
+        waves[count++] = w;
+        return w;
+    }
+
+
+    /**
+     * @return waves in flight
+     */
+    public int size()
+    {
+        return count;
+    }
+
+
+    /**
+     * @param i wave index
+     * @return wave in flight
+     */
+    public Wave get( int i )
+    {
+        return waves[i];
+    }
+
+
+    /**
+     * Returns a wave to the pool; the last wave takes its index, so walk
+     * the waves backwards when releasing
+     *
+     * @param i wave index
+     */
+    public void release( int i )
+    {
+        pool[poolCount++] = waves[i];
+        waves[i] = waves[--count];
+        waves[count] = null;
+    }
+
+
+    /**
+     * Checks whether a wave has reached a point
+     *
+     * @param w   wave
+     * @param x   x of the point
+     * @param y   y of the point
+     * @param now current time
+     * @return reached
+     */
+    public static boolean reached( Wave w, double x, double y, long now )
+    {
+        double travelled = ( now - w.time ) * w.speed;
+        double dx = x - w.x;
+        double dy = y - w.y;
+        return travelled * travelled >= dx * dx + dy * dy;
+    }
+
+
+    /**
+     * Guess factor of a point the wave reached: the angle from the wave's
+     * bearing as a share of the widest reachable angle, signed so positive
+     * is the robot's lateral direction when fired
+     *
+     * @param w wave
+     * @param x x of the point
+     * @param y y of the point
+     * @return guess factor between -1 and 1
+     */
+    public static double guessFactor( Wave w, double x, double y )
+    {
+        double offset = Utils.normalRelativeAngle(
+                        Math.atan2( x - w.x, y - w.y ) - w.bearing );
+        return Math.max( -1, Math.min( 1,
+                        offset / maxEscapeAngle( w.speed ) ) ) * w.direction;
+    }
+
+
+    /**
+     * Widest angle a robot at full speed can reach before a bullet does
+     *
+     * @param speed bullet speed
+     * @return angle in radians
+     */
+    public static double maxEscapeAngle( double speed )
+    {
+        return Math.asin( 8 / speed );
+    }
+
+
+    /**
+     * Bullet speed for a power
+     *
+     * @param power bullet power
+     * @return speed
+     */
+    public static double speed( double power )
+    {
+        return 20 - power * 3;
+    }
+}
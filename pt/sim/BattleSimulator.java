@@ -0,0 +1,1100 @@
+package pt.sim;
+
+import robocode.*;
+import robocode.util.Utils;
+
+import pt.ProfileStore;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+
+/**
+ * Headless battle simulator for running TheCarver offline
+ * <p/>
+ * Plays TheCarver against scripted opponents one tick at a time following
+ * Robocode's turn order: robots act, bullets are fired and moved, robots
+ * turn and move, collisions and deaths are resolved, and the radar sweeps.
+ * Events are then handed to TheCarver in Robocode's default priority order.
+ * <p/>
+ * Bullet-vs-bullet collisions and skipped turns are not
+ * simulated, and a robot at 0 energy is treated as destroyed.
+ * <p/>
+ * Usage: java pt.sim.BattleSimulator opponent[,opponent...] [rounds] [seed]
+ * [--resume directory]
+ * <p/>
+ * TheCarver saves its profiles when the battle ends. Each run from the
+ * command line gets a new temporary data directory, so a seed always plays
+ * the same battle; --resume starts from (and saves to) the profiles in a
+ * directory instead, as a robot would from one battle to the next.
+ * <p/>
+ * One battle runs on one core at about 10,000 ticks a second (some 25 to
+ * 80 rounds a second, depending on how long rounds last). Almost all of
+ * that time is TheCarver's own turn, mostly the clustering gun's KD-tree
+ * searches; stepping the battle itself is a few percent, so thousands of
+ * rounds a second are out of reach here. ParallelBattleRunner runs a
+ * battle on each core to go faster.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - Robowiki Robocode/Game Physics
+ *         http://robowiki.net/wiki/Robocode/Game_Physics
+ * @version 10/18/26
+ */
+public class BattleSimulator
+{
+    ///Rounds that last longer than this are called a draw
+    public static final int MAX_TURNS = 5000;
+
+    ///Orders events the way Robocode's default priorities do
+    private static final Comparator<Event> BY_PRIORITY = new Comparator<Event>()
+    {
+        public int compare( Event a, Event b )
+        {
+            return priorityOf( b ) - priorityOf( a );
+        }
+    };
+
+    ///Name TheCarver plays under
+    public static final String CARVER_NAME = "pt.TheCarver*";
+
+    ///Battle field width
+    private final double width;
+
+    ///Battle field height
+    private final double height;
+
+    ///Scripted opponents
+    private final ScriptedOpponent[] opponents;
+
+    ///Decides start positions
+    private final Random random;
+
+    ///Seeds each round's TheCarver, so the whole battle follows the seed
+    private final Random carverSeeds;
+
+    ///Data directory handed to TheCarver
+    private final File dataDirectory;
+
+    ///Every body in the battle, TheCarver first
+    private final SimRobot[] bodies;
+
+    ///Bullets (reused between rounds)
+    private final ArrayList<SimBullet> bullets = new ArrayList<SimBullet>();
+
+    ///Number of bullets in use at the front of the list
+    private int bulletCount = 0;
+
+    ///Events for TheCarver this tick
+    private final ArrayList<Event> events = new ArrayList<Event>();
+
+    ///TheCarver's body
+    private final SimRobot carverBody;
+
+    ///TheCarver's peer
+    private final SimPeer carverPeer;
+
+    ///What TheCarver learned in earlier rounds of this battle
+    private final ProfileStore profiles = ProfileStore.create(
+                    ProfileStore.SharePolicy.ISOLATED );
+
+    ///TheCarver playing the current round
+    private SimulatedCarver carver;
+
+    ///Whether TheCarver's run loop threw and stopped for this round
+    private boolean stalled = false;
+
+    ///Statistics so far
+    private BattleStats stats;
+
+    ///Battle time (ticks into the round)
+    private long time = 0;
+
+    ///Current round
+    private int roundNum = 0;
+
+    ///Rounds in the battle
+    private int numRounds = 0;
+
+
+    /**
+     * Constructor for BattleSimulator
+     *
+     * @param opponents     scripted opponents
+     * @param width         battle field width
+     * @param height        battle field height
+     * @param seed          seed for start positions
+     * @param dataDirectory data directory handed to TheCarver
+     */
+    public BattleSimulator( ScriptedOpponent[] opponents, double width,
+                    double height, long seed, File dataDirectory )
+    {
+        this.opponents = opponents;
+        this.width = width;
+        this.height = height;
+        this.dataDirectory = dataDirectory;
+        random = new Random( seed );
+        carverSeeds = new Random( ~seed );
+
+        bodies = new SimRobot[opponents.length + 1];
+        carverBody = new SimRobot( CARVER_NAME );
+        bodies[0] = carverBody;
+        for ( int i = 0; i < opponents.length; i++ )
+        {
+            bodies[i + 1] = new SimRobot( opponentName( opponents, i ) );
+        }
+        carverPeer = new SimPeer( this, carverBody, dataDirectory );
+    }
+
+
+    /**
+     * Names an opponent by its class and which of that class it is, as
+     * "class (n)", so profiles learned against one kind of opponent are
+     * only ever loaded for the same kind
+     *
+     * @param opponents scripted opponents
+     * @param index     opponent to name
+     * @return name
+     */
+    static String opponentName( ScriptedOpponent[] opponents, int index )
+    {
+        Class<?> type = opponents[index].getClass();
+        int number = 0;
+        for ( int i = 0; i <= index; i++ )
+        {
+            if ( opponents[i].getClass() == type )
+            {
+                number++;
+            }
+        }
+        return type.getName() + " (" + number + ")";
+    }
+
+
+    /**
+     * Creates TheCarver for a new round
+     * <p/>
+     * Robocode creates a new robot object every round, so we do as well,
+     * handing each one the profiles learned in earlier rounds.
+     *
+     * @param peer peer for the robot
+     * @return new robot
+     */
+    protected SimulatedCarver createCarver( SimPeer peer )
+    {
+        return new SimulatedCarver( peer, profiles, nextCarverRandom() );
+    }
+
+
+    /**
+     * Gets random numbers for the next round's TheCarver, drawn from the
+     * battle's seed
+     *
+     * @return seeded random numbers
+     */
+    protected Random nextCarverRandom()
+    {
+        return new Random( carverSeeds.nextLong() );
+    }
+
+
+    /**
+     * Gets the profiles TheCarver has learned in this battle
+     *
+     * @return profile store
+     */
+    public ProfileStore getProfiles()
+    {
+        return profiles;
+    }
+
+
+    /**
+     * Plays a battle
+     *
+     * @param rounds number of rounds
+     * @return TheCarver's results
+     */
+    public BattleStats runBattle( int rounds )
+    {
+        stats = new BattleStats();
+        numRounds = rounds;
+        long start = System.nanoTime();
+
+        for ( roundNum = 0; roundNum < numRounds; roundNum++ )
+        {
+            runRound();
+        }
+
+        stats.elapsedNanos = System.nanoTime() - start;
+        if ( carver != null )
+        {
+            deliverAfterRound( new BattleEndedEvent( false, null ) );
+        }
+        return stats;
+    }
+
+
+    /**
+     * Plays one round
+     */
+    private void runRound()
+    {
+        placeRobots();
+        bulletCount = 0;
+        time = 0;
+
+        carverPeer.beginRound();
+        carver = createCarver( carverPeer );
+        stalled = false;
+        try
+        {
+            carver.startRound();
+        }
+        catch ( RuntimeException e )
+        {
+            robotError();
+        }
+        for ( int i = 0; i < opponents.length; i++ )
+        {
+            opponents[i].init( bodies[i + 1] );
+        }
+
+        while ( roundGoesOn() )
+        {
+            runTurn();
+        }
+
+        stats.rounds++;
+        stats.ticks += time;
+        if ( carverBody.alive )
+        {
+            stats.survivalTicks += time;
+            if ( getOthers( carverBody ) == 0 )
+            {
+                stats.wins++;
+                deliverAfterRound( stamp( new WinEvent() ) );
+            }
+        }
+        deliverAfterRound( stamp( new RoundEndedEvent( roundNum, (int)time,
+                        (int)stats.ticks ) ) );
+    }
+
+
+    /**
+     * Places every robot at a random spot that does not overlap another
+     */
+    private void placeRobots()
+    {
+        for ( int i = 0; i < bodies.length; i++ )
+        {
+            double x;
+            double y;
+            boolean overlaps;
+            do
+            {
+                x = SimRobot.HALF_SIZE + random.nextDouble() * ( width
+                                - 2 * SimRobot.HALF_SIZE );
+                y = SimRobot.HALF_SIZE + random.nextDouble() * ( height
+                                - 2 * SimRobot.HALF_SIZE );
+                overlaps = false;
+                for ( int j = 0; j < i; j++ )
+                {
+                    if ( Math.abs( bodies[j].x - x ) < 2 * SimRobot.HALF_SIZE
+                                    && Math.abs( bodies[j].y - y )
+                                    < 2 * SimRobot.HALF_SIZE )
+                    {
+                        overlaps = true;
+                    }
+                }
+            } while ( overlaps );
+
+            bodies[i].reset( x, y, random.nextDouble() * 2 * Math.PI );
+        }
+    }
+
+
+    /**
+     * @return whether the round is still being played
+     */
+    private boolean roundGoesOn()
+    {
+        return carverBody.alive && getOthers( carverBody ) > 0
+                        && time < MAX_TURNS;
+    }
+
+
+    /**
+     * Plays one tick
+     */
+    private void runTurn()
+    {
+        try
+        {
+            if ( !stalled )
+            {
+                try
+                {
+                    carver.doTurn();
+                }
+                catch ( RoundOver e )
+                {
+                    throw e;
+                }
+                catch ( RuntimeException e )
+                {
+                    //Like Robocode, a robot whose run() throws just sits there
+                    robotError();
+                }
+            }
+            finishTurn();
+        }
+        catch ( RoundOver e )
+        {
+            //The round ended while TheCarver was waiting (in its turn or in
+            // an event handler)
+        }
+    }
+
+
+    /**
+     * Plays the rest of the tick for TheCarver while it waits (from
+     * waitFor), then starts its next turn
+     *
+     * @throws RoundOver if the round ends, to stop the robot waiting
+     */
+    void passTurn()
+    {
+        if ( !roundGoesOn() )
+        {
+            throw new RoundOver();
+        }
+        finishTurn();
+        if ( !roundGoesOn() )
+        {
+            throw new RoundOver();
+        }
+        carverPeer.beginTurn();
+    }
+
+
+    /**
+     * Ends a robot's wait when the round ends, as Robocode stops a robot's
+     * thread
+     */
+    static final class RoundOver extends RuntimeException
+    {
+        ///Version for serialization
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Constructor for RoundOver
+         */
+        RoundOver()
+        {
+            super( "Round over", null, false, false );
+        }
+    }
+
+
+    /**
+     * Plays the tick after TheCarver has taken its turn: opponents act,
+     * bullets and robots move, and events are handed out
+     */
+    private void finishTurn()
+    {
+        for ( int i = 0; i < opponents.length; i++ )
+        {
+            SimRobot body = bodies[i + 1];
+            if ( body.alive )
+            {
+                opponents[i].act( body, closestEnemy( body ), time );
+            }
+        }
+
+        time++;
+
+        fireBullets();
+        moveBullets();
+
+        for ( SimRobot body : bodies )
+        {
+            if ( body.alive )
+            {
+                body.move( width, height );
+                if ( body.hitWall && body == carverBody )
+                {
+                    stats.damageTaken += Rules.getWallHitDamage(
+                                    body.wallHitVelocity );
+                    events.add( stamp( new HitWallEvent(
+                                    wallBearing( body ) ) ) );
+                }
+            }
+        }
+
+        checkRobotCollisions();
+        removeDeadRobots();
+
+        if ( carverBody.alive )
+        {
+            scan();
+            dispatchEvents();
+        }
+    }
+
+
+    /**
+     * Fires every queued bullet
+     */
+    private void fireBullets()
+    {
+        for ( SimRobot body : bodies )
+        {
+            if ( body.alive && body.firePower > 0 )
+            {
+                if ( bulletCount == bullets.size() )
+                {
+                    bullets.add( new SimBullet() );
+                }
+
+                if ( body.fire( bullets.get( bulletCount ) ) )
+                {
+                    bulletCount++;
+                    if ( body == carverBody )
+                    {
+                        stats.shotsFired++;
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Moves bullets, applying hits and removing bullets that left the field
+     */
+    private void moveBullets()
+    {
+        for ( int i = 0; i < bulletCount; i++ )
+        {
+            SimBullet bullet = bullets.get( i );
+            bullet.move();
+
+            for ( SimRobot body : bodies )
+            {
+                if ( body.alive && body != bullet.owner && bullet.hits( body ) )
+                {
+                    bulletHit( bullet, body );
+                    break;
+                }
+            }
+
+            if ( bullet.active && ( bullet.x < 0 || bullet.y < 0
+                            || bullet.x > width || bullet.y > height ) )
+            {
+                bullet.active = false;
+                if ( bullet.owner == carverBody )
+                {
+                    events.add( stamp( new BulletMissedEvent(
+                                    bullet.toBullet( null ) ) ) );
+                }
+            }
+
+            if ( !bullet.active )
+            {
+                //Swap the spent bullet to the end of the active ones
+                bulletCount--;
+                bullets.set( i, bullets.get( bulletCount ) );
+                bullets.set( bulletCount, bullet );
+                i--;
+            }
+        }
+    }
+
+
+    /**
+     * Applies a bullet hit
+     *
+     * @param bullet bullet
+     * @param victim robot hit
+     */
+    private void bulletHit( SimBullet bullet, SimRobot victim )
+    {
+        double damage = Math.min( Rules.getBulletDamage( bullet.power ),
+                        victim.energy );
+        victim.energy -= Rules.getBulletDamage( bullet.power );
+        bullet.owner.energy += Rules.getBulletHitBonus( bullet.power );
+        bullet.active = false;
+
+        if ( bullet.owner == carverBody )
+        {
+            stats.shotsHit++;
+            stats.damageDealt += damage;
+            events.add( stamp( new BulletHitEvent( victim.getName(),
+                            victim.energy,
+                            bullet.toBullet( victim.getName() ) ) ) );
+        }
+        else if ( victim == carverBody )
+        {
+            stats.damageTaken += damage;
+            events.add( stamp( new HitByBulletEvent(
+                            Utils.normalRelativeAngle( bullet.heading
+                                            + Math.PI - victim.heading ),
+                            bullet.toBullet( victim.getName() ) ) ) );
+        }
+    }
+
+
+    /**
+     * Resolves rams: both robots take damage, and whoever drove into the
+     * other is pushed back to where it was
+     */
+    private void checkRobotCollisions()
+    {
+        for ( int i = 0; i < bodies.length; i++ )
+        {
+            for ( int j = i + 1; j < bodies.length; j++ )
+            {
+                SimRobot a = bodies[i];
+                SimRobot b = bodies[j];
+                if ( !a.alive || !b.alive
+                                || Math.abs( a.x - b.x ) >= 2 * SimRobot.HALF_SIZE
+                                || Math.abs( a.y - b.y ) >= 2 * SimRobot.HALF_SIZE )
+                {
+                    continue;
+                }
+
+                boolean aFault = isDrivingInto( a, b );
+                boolean bFault = isDrivingInto( b, a );
+                a.energy -= Rules.ROBOT_HIT_DAMAGE;
+                b.energy -= Rules.ROBOT_HIT_DAMAGE;
+                if ( aFault )
+                {
+                    a.bounceBack();
+                }
+                if ( bFault )
+                {
+                    b.bounceBack();
+                }
+
+                if ( a == carverBody )
+                {
+                    robotHit( b, aFault );
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Checks whether a robot is moving towards another
+     *
+     * @param mover robot moving
+     * @param other robot in the way
+     * @return whether mover is at fault
+     */
+    private static boolean isDrivingInto( SimRobot mover, SimRobot other )
+    {
+        if ( mover.velocity == 0 )
+        {
+            return false;
+        }
+        double angle = Math.atan2( other.x - mover.lastX,
+                        other.y - mover.lastY );
+        double travel = mover.velocity > 0 ?
+                        mover.heading :
+                        mover.heading + Math.PI;
+        return Math.abs( Utils.normalRelativeAngle( angle - travel ) )
+                        < Math.PI / 2;
+    }
+
+
+    /**
+     * Records a ram for TheCarver
+     *
+     * @param other   robot rammed
+     * @param atFault whether TheCarver drove into it
+     */
+    private void robotHit( SimRobot other, boolean atFault )
+    {
+        stats.damageTaken += Rules.ROBOT_HIT_DAMAGE;
+        events.add( stamp( new HitRobotEvent( other.getName(),
+                        Utils.normalRelativeAngle( Math.atan2(
+                                        other.x - carverBody.x,
+                                        other.y - carverBody.y )
+                                        - carverBody.heading ),
+                        other.energy,
+                        atFault ) ) );
+    }
+
+
+    /**
+     * Removes robots that ran out of energy
+     */
+    private void removeDeadRobots()
+    {
+        for ( SimRobot body : bodies )
+        {
+            if ( body.alive && body.energy <= 0 )
+            {
+                body.alive = false;
+                if ( body == carverBody )
+                {
+                    deliver( stamp( new DeathEvent() ) );
+                }
+                else
+                {
+                    events.add( stamp( new RobotDeathEvent(
+                                    body.getName() ) ) );
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Sweeps TheCarver's radar over the arc it turned through this tick
+     */
+    private void scan()
+    {
+        double start = carverBody.lastRadarHeading;
+        double sweep = Utils.normalRelativeAngle(
+                        carverBody.radarHeading - start );
+
+        for ( SimRobot body : bodies )
+        {
+            if ( body == carverBody || !body.alive )
+            {
+                continue;
+            }
+
+            double dx = body.x - carverBody.x;
+            double dy = body.y - carverBody.y;
+            double distance = Math.sqrt( dx * dx + dy * dy );
+            if ( distance > Rules.RADAR_SCAN_RADIUS + SimRobot.HALF_SIZE )
+            {
+                continue;
+            }
+
+            //Half the angle the target's bounding box covers
+            double halfWidth = Math.atan( SimRobot.HALF_SIZE * Math.sqrt( 2 )
+                            / distance );
+            double angle = Math.atan2( dx, dy );
+            double offset = Utils.normalRelativeAngle( angle - start );
+
+            boolean scanned = sweep >= 0 ?
+                            offset >= -halfWidth && offset <= sweep + halfWidth :
+                            offset <= halfWidth && offset >= sweep - halfWidth;
+
+            if ( scanned )
+            {
+                events.add( stamp( new ScannedRobotEvent(
+                                body.getName(),
+                                body.energy,
+                                Utils.normalRelativeAngle(
+                                                angle - carverBody.heading ),
+                                distance,
+                                body.heading,
+                                body.velocity,
+                                false ) ) );
+            }
+        }
+    }
+
+
+    /**
+     * Hands this tick's events to TheCarver, highest priority first, after
+     * adding a CustomEvent for each of its conditions that holds
+     */
+    private void dispatchEvents()
+    {
+        List<Condition> conditions = carverPeer.getCustomEvents();
+        for ( int i = 0; i < conditions.size(); i++ )
+        {
+            Condition condition = conditions.get( i );
+            try
+            {
+                if ( condition.test() )
+                {
+                    events.add( stamp( new CustomEvent( condition ) ) );
+                }
+            }
+            catch ( RuntimeException e )
+            {
+                robotError();
+            }
+        }
+
+        //A handler that waits plays on ticks, which bring events of their
+        // own, so hand out this tick's from a copy
+        Collections.sort( events, BY_PRIORITY );
+        Event[] batch = events.toArray( new Event[events.size()] );
+        events.clear();
+        for ( Event e : batch )
+        {
+            deliver( e );
+        }
+    }
+
+
+    /**
+     * Calls TheCarver's handler for an event
+     * <p/>
+     * Like Robocode, an exception in a handler is counted and play goes on.
+     *
+     * @param e event
+     */
+    private void deliver( Event e )
+    {
+        try
+        {
+            if ( e instanceof ScannedRobotEvent )
+            {
+                carver.onScannedRobot( (ScannedRobotEvent)e );
+            }
+            else if ( e instanceof HitByBulletEvent )
+            {
+                carver.onHitByBullet( (HitByBulletEvent)e );
+            }
+            else if ( e instanceof HitWallEvent )
+            {
+                carver.onHitWall( (HitWallEvent)e );
+            }
+            else if ( e instanceof HitRobotEvent )
+            {
+                carver.onHitRobot( (HitRobotEvent)e );
+            }
+            else if ( e instanceof BulletHitEvent )
+            {
+                carver.onBulletHit( (BulletHitEvent)e );
+            }
+            else if ( e instanceof BulletMissedEvent )
+            {
+                carver.onBulletMissed( (BulletMissedEvent)e );
+            }
+            else if ( e instanceof RobotDeathEvent )
+            {
+                carver.onRobotDeath( (RobotDeathEvent)e );
+            }
+            else if ( e instanceof DeathEvent )
+            {
+                carver.onDeath( (DeathEvent)e );
+            }
+            else if ( e instanceof WinEvent )
+            {
+                carver.onWin( (WinEvent)e );
+            }
+            else if ( e instanceof RoundEndedEvent )
+            {
+                carver.onRoundEnded( (RoundEndedEvent)e );
+            }
+            else if ( e instanceof BattleEndedEvent )
+            {
+                carver.onBattleEnded( (BattleEndedEvent)e );
+            }
+            else if ( e instanceof CustomEvent )
+            {
+                carver.onCustomEvent( (CustomEvent)e );
+            }
+        }
+        catch ( RoundOver ex )
+        {
+            //A handler waited past the end of the round: stop waiting
+            throw ex;
+        }
+        catch ( RuntimeException ex )
+        {
+            robotError();
+        }
+    }
+
+
+    /**
+     * Calls TheCarver's handler for an event that comes once the round is
+     * over, when there are no more ticks to wait for
+     *
+     * @param e event
+     */
+    private void deliverAfterRound( Event e )
+    {
+        try
+        {
+            deliver( e );
+        }
+        catch ( RoundOver ex )
+        {
+            //The handler waited: the round is already over
+        }
+    }
+
+
+    /**
+     * Records an exception thrown by TheCarver
+     */
+    private void robotError()
+    {
+        stats.robotErrors++;
+    }
+
+
+    /**
+     * Robocode's default priority for an event
+     *
+     * @param e event
+     * @return priority (higher is delivered first)
+     */
+    private static int priorityOf( Event e )
+    {
+        if ( e instanceof CustomEvent )
+        {
+            //Custom events take their condition's priority (80 by default)
+            return ( (CustomEvent)e ).getCondition().getPriority();
+        }
+        else if ( e instanceof RobotDeathEvent )
+        {
+            return 70;
+        }
+        else if ( e instanceof BulletMissedEvent )
+        {
+            return 60;
+        }
+        else if ( e instanceof BulletHitEvent )
+        {
+            return 50;
+        }
+        else if ( e instanceof HitRobotEvent )
+        {
+            return 40;
+        }
+        else if ( e instanceof HitWallEvent )
+        {
+            return 30;
+        }
+        else if ( e instanceof HitByBulletEvent )
+        {
+            return 20;
+        }
+        else if ( e instanceof ScannedRobotEvent )
+        {
+            return 10;
+        }
+        return 0;
+    }
+
+
+    /**
+     * Finds the closest living robot to a body
+     *
+     * @param body body
+     * @return closest other robot
+     */
+    private SimRobot closestEnemy( SimRobot body )
+    {
+        SimRobot closest = null;
+        double closestDist = Double.POSITIVE_INFINITY;
+        for ( SimRobot other : bodies )
+        {
+            if ( other != body && other.alive )
+            {
+                double dist = Math.hypot( other.x - body.x, other.y - body.y );
+                if ( dist < closestDist )
+                {
+                    closest = other;
+                    closestDist = dist;
+                }
+            }
+        }
+        return closest;
+    }
+
+
+    /**
+     * Computes the bearing to the wall a robot just hit
+     *
+     * @param body robot that hit the wall
+     * @return bearing (radians) relative to body heading
+     */
+    private double wallBearing( SimRobot body )
+    {
+        double wallAngle;
+        if ( body.x <= SimRobot.HALF_SIZE )
+        {
+            wallAngle = 3 * Math.PI / 2;
+        }
+        else if ( body.x >= width - SimRobot.HALF_SIZE )
+        {
+            wallAngle = Math.PI / 2;
+        }
+        else if ( body.y <= SimRobot.HALF_SIZE )
+        {
+            wallAngle = Math.PI;
+        }
+        else
+        {
+            wallAngle = 0;
+        }
+        return Utils.normalRelativeAngle( wallAngle - body.heading );
+    }
+
+
+    /**
+     * Stamps an event with the current time
+     *
+     * @param e   event
+     * @param <T> event type
+     * @return the event
+     */
+    private <T extends Event> T stamp( T e )
+    {
+        e.setTime( time );
+        return e;
+    }
+
+
+    /**
+     * Gets battle time
+     *
+     * @return ticks into the round
+     */
+    public long getTime()
+    {
+        return time;
+    }
+
+
+    /**
+     * Gets battle field width
+     *
+     * @return width
+     */
+    public double getWidth()
+    {
+        return width;
+    }
+
+
+    /**
+     * Gets battle field height
+     *
+     * @return height
+     */
+    public double getHeight()
+    {
+        return height;
+    }
+
+
+    /**
+     * Gets the current round
+     *
+     * @return round number (starting at 0)
+     */
+    public int getRoundNum()
+    {
+        return roundNum;
+    }
+
+
+    /**
+     * Gets the number of rounds in the battle
+     *
+     * @return rounds
+     */
+    public int getNumRounds()
+    {
+        return numRounds;
+    }
+
+
+    /**
+     * Counts living robots other than a body
+     *
+     * @param body body
+     * @return living others
+     */
+    public int getOthers( SimRobot body )
+    {
+        int others = 0;
+        for ( SimRobot other : bodies )
+        {
+            if ( other != body && other.alive )
+            {
+                others++;
+            }
+        }
+        return others;
+    }
+
+
+    /**
+     * Runs a battle from the command line and reports the results
+     *
+     * @param args opponent[,opponent...] [rounds] [seed] [--resume
+     *             directory]
+     * @throws IOException if no temporary data directory can be created
+     */
+    public static void main( String[] args ) throws IOException
+    {
+        List<String> rest = new ArrayList<String>( Arrays.asList( args ) );
+        File dataDirectory = dataDirectory( rest );
+        args = rest.toArray( new String[rest.size()] );
+        if ( args.length < 1 )
+        {
+            System.out.println( "Usage: java pt.sim.BattleSimulator "
+                            + "opponent[,opponent...] [rounds] [seed] "
+                            + "[--resume directory]" );
+            System.out.println( "Opponents: " + java.util.Arrays.toString(
+                            Opponents.NAMES ) );
+            return;
+        }
+
+        String[] names = args[0].split( "," );
+        int rounds = args.length > 1 ? Integer.parseInt( args[1] ) : 1000;
+        long seed = args.length > 2 ? Long.parseLong( args[2] ) : 42;
+
+        ScriptedOpponent[] opponents = new ScriptedOpponent[names.length];
+        for ( int i = 0; i < names.length; i++ )
+        {
+            opponents[i] = Opponents.create( names[i], seed + i );
+        }
+
+        BattleSimulator battle = new BattleSimulator( opponents, 800, 600,
+                        seed, dataDirectory );
+        System.out.println( battle.runBattle( rounds ) );
+        System.out.println( "profiles in " + dataDirectory );
+    }
+
+
+    /**
+     * Picks the data directory for a run from the command line, taking
+     * "--resume directory" out of the arguments if it is there
+     *
+     * @param args arguments (the option is removed)
+     * @return directory to resume from, or else a new temporary one
+     * @throws IOException if no temporary directory can be created
+     */
+    static File dataDirectory( List<String> args ) throws IOException
+    {
+        int option = args.indexOf( "--resume" );
+        if ( option < 0 )
+        {
+            return Files.createTempDirectory( "thecarver-sim" ).toFile();
+        }
+        if ( option + 1 >= args.size() )
+        {
+            throw new IllegalArgumentException( "--resume needs a directory" );
+        }
+        File directory = new File( args.get( option + 1 ) );
+        args.remove( option + 1 );
+        args.remove( option );
+        return directory;
+    }
+}
@@ -0,0 +1,200 @@
+package pt.sim;
+
+/**
+ * Results of TheCarver's rounds in the offline simulator
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+public class BattleStats
+{
+    ///Number of rounds played
+    int rounds = 0;
+
+    ///Number of rounds TheCarver was the last robot standing
+    int wins = 0;
+
+    ///Ticks TheCarver stayed alive, summed over all rounds
+    long survivalTicks = 0;
+
+    ///Ticks played, summed over all rounds
+    long ticks = 0;
+
+    ///Bullet damage TheCarver dealt
+    double damageDealt = 0;
+
+    ///Damage TheCarver took from bullets, walls and rams
+    double damageTaken = 0;
+
+    ///Bullets TheCarver fired
+    int shotsFired = 0;
+
+    ///Bullets TheCarver hit with
+    int shotsHit = 0;
+
+    ///Exceptions TheCarver threw (Robocode would log them and play on)
+    int robotErrors = 0;
+
+    ///Wall-clock time spent simulating (nanoseconds)
+    long elapsedNanos = 0;
+
+
+    /**
+     * Adds another set of results to this one
+     * <p/>
+     * Elapsed time is kept as the longest of the two since merged results
+     * come from battles that ran side by side.
+     *
+     * @param other results to add
+     */
+    public void add( BattleStats other )
+    {
+        rounds += other.rounds;
+        wins += other.wins;
+        survivalTicks += other.survivalTicks;
+        ticks += other.ticks;
+        damageDealt += other.damageDealt;
+        damageTaken += other.damageTaken;
+        shotsFired += other.shotsFired;
+        shotsHit += other.shotsHit;
+        robotErrors += other.robotErrors;
+        elapsedNanos = Math.max( elapsedNanos, other.elapsedNanos );
+    }
+
+
+    /**
+     * Gets rounds played
+     *
+     * @return rounds
+     */
+    public int getRounds()
+    {
+        return rounds;
+    }
+
+
+    /**
+     * Gets rounds won
+     *
+     * @return wins
+     */
+    public int getWins()
+    {
+        return wins;
+    }
+
+
+    /**
+     * Gets the fraction of rounds won
+     *
+     * @return win rate
+     */
+    public double getWinRate()
+    {
+        return rounds == 0 ? 0 : (double)wins / rounds;
+    }
+
+
+    /**
+     * Gets the fraction of all ticks TheCarver was alive for
+     *
+     * @return survival rate
+     */
+    public double getSurvivalRate()
+    {
+        return ticks == 0 ? 0 : (double)survivalTicks / ticks;
+    }
+
+
+    /**
+     * Gets bullet damage dealt
+     *
+     * @return damage dealt
+     */
+    public double getDamageDealt()
+    {
+        return damageDealt;
+    }
+
+
+    /**
+     * Gets damage taken
+     *
+     * @return damage taken
+     */
+    public double getDamageTaken()
+    {
+        return damageTaken;
+    }
+
+
+    /**
+     * Gets the fraction of fired bullets that hit
+     *
+     * @return hit rate
+     */
+    public double getHitRate()
+    {
+        return shotsFired == 0 ? 0 : (double)shotsHit / shotsFired;
+    }
+
+
+    /**
+     * Gets the number of exceptions TheCarver threw
+     *
+     * @return robot errors
+     */
+    public int getRobotErrors()
+    {
+        return robotErrors;
+    }
+
+
+    /**
+     * Gets simulation speed
+     *
+     * @return rounds per second of wall-clock time
+     */
+    public double getRoundsPerSecond()
+    {
+        return elapsedNanos == 0 ? 0 : rounds * 1e9 / elapsedNanos;
+    }
+
+
+    /**
+     * Gets simulation speed
+     *
+     * @return ticks per second of wall-clock time
+     */
+    public double getTicksPerSecond()
+    {
+        return elapsedNanos == 0 ? 0 : ticks * 1e9 / elapsedNanos;
+    }
+
+
+    /**
+     * Formats a short report
+     *
+     * @return report
+     */
+    public String toString()
+    {
+        return String.format( "rounds %d  wins %d (%.1f%%)  survival %.1f%%%n"
+                                        + "damage dealt %.0f  taken %.0f  "
+                                        + "hit rate %.1f%%  errors %d%n"
+                                        + "%.0f rounds/s  %.0f ticks/s",
+                        rounds,
+                        wins,
+                        getWinRate() * 100,
+                        getSurvivalRate() * 100,
+                        damageDealt,
+                        damageTaken,
+                        getHitRate() * 100,
+                        robotErrors,
+                        getRoundsPerSecond(),
+                        getTicksPerSecond() );
+    }
+}
@@ -0,0 +1,282 @@
+package pt.sim;
+
+import robocode.Rules;
+import robocode.util.Utils;
+
+import java.util.Random;
+
+
+/**
+ * Scripted opponents covering the movement styles we meet most often
+ * <p/>
+ * sittingduck - never moves, aims head-on
+ * walker      - drives straight lines, aims head-on
+ * spinner     - drives in tight circles, aims linearly
+ * oscillator  - strafes perpendicular and reverses at random, aims linearly
+ * stopgo      - strafes in short bursts, aims head-on
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - Robocode sample robots
+ * @version 10/18/26
+ */
+public final class Opponents
+{
+    ///Names accepted by create
+    public static final String[] NAMES = { "sittingduck", "walker", "spinner",
+                    "oscillator", "stopgo" };
+
+
+    /**
+     * No instances
+     */
+    private Opponents()
+    {
+    }
+
+
+    /**
+     * Creates a scripted opponent by name
+     *
+     * @param name opponent name (see NAMES)
+     * @param seed random seed for the opponent's decisions
+     * @return new opponent
+     */
+    public static ScriptedOpponent create( String name, long seed )
+    {
+        if ( name.equals( "sittingduck" ) )
+        {
+            return new SittingDuck();
+        }
+        else if ( name.equals( "walker" ) )
+        {
+            return new Walker();
+        }
+        else if ( name.equals( "spinner" ) )
+        {
+            return new Spinner();
+        }
+        else if ( name.equals( "oscillator" ) )
+        {
+            return new Oscillator( new Random( seed ) );
+        }
+        else if ( name.equals( "stopgo" ) )
+        {
+            return new StopAndGo( new Random( seed ) );
+        }
+        throw new IllegalArgumentException( "Unknown opponent: " + name );
+    }
+
+
+    /**
+     * Turns the gun towards a point and fires when the gun is cool
+     *
+     * @param self  body to drive
+     * @param x     x to aim at
+     * @param y     y to aim at
+     * @param power bullet power
+     */
+    static void aimAndFire( SimRobot self, double x, double y, double power )
+    {
+        double angle = Math.atan2( x - self.getX(), y - self.getY() );
+        double gunTurn = Utils.normalRelativeAngle(
+                        angle - self.getGunHeadingRadians() );
+        self.setTurnGunRightRadians( gunTurn );
+
+        if ( self.getGunHeat() == 0
+                        && Math.abs( gunTurn ) < Rules.GUN_TURN_RATE_RADIANS )
+        {
+            self.setFire( power );
+        }
+    }
+
+
+    /**
+     * Aims where the target would be if it kept going in a straight line
+     *
+     * @param self   body to drive
+     * @param target target
+     * @param power  bullet power
+     */
+    static void aimLinear( SimRobot self, SimRobot target, double power )
+    {
+        double time = Math.hypot( target.getX() - self.getX(),
+                        target.getY() - self.getY() )
+                        / Rules.getBulletSpeed( power );
+        double travel = target.getVelocity() * time;
+
+        aimAndFire( self,
+                        target.getX() + Math.sin( target.getHeadingRadians() )
+                                        * travel,
+                        target.getY() + Math.cos( target.getHeadingRadians() )
+                                        * travel,
+                        power );
+    }
+
+
+    /**
+     * Never moves, aims head-on
+     */
+    static class SittingDuck implements ScriptedOpponent
+    {
+        public void init( SimRobot self )
+        {
+            //Nothing to initialize here
+        }
+
+
+        public void act( SimRobot self, SimRobot target, long time )
+        {
+            aimAndFire( self, target.getX(), target.getY(), 1 );
+        }
+    }
+
+
+    /**
+     * Drives straight lines across the field, aims head-on
+     */
+    static class Walker implements ScriptedOpponent
+    {
+        public void init( SimRobot self )
+        {
+            //Nothing to initialize here
+        }
+
+
+        public void act( SimRobot self, SimRobot target, long time )
+        {
+            if ( self.getDistanceRemaining() == 0 )
+            {
+                //Turn around and head back the other way
+                self.setTurnRightRadians( Math.PI / 2 );
+                self.setAhead( 400 );
+            }
+            aimAndFire( self, target.getX(), target.getY(), 2 );
+        }
+    }
+
+
+    /**
+     * Drives in tight circles, aims linearly
+     */
+    static class Spinner implements ScriptedOpponent
+    {
+        public void init( SimRobot self )
+        {
+            //Slow enough to turn more than 0.1 radians a tick
+            self.setMaxVelocity( 5 );
+        }
+
+
+        public void act( SimRobot self, SimRobot target, long time )
+        {
+            self.setAhead( 100 );
+            self.setTurnRightRadians( Math.PI );
+            aimLinear( self, target, 2 );
+        }
+    }
+
+
+    /**
+     * Strafes perpendicular to the target and reverses at random
+     */
+    static class Oscillator implements ScriptedOpponent
+    {
+        ///Decides when to reverse
+        private final Random random;
+
+        ///Current direction (forwards or backwards)
+        private double direction = 1;
+
+
+        /**
+         * Constructor for Oscillator
+         *
+         * @param random random source
+         */
+        Oscillator( Random random )
+        {
+            this.random = random;
+        }
+
+
+        public void init( SimRobot self )
+        {
+            direction = 1;
+        }
+
+
+        public void act( SimRobot self, SimRobot target, long time )
+        {
+            if ( random.nextDouble() < 0.05 || self.getVelocity() == 0 )
+            {
+                direction = -direction;
+            }
+            strafe( self, target, direction * 100 );
+            aimLinear( self, target, 1.5 );
+        }
+    }
+
+
+    /**
+     * Strafes in short bursts, standing still in between
+     */
+    static class StopAndGo implements ScriptedOpponent
+    {
+        ///Decides burst lengths
+        private final Random random;
+
+        ///Current direction (forwards or backwards)
+        private double direction = 1;
+
+
+        /**
+         * Constructor for StopAndGo
+         *
+         * @param random random source
+         */
+        StopAndGo( Random random )
+        {
+            this.random = random;
+        }
+
+
+        public void init( SimRobot self )
+        {
+            direction = 1;
+        }
+
+
+        public void act( SimRobot self, SimRobot target, long time )
+        {
+            if ( self.getDistanceRemaining() == 0 && self.getVelocity() == 0 )
+            {
+                if ( random.nextBoolean() )
+                {
+                    direction = -direction;
+                    strafe( self, target, direction * ( 30
+                                    + random.nextDouble() * 60 ) );
+                }
+            }
+            aimAndFire( self, target.getX(), target.getY(), 2.5 );
+        }
+    }
+
+
+    /**
+     * Turns perpendicular to the target and moves
+     *
+     * @param self     body to drive
+     * @param target   target
+     * @param distance distance to move (negative is backwards)
+     */
+    static void strafe( SimRobot self, SimRobot target, double distance )
+    {
+        double angle = Math.atan2( target.getX() - self.getX(),
+                        target.getY() - self.getY() );
+        self.setTurnRightRadians( Utils.normalRelativeAngle(
+                        angle + Math.PI / 2 - self.getHeadingRadians() ) );
+        self.setAhead( distance );
+    }
+}
@@ -0,0 +1,173 @@
+package pt.sim;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+
+/**
+ * Runs seasons of offline battles on every core
+ * <p/>
+ * A season is one battle of several rounds (35 in a standard match), so
+ * TheCarver learns within a season exactly as it would in Robocode. Each
+ * season gets its own simulator, opponents, TheCarver, profile store and
+ * data directory (named for its seed, so a resumed season picks up what the
+ * same season saved before), which means workers share nothing but the
+ * final results and scale with the number of cores.
+ * <p/>
+ * Usage: java pt.sim.ParallelBattleRunner opponent[,opponent...] seasons
+ * [rounds per season] [threads] [seed] [--resume directory]
+ * <p/>
+ * As with BattleSimulator, profiles start empty in a new temporary
+ * directory unless --resume names one to start from.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+public class ParallelBattleRunner
+{
+    ///Names of the opponents in every season
+    private final String[] opponentNames;
+
+    ///Number of worker threads
+    private final int threads;
+
+    ///Data directory handed to TheCarver
+    private final File dataDirectory;
+
+
+    /**
+     * Constructor for ParallelBattleRunner
+     *
+     * @param opponentNames opponents in every season (see Opponents.NAMES)
+     * @param threads       number of worker threads
+     * @param dataDirectory data directory handed to TheCarver
+     */
+    public ParallelBattleRunner( String[] opponentNames, int threads,
+                    File dataDirectory )
+    {
+        this.opponentNames = opponentNames;
+        this.threads = threads;
+        this.dataDirectory = dataDirectory;
+    }
+
+
+    /**
+     * Plays seasons in parallel and combines the results
+     *
+     * @param seasons         number of seasons
+     * @param roundsPerSeason rounds in each season
+     * @param seed            seed for the first season (others count up)
+     * @return combined results, timed on the wall clock
+     */
+    public BattleStats run( int seasons, final int roundsPerSeason, long seed )
+    {
+        ExecutorService pool = Executors.newFixedThreadPool( threads );
+        List<Future<BattleStats>> results = new ArrayList<Future<BattleStats>>();
+        long start = System.nanoTime();
+
+        try
+        {
+            for ( int i = 0; i < seasons; i++ )
+            {
+                final long seasonSeed = seed + i;
+                results.add( pool.submit( new Callable<BattleStats>()
+                {
+                    public BattleStats call()
+                    {
+                        return createSeason( seasonSeed ).runBattle(
+                                        roundsPerSeason );
+                    }
+                } ) );
+            }
+
+            BattleStats total = new BattleStats();
+            for ( Future<BattleStats> result : results )
+            {
+                total.add( result.get() );
+            }
+            total.elapsedNanos = System.nanoTime() - start;
+            return total;
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException( "Interrupted while running", e );
+        }
+        catch ( ExecutionException e )
+        {
+            throw new IllegalStateException( "Season failed", e.getCause() );
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+    }
+
+
+    /**
+     * Creates the simulator for one season
+     *
+     * @param seed seed for positions and opponent decisions
+     * @return new simulator
+     */
+    private BattleSimulator createSeason( long seed )
+    {
+        ScriptedOpponent[] opponents = new ScriptedOpponent[opponentNames.length];
+        for ( int i = 0; i < opponents.length; i++ )
+        {
+            opponents[i] = Opponents.create( opponentNames[i], seed * 31 + i );
+        }
+        return new BattleSimulator( opponents, 800, 600, seed, new File(
+                        dataDirectory, "season-" + seed ) );
+    }
+
+
+    /**
+     * Runs seasons from the command line and reports the combined results
+     *
+     * @param args opponent[,opponent...] seasons [rounds] [threads] [seed]
+     *             [--resume directory]
+     * @throws IOException if no temporary data directory can be created
+     */
+    public static void main( String[] args ) throws IOException
+    {
+        List<String> rest = new ArrayList<String>( Arrays.asList( args ) );
+        File dataDirectory = BattleSimulator.dataDirectory( rest );
+        args = rest.toArray( new String[rest.size()] );
+        if ( args.length < 2 )
+        {
+            System.out.println( "Usage: java pt.sim.ParallelBattleRunner "
+                            + "opponent[,opponent...] seasons "
+                            + "[rounds per season] [threads] [seed] "
+                            + "[--resume directory]" );
+            return;
+        }
+
+        String[] names = args[0].split( "," );
+        int seasons = Integer.parseInt( args[1] );
+        int rounds = args.length > 2 ? Integer.parseInt( args[2] ) : 35;
+        int threads = args.length > 3 ?
+                        Integer.parseInt( args[3] ) :
+                        Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 4 ? Long.parseLong( args[4] ) : 42;
+
+        ParallelBattleRunner runner = new ParallelBattleRunner( names, threads,
+                        dataDirectory );
+
+        System.out.println( seasons + " seasons of " + rounds + " rounds on "
+                        + threads + " threads" );
+        System.out.println( runner.run( seasons, rounds, seed ) );
+        System.out.println( "profiles in " + dataDirectory );
+    }
+}
@@ -0,0 +1,165 @@
+package pt.sim;
+
+import robocode.ScannedRobotEvent;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+
+/**
+ * Records the scans TheCarver receives in the offline simulator
+ * <p/>
+ * Writes one CSV line per ScannedRobotEvent with TheCarver's own state at
+ * the time, so benchmarks can replay realistic inputs without the engine.
+ * Columns: time, x, y, heading, gunHeading, radarHeading, gunHeat, velocity,
+ * energy (TheCarver, degrees) then name, energy, bearing, distance, heading,
+ * velocity (scanned robot, radians as in the ScannedRobotEvent constructor).
+ * <p/>
+ * Usage: java pt.sim.ScanRecorder opponent[,opponent...] scans [seed]
+ * [--resume directory]
+ * <p/>
+ * As with BattleSimulator, profiles start empty in a new temporary
+ * directory unless --resume names one to start from, so a seed always
+ * records the same scans.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+public class ScanRecorder extends BattleSimulator
+{
+    ///Where scans are written
+    private final PrintStream out;
+
+    ///Scans still to record
+    private int remaining;
+
+
+    /**
+     * Constructor for ScanRecorder
+     *
+     * @param opponents     scripted opponents
+     * @param seed          seed for start positions
+     * @param dataDirectory data directory handed to TheCarver
+     * @param out           where to write scans
+     * @param scans         number of scans to record
+     */
+    public ScanRecorder( ScriptedOpponent[] opponents, long seed,
+                    File dataDirectory, PrintStream out, int scans )
+    {
+        super( opponents, 800, 600, seed, dataDirectory );
+        this.out = out;
+        remaining = scans;
+    }
+
+
+    /**
+     * Checks whether enough scans have been recorded
+     *
+     * @return done recording
+     */
+    public boolean isDone()
+    {
+        return remaining <= 0;
+    }
+
+
+    /**
+     * Creates a TheCarver that records every scan before handling it
+     *
+     * @param peer peer for the robot
+     * @return new robot
+     */
+    protected SimulatedCarver createCarver( SimPeer peer )
+    {
+        return new SimulatedCarver( peer, getProfiles(),
+                        nextCarverRandom() )
+        {
+            public void onScannedRobot( ScannedRobotEvent e )
+            {
+                record( this, e );
+                super.onScannedRobot( e );
+            }
+        };
+    }
+
+
+    /**
+     * Writes one scan
+     *
+     * @param robot robot that scanned
+     * @param e     scan
+     */
+    private void record( SimulatedCarver robot, ScannedRobotEvent e )
+    {
+        if ( remaining <= 0 )
+        {
+            return;
+        }
+        remaining--;
+
+        out.println( String.format( Locale.US,
+                        "%d,%.4f,%.4f,%.4f,%.4f,%.4f,%.2f,%.2f,%.2f,%s,%.2f,"
+                                        + "%.6f,%.4f,%.6f,%.2f",
+                        e.getTime(),
+                        robot.getX(),
+                        robot.getY(),
+                        robot.getHeading(),
+                        robot.getGunHeading(),
+                        robot.getRadarHeading(),
+                        robot.getGunHeat(),
+                        robot.getVelocity(),
+                        robot.getEnergy(),
+                        e.getName(),
+                        e.getEnergy(),
+                        e.getBearingRadians(),
+                        e.getDistance(),
+                        e.getHeadingRadians(),
+                        e.getVelocity() ) );
+    }
+
+
+    /**
+     * Records scans from the command line
+     *
+     * @param args opponent[,opponent...] scans [seed] [--resume directory]
+     * @throws IOException if no temporary data directory can be created
+     */
+    public static void main( String[] args ) throws IOException
+    {
+        List<String> rest = new ArrayList<String>( Arrays.asList( args ) );
+        File dataDirectory = dataDirectory( rest );
+        args = rest.toArray( new String[rest.size()] );
+        if ( args.length < 2 )
+        {
+            System.out.println( "Usage: java pt.sim.ScanRecorder "
+                            + "opponent[,opponent...] scans [seed] "
+                            + "[--resume directory]" );
+            return;
+        }
+
+        String[] names = args[0].split( "," );
+        int scans = Integer.parseInt( args[1] );
+        long seed = args.length > 2 ? Long.parseLong( args[2] ) : 42;
+
+        ScriptedOpponent[] opponents = new ScriptedOpponent[names.length];
+        for ( int i = 0; i < names.length; i++ )
+        {
+            opponents[i] = Opponents.create( names[i], seed + i );
+        }
+
+        ScanRecorder recorder = new ScanRecorder( opponents, seed,
+                        dataDirectory, System.out, scans );
+        while ( !recorder.isDone() )
+        {
+            recorder.runBattle( 1 );
+        }
+    }
+}
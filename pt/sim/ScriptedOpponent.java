@@ -0,0 +1,33 @@
+package pt.sim;
+
+/**
+ * Scripted opponent interface for the offline simulator
+ * <p/>
+ * Scripted opponents drive their body directly (they see the whole battle
+ * field), which keeps them cheap enough to run thousands of rounds.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+public interface ScriptedOpponent
+{
+    /**
+     * Initialize at the start of a round
+     *
+     * @param self body to drive
+     */
+    void init( SimRobot self );
+
+
+    /**
+     * Queue commands for one tick
+     *
+     * @param self   body to drive
+     * @param target closest living enemy
+     * @param time   battle time
+     */
+    void act( SimRobot self, SimRobot target, long time );
+}
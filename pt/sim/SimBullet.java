@@ -0,0 +1,113 @@
+package pt.sim;
+
+import robocode.Bullet;
+import robocode.Rules;
+
+
+/**
+ * Bullet in flight inside the offline simulator.
+ * <p/>
+ * Bullet objects are reused from round to round by the battle simulator.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - Robowiki Robocode/Game Physics
+ *         http://robowiki.net/wiki/Robocode/Game_Physics
+ * @version 10/18/26
+ */
+public class SimBullet
+{
+    ///Robot that fired the bullet
+    SimRobot owner;
+
+    ///Store x position
+    double x;
+
+    ///Store y position
+    double y;
+
+    ///Stores heading (radians)
+    double heading;
+
+    ///Stores power
+    double power;
+
+    ///Stores velocity
+    double velocity;
+
+    ///Whether the bullet is still flying
+    boolean active;
+
+
+    /**
+     * Sets the bullet flying
+     *
+     * @param owner   robot that fired it
+     * @param x       start x
+     * @param y       start y
+     * @param heading heading (radians)
+     * @param power   bullet power
+     */
+    void launch( SimRobot owner, double x, double y, double heading,
+                    double power )
+    {
+        this.owner = owner;
+        this.x = x;
+        this.y = y;
+        this.heading = heading;
+        this.power = power;
+        velocity = Rules.getBulletSpeed( power );
+        active = true;
+    }
+
+
+    /**
+     * Moves the bullet one tick forwards
+     */
+    void move()
+    {
+        x += Math.sin( heading ) * velocity;
+        y += Math.cos( heading ) * velocity;
+    }
+
+
+    /**
+     * Checks whether the bullet's last step passed through a robot
+     * <p/>
+     * Samples the end point and two points along the step, which is closer
+     * than a robot's width for every bullet speed.
+     *
+     * @param robot robot to check
+     * @return was hit
+     */
+    boolean hits( SimRobot robot )
+    {
+        double stepX = Math.sin( heading ) * velocity / 3;
+        double stepY = Math.cos( heading ) * velocity / 3;
+
+        for ( int i = 0; i < 3; i++ )
+        {
+            if ( Math.abs( x - stepX * i - robot.x ) <= SimRobot.HALF_SIZE
+                            && Math.abs( y - stepY * i - robot.y )
+                            <= SimRobot.HALF_SIZE )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * Builds the Robocode bullet handed to robots in events
+     *
+     * @param victim name of robot hit, or null
+     * @return Robocode bullet
+     */
+    Bullet toBullet( String victim )
+    {
+        return new Bullet( heading, x, y, power, owner.getName(), victim,
+                        false, 0 );
+    }
+}
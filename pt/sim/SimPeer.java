@@ -0,0 +1,593 @@
+package pt.sim;
+
+import robocode.*;
+import robocode.robotinterfaces.peer.IAdvancedRobotPeer;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Robot peer that connects a real AdvancedRobot to a simulated body.
+ * <p/>
+ * Robocode robots talk to the game only through their peer, so installing
+ * this one with setPeer lets TheCarver run unchanged inside the offline
+ * simulator. Blocking calls (ahead, turnGunRight, fire...) are treated as
+ * their non-blocking set versions. waitFor really does wait: it ends the
+ * robot's turn and has the battle play ticks until its condition holds.
+ * Custom event conditions are kept here and tested by the battle every
+ * tick, before events are handed out.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - Robocode IAdvancedRobotPeer
+ * @version 10/18/26
+ */
+public class SimPeer implements IAdvancedRobotPeer
+{
+    ///Data quota Robocode gives each robot (bytes)
+    private static final long DATA_QUOTA = 200000;
+
+    ///Battle the body lives in
+    private final BattleSimulator battle;
+
+    ///Simulated body of the robot
+    private final SimRobot body;
+
+    ///Directory handed out as the robot's data directory
+    private final File dataDirectory;
+
+    ///Distance remaining as of the start of the turn
+    private double distanceRemaining;
+
+    ///Body turn remaining as of the start of the turn
+    private double turnRemaining;
+
+    ///Gun turn remaining as of the start of the turn
+    private double gunTurnRemaining;
+
+    ///Radar turn remaining as of the start of the turn
+    private double radarTurnRemaining;
+
+    ///Whether the robot called execute() this turn
+    private boolean turnEnded = false;
+
+    ///Conditions of the robot's custom events
+    private final ArrayList<Condition> customEvents =
+                    new ArrayList<Condition>();
+
+
+    /**
+     * Constructor for SimPeer
+     *
+     * @param battle        battle the body lives in
+     * @param body          simulated body
+     * @param dataDirectory robot data directory
+     */
+    public SimPeer( BattleSimulator battle, SimRobot body, File dataDirectory )
+    {
+        this.battle = battle;
+        this.body = body;
+        this.dataDirectory = dataDirectory;
+    }
+
+
+    /**
+     * Starts a new turn for the robot
+     * <p/>
+     * Like the real engine, getters for remaining movement report the state
+     * at the start of the turn even after new set commands.
+     */
+    void beginTurn()
+    {
+        distanceRemaining = body.distanceRemaining;
+        turnRemaining = body.turnRemaining;
+        gunTurnRemaining = body.gunTurnRemaining;
+        radarTurnRemaining = body.radarTurnRemaining;
+        turnEnded = false;
+    }
+
+
+    /**
+     * Forgets the custom events of the last round's robot
+     */
+    void beginRound()
+    {
+        customEvents.clear();
+    }
+
+
+    /**
+     * Gets the conditions of the robot's custom events
+     *
+     * @return conditions (tested by the battle every tick)
+     */
+    List<Condition> getCustomEvents()
+    {
+        return customEvents;
+    }
+
+
+    /**
+     * Checks whether the robot has executed its turn
+     *
+     * @return turn ended
+     */
+    boolean isTurnEnded()
+    {
+        return turnEnded;
+    }
+
+
+    public String getName()
+    {
+        return body.getName();
+    }
+
+
+    public long getTime()
+    {
+        return battle.getTime();
+    }
+
+
+    public double getEnergy()
+    {
+        return body.energy;
+    }
+
+
+    public double getX()
+    {
+        return body.x;
+    }
+
+
+    public double getY()
+    {
+        return body.y;
+    }
+
+
+    public double getVelocity()
+    {
+        return body.velocity;
+    }
+
+
+    public double getBodyHeading()
+    {
+        return body.heading;
+    }
+
+
+    public double getGunHeading()
+    {
+        return body.gunHeading;
+    }
+
+
+    public double getRadarHeading()
+    {
+        return body.radarHeading;
+    }
+
+
+    public double getGunHeat()
+    {
+        return body.gunHeat;
+    }
+
+
+    public double getBattleFieldWidth()
+    {
+        return battle.getWidth();
+    }
+
+
+    public double getBattleFieldHeight()
+    {
+        return battle.getHeight();
+    }
+
+
+    public int getOthers()
+    {
+        return battle.getOthers( body );
+    }
+
+
+    public int getNumSentries()
+    {
+        return 0;
+    }
+
+
+    public int getNumRounds()
+    {
+        return battle.getNumRounds();
+    }
+
+
+    public int getRoundNum()
+    {
+        return battle.getRoundNum();
+    }
+
+
+    public int getSentryBorderSize()
+    {
+        return 0;
+    }
+
+
+    public double getGunCoolingRate()
+    {
+        return SimRobot.GUN_COOLING_RATE;
+    }
+
+
+    public double getDistanceRemaining()
+    {
+        return distanceRemaining;
+    }
+
+
+    public double getBodyTurnRemaining()
+    {
+        return turnRemaining;
+    }
+
+
+    public double getGunTurnRemaining()
+    {
+        return gunTurnRemaining;
+    }
+
+
+    public double getRadarTurnRemaining()
+    {
+        return radarTurnRemaining;
+    }
+
+
+    public void execute()
+    {
+        turnEnded = true;
+    }
+
+
+    public void move( double distance )
+    {
+        setMove( distance );
+        execute();
+    }
+
+
+    public void turnBody( double radians )
+    {
+        setTurnBody( radians );
+        execute();
+    }
+
+
+    public void turnGun( double radians )
+    {
+        setTurnGun( radians );
+        execute();
+    }
+
+
+    public Bullet fire( double power )
+    {
+        setFire( power );
+        execute();
+        return null;
+    }
+
+
+    public Bullet setFire( double power )
+    {
+        body.setFire( power );
+        return null;
+    }
+
+
+    public void setBodyColor( Color color )
+    {
+        //Nothing is drawn
+    }
+
+
+    public void setGunColor( Color color )
+    {
+        //Nothing is drawn
+    }
+
+
+    public void setRadarColor( Color color )
+    {
+        //Nothing is drawn
+    }
+
+
+    public void setBulletColor( Color color )
+    {
+        //Nothing is drawn
+    }
+
+
+    public void setScanColor( Color color )
+    {
+        //Nothing is drawn
+    }
+
+
+    public void getCall()
+    {
+        //Robot and battle run on the same thread
+    }
+
+
+    public void setCall()
+    {
+        //Robot and battle run on the same thread
+    }
+
+
+    public Graphics2D getGraphics()
+    {
+        return null;
+    }
+
+
+    public void setDebugProperty( String key, String value )
+    {
+        //No debug properties without the GUI
+    }
+
+
+    public void rescan()
+    {
+        //Scans happen every tick anyway
+    }
+
+
+    public void stop( boolean overwrite )
+    {
+        setStop( overwrite );
+    }
+
+
+    public void resume()
+    {
+        setResume();
+    }
+
+
+    public void turnRadar( double radians )
+    {
+        setTurnRadar( radians );
+        execute();
+    }
+
+
+    public void setAdjustGunForBodyTurn( boolean independent )
+    {
+        body.adjustGunForBodyTurn = independent;
+    }
+
+
+    public void setAdjustRadarForGunTurn( boolean independent )
+    {
+        body.adjustRadarForGunTurn = independent;
+    }
+
+
+    public void setAdjustRadarForBodyTurn( boolean independent )
+    {
+        body.adjustRadarForBodyTurn = independent;
+    }
+
+
+    public boolean isAdjustGunForBodyTurn()
+    {
+        return body.adjustGunForBodyTurn;
+    }
+
+
+    public boolean isAdjustRadarForGunTurn()
+    {
+        return body.adjustRadarForGunTurn;
+    }
+
+
+    public boolean isAdjustRadarForBodyTurn()
+    {
+        return body.adjustRadarForBodyTurn;
+    }
+
+
+    public void setStop( boolean overwrite )
+    {
+        body.distanceRemaining = 0;
+        body.turnRemaining = 0;
+    }
+
+
+    public void setResume()
+    {
+        //Stopped movement is not remembered
+    }
+
+
+    public void setMove( double distance )
+    {
+        body.setAhead( distance );
+    }
+
+
+    public void setTurnBody( double radians )
+    {
+        body.setTurnRightRadians( radians );
+    }
+
+
+    public void setTurnGun( double radians )
+    {
+        body.setTurnGunRightRadians( radians );
+    }
+
+
+    public void setTurnRadar( double radians )
+    {
+        body.setTurnRadarRightRadians( radians );
+    }
+
+
+    public void setMaxTurnRate( double newMaxTurnRate )
+    {
+        body.maxTurnRate = Math.min( Math.abs( newMaxTurnRate ),
+                        Rules.MAX_TURN_RATE_RADIANS );
+    }
+
+
+    public void setMaxVelocity( double newMaxVelocity )
+    {
+        body.maxVelocity = Math.min( Math.abs( newMaxVelocity ),
+                        Rules.MAX_VELOCITY );
+    }
+
+
+    public void waitFor( Condition condition )
+    {
+        while ( !condition.test() )
+        {
+            execute();
+            battle.passTurn();
+        }
+    }
+
+
+    public void setInterruptible( boolean interruptable )
+    {
+        //Events are never nested in the simulator
+    }
+
+
+    public void setEventPriority( String eventClass, int priority )
+    {
+        //Events are always delivered in default priority order
+    }
+
+
+    public int getEventPriority( String eventClass )
+    {
+        return 0;
+    }
+
+
+    public void addCustomEvent( Condition condition )
+    {
+        if ( condition == null )
+        {
+            throw new NullPointerException( "condition" );
+        }
+        customEvents.add( condition );
+    }
+
+
+    public void removeCustomEvent( Condition condition )
+    {
+        customEvents.remove( condition );
+    }
+
+
+    public void clearAllEvents()
+    {
+        //Events are handed straight to the robot
+    }
+
+
+    public List<Event> getAllEvents()
+    {
+        return Collections.emptyList();
+    }
+
+
+    public List<StatusEvent> getStatusEvents()
+    {
+        return Collections.emptyList();
+    }
+
+
+    public List<BulletMissedEvent> getBulletMissedEvents()
+    {
+        return Collections.emptyList();
+    }
+
+
+    public List<BulletHitBulletEvent> getBulletHitBulletEvents()
+    {
+        return Collections.emptyList();
+    }
+
+
+    public List<BulletHitEvent> getBulletHitEvents()
+    {
+        return Collections.emptyList();
+    }
+
+
+    public List<HitByBulletEvent> getHitByBulletEvents()
+    {
+        return Collections.emptyList();
+    }
+
+
+    public List<HitRobotEvent> getHitRobotEvents()
+    {
+        return Collections.emptyList();
+    }
+
+
+    public List<HitWallEvent> getHitWallEvents()
+    {
+        return Collections.emptyList();
+    }
+
+
+    public List<RobotDeathEvent> getRobotDeathEvents()
+    {
+        return Collections.emptyList();
+    }
+
+
+    public List<ScannedRobotEvent> getScannedRobotEvents()
+    {
+        return Collections.emptyList();
+    }
+
+
+    public File getDataDirectory()
+    {
+        return dataDirectory;
+    }
+
+
+    public File getDataFile( String filename )
+    {
+        return new File( dataDirectory, filename );
+    }
+
+
+    public long getDataQuotaAvailable()
+    {
+        return DATA_QUOTA;
+    }
+}
@@ -0,0 +1,571 @@
+package pt.sim;
+
+import robocode.Rules;
+import robocode.util.Utils;
+
+
+/**
+ * Body of one robot inside the offline simulator.
+ * <p/>
+ * Holds the physical state (position, headings, velocity, energy, gun heat)
+ * and the commands queued for the next turn, and advances them one tick at a
+ * time following the Robocode game physics:
+ * <p/>
+ * Acceleration 1, deceleration 2, maximum velocity 8
+ * Body turn rate 10 - 0.75 * |velocity| degrees, gun 20, radar 45
+ * Gun heat 1 + power / 5, cooling 0.1 per turn
+ * Wall damage max(|velocity| / 2 - 1, 0), ram damage 0.6
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources - Robowiki Robocode/Game Physics
+ *         http://robowiki.net/wiki/Robocode/Game_Physics
+ * @version 10/18/26
+ */
+public class SimRobot
+{
+    ///Half of the width (and height) of a robot's bounding box
+    public static final double HALF_SIZE = 18;
+
+    ///Rate at which the gun cools down every turn
+    public static final double GUN_COOLING_RATE = 0.1;
+
+    ///Stores name
+    private final String name;
+
+    ///Store x position
+    double x;
+
+    ///Store y position
+    double y;
+
+    ///Store x position before the last move (used to back out of rams)
+    double lastX;
+
+    ///Store y position before the last move (used to back out of rams)
+    double lastY;
+
+    ///Stores energy
+    double energy;
+
+    ///Stores velocity
+    double velocity;
+
+    ///Stores body heading (radians)
+    double heading;
+
+    ///Stores gun heading (radians)
+    double gunHeading;
+
+    ///Stores radar heading (radians)
+    double radarHeading;
+
+    ///Stores the radar heading at the start of the turn (scan arc start)
+    double lastRadarHeading;
+
+    ///Stores gun heat
+    double gunHeat;
+
+    ///Distance left to travel (positive is forwards)
+    double distanceRemaining;
+
+    ///Body turn left to make (radians)
+    double turnRemaining;
+
+    ///Gun turn left to make (radians)
+    double gunTurnRemaining;
+
+    ///Radar turn left to make (radians)
+    double radarTurnRemaining;
+
+    ///Power of the bullet to fire next turn (0 = do not fire)
+    double firePower;
+
+    ///Maximum velocity set by the robot
+    double maxVelocity = Rules.MAX_VELOCITY;
+
+    ///Maximum turn rate set by the robot (radians)
+    double maxTurnRate = Rules.MAX_TURN_RATE_RADIANS;
+
+    ///Whether the gun turns independently of the body
+    boolean adjustGunForBodyTurn = false;
+
+    ///Whether the radar turns independently of the gun
+    boolean adjustRadarForGunTurn = false;
+
+    ///Whether the radar turns independently of the body
+    boolean adjustRadarForBodyTurn = false;
+
+    ///Whether the robot is still in the round
+    boolean alive = true;
+
+    ///Whether the robot hit a wall during the last tick
+    boolean hitWall = false;
+
+    ///Velocity at the moment the robot hit a wall
+    double wallHitVelocity = 0;
+
+
+    /**
+     * Constructor for SimRobot
+     *
+     * @param name robot name
+     */
+    public SimRobot( String name )
+    {
+        this.name = name;
+    }
+
+
+    /**
+     * Places the robot for the start of a round
+     *
+     * @param x       start x
+     * @param y       start y
+     * @param heading start heading (radians), shared by body, gun and radar
+     */
+    public void reset( double x, double y, double heading )
+    {
+        this.x = x;
+        this.y = y;
+        lastX = x;
+        lastY = y;
+        this.heading = heading;
+        gunHeading = heading;
+        radarHeading = heading;
+        lastRadarHeading = heading;
+        energy = 100;
+        velocity = 0;
+        gunHeat = 3;
+        distanceRemaining = 0;
+        turnRemaining = 0;
+        gunTurnRemaining = 0;
+        radarTurnRemaining = 0;
+        firePower = 0;
+        maxVelocity = Rules.MAX_VELOCITY;
+        maxTurnRate = Rules.MAX_TURN_RATE_RADIANS;
+        adjustGunForBodyTurn = false;
+        adjustRadarForGunTurn = false;
+        adjustRadarForBodyTurn = false;
+        alive = true;
+        hitWall = false;
+    }
+
+
+    /**
+     * Queue a move (negative is backwards)
+     *
+     * @param distance distance to travel
+     */
+    public void setAhead( double distance )
+    {
+        distanceRemaining = distance;
+    }
+
+
+    /**
+     * Queue a body turn
+     *
+     * @param radians turn amount, positive is clockwise
+     */
+    public void setTurnRightRadians( double radians )
+    {
+        turnRemaining = radians;
+    }
+
+
+    /**
+     * Queue a gun turn
+     *
+     * @param radians turn amount, positive is clockwise
+     */
+    public void setTurnGunRightRadians( double radians )
+    {
+        gunTurnRemaining = radians;
+    }
+
+
+    /**
+     * Queue a radar turn
+     *
+     * @param radians turn amount, positive is clockwise
+     */
+    public void setTurnRadarRightRadians( double radians )
+    {
+        radarTurnRemaining = radians;
+    }
+
+
+    /**
+     * Limits velocity
+     *
+     * @param velocity new maximum velocity
+     */
+    public void setMaxVelocity( double velocity )
+    {
+        maxVelocity = Math.min( Math.abs( velocity ), Rules.MAX_VELOCITY );
+    }
+
+
+    /**
+     * Queue a bullet to be fired at the start of the next tick
+     *
+     * @param power bullet power
+     */
+    public void setFire( double power )
+    {
+        firePower = power;
+    }
+
+
+    /**
+     * Gets name
+     *
+     * @return name
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+
+    /**
+     * Get current x
+     *
+     * @return current x
+     */
+    public double getX()
+    {
+        return x;
+    }
+
+
+    /**
+     * Get current y
+     *
+     * @return current y
+     */
+    public double getY()
+    {
+        return y;
+    }
+
+
+    /**
+     * Gets energy
+     *
+     * @return energy
+     */
+    public double getEnergy()
+    {
+        return energy;
+    }
+
+
+    /**
+     * Gets velocity
+     *
+     * @return velocity
+     */
+    public double getVelocity()
+    {
+        return velocity;
+    }
+
+
+    /**
+     * Gets body heading
+     *
+     * @return heading in radians
+     */
+    public double getHeadingRadians()
+    {
+        return heading;
+    }
+
+
+    /**
+     * Gets gun heading
+     *
+     * @return gun heading in radians
+     */
+    public double getGunHeadingRadians()
+    {
+        return gunHeading;
+    }
+
+
+    /**
+     * Gets gun heat
+     *
+     * @return gun heat
+     */
+    public double getGunHeat()
+    {
+        return gunHeat;
+    }
+
+
+    /**
+     * Gets the distance left to travel
+     *
+     * @return distance remaining
+     */
+    public double getDistanceRemaining()
+    {
+        return distanceRemaining;
+    }
+
+
+    /**
+     * Checks whether the robot is still in the round
+     *
+     * @return is alive
+     */
+    public boolean isAlive()
+    {
+        return alive;
+    }
+
+
+    /**
+     * Fires the queued bullet if the gun is cool
+     * <p/>
+     * Bullets leave along the gun heading from before this tick's gun turn.
+     *
+     * @param bullet bullet to fill in
+     * @return whether a bullet was fired
+     */
+    boolean fire( SimBullet bullet )
+    {
+        double power = Math.min( firePower, energy );
+        firePower = 0;
+        if ( gunHeat > 0 || power < Rules.MIN_BULLET_POWER )
+        {
+            return false;
+        }
+
+        power = Math.min( power, Rules.MAX_BULLET_POWER );
+        gunHeat = Rules.getGunHeat( power );
+        energy -= power;
+        bullet.launch( this, x, y, gunHeading, power );
+        return true;
+    }
+
+
+    /**
+     * Advances gun heat, headings and position by one tick
+     *
+     * @param width  battle field width
+     * @param height battle field height
+     */
+    void move( double width, double height )
+    {
+        lastRadarHeading = radarHeading;
+        gunHeat = Math.max( gunHeat - GUN_COOLING_RATE, 0 );
+
+        turnBody();
+        turnGun();
+        turnRadar();
+        updateMovement();
+        checkWallCollision( width, height );
+    }
+
+
+    /**
+     * Turns the body, dragging the gun and radar along unless adjusted
+     */
+    private void turnBody()
+    {
+        double rate = Math.min( maxTurnRate,
+                        Rules.getTurnRateRadians( velocity ) );
+        double turn = clamp( turnRemaining, rate );
+        turnRemaining -= turn;
+        heading = Utils.normalAbsoluteAngle( heading + turn );
+
+        if ( !adjustGunForBodyTurn )
+        {
+            gunHeading = Utils.normalAbsoluteAngle( gunHeading + turn );
+        }
+        if ( !adjustRadarForBodyTurn )
+        {
+            radarHeading = Utils.normalAbsoluteAngle( radarHeading + turn );
+        }
+    }
+
+
+    /**
+     * Turns the gun, dragging the radar along unless adjusted
+     */
+    private void turnGun()
+    {
+        double turn = clamp( gunTurnRemaining,
+                        Rules.GUN_TURN_RATE_RADIANS );
+        gunTurnRemaining -= turn;
+        gunHeading = Utils.normalAbsoluteAngle( gunHeading + turn );
+
+        if ( !adjustRadarForGunTurn )
+        {
+            radarHeading = Utils.normalAbsoluteAngle( radarHeading + turn );
+        }
+    }
+
+
+    /**
+     * Turns the radar
+     */
+    private void turnRadar()
+    {
+        double turn = clamp( radarTurnRemaining,
+                        Rules.RADAR_TURN_RATE_RADIANS );
+        radarTurnRemaining -= turn;
+        radarHeading = Utils.normalAbsoluteAngle( radarHeading + turn );
+    }
+
+
+    /**
+     * Accelerates towards the remaining distance and moves
+     */
+    private void updateMovement()
+    {
+        velocity = getNewVelocity( velocity, distanceRemaining );
+        distanceRemaining -= velocity;
+
+        lastX = x;
+        lastY = y;
+        x += Math.sin( heading ) * velocity;
+        y += Math.cos( heading ) * velocity;
+    }
+
+
+    /**
+     * Stops the robot at the walls and applies wall damage
+     *
+     * @param width  battle field width
+     * @param height battle field height
+     */
+    private void checkWallCollision( double width, double height )
+    {
+        hitWall = false;
+        double fixedX = Math.max( HALF_SIZE, Math.min( width - HALF_SIZE, x ) );
+        double fixedY = Math.max( HALF_SIZE,
+                        Math.min( height - HALF_SIZE, y ) );
+
+        if ( fixedX != x || fixedY != y )
+        {
+            hitWall = true;
+            wallHitVelocity = velocity;
+            energy -= Rules.getWallHitDamage( velocity );
+            x = fixedX;
+            y = fixedY;
+            velocity = 0;
+            distanceRemaining = 0;
+        }
+    }
+
+
+    /**
+     * Backs the robot out of a ram and stops it
+     */
+    void bounceBack()
+    {
+        x = lastX;
+        y = lastY;
+        velocity = 0;
+        distanceRemaining = 0;
+    }
+
+
+    /**
+     * Limits a turn to the maximum rate in either direction
+     *
+     * @param remaining turn remaining
+     * @param rate      maximum rate
+     * @return turn to make this tick
+     */
+    private static double clamp( double remaining, double rate )
+    {
+        return Math.max( -rate, Math.min( rate, remaining ) );
+    }
+
+
+    /**
+     * Computes next velocity the way the Robocode engine does: accelerate
+     * by 1, decelerate by 2, and brake early enough to stop on the spot.
+     *
+     * @param velocity current velocity
+     * @param distance distance remaining
+     * @return new velocity
+     */
+    double getNewVelocity( double velocity, double distance )
+    {
+        if ( distance < 0 )
+        {
+            // Mirror the problem so we only handle moving forwards
+            return -getNewVelocity( -velocity, -distance );
+        }
+
+        double goalVelocity = Math.min( getMaxVelocity( distance ),
+                        maxVelocity );
+
+        if ( velocity >= 0 )
+        {
+            return Math.max( velocity - Rules.DECELERATION,
+                            Math.min( goalVelocity,
+                                            velocity + Rules.ACCELERATION ) );
+        }
+
+        // Moving backwards while wanting to go forwards
+        return Math.max( velocity - Rules.ACCELERATION,
+                        Math.min( goalVelocity,
+                                        velocity + maxDecel( -velocity ) ) );
+    }
+
+
+    /**
+     * Highest velocity from which we can still stop within distance
+     *
+     * @param distance distance remaining
+     * @return maximum velocity
+     */
+    private static double getMaxVelocity( double distance )
+    {
+        //Braking from full speed takes 8 + 6 + 4 + 2 = 20 units
+        if ( distance >= 20 )
+        {
+            return Rules.MAX_VELOCITY;
+        }
+
+        double decelTime = Math.max( 1, Math.ceil(
+                        ( Math.sqrt( ( 4 * 2 / Rules.DECELERATION ) * distance
+                                        + 1 ) - 1 ) / 2 ) );
+
+        if ( decelTime == Double.POSITIVE_INFINITY )
+        {
+            return Rules.MAX_VELOCITY;
+        }
+
+        double decelDist = ( decelTime / 2.0 ) * ( decelTime - 1 )
+                        * Rules.DECELERATION;
+
+        return ( ( decelTime - 1 ) * Rules.DECELERATION )
+                        + ( ( distance - decelDist ) / decelTime );
+    }
+
+
+    /**
+     * Velocity change available when reversing through zero
+     *
+     * @param speed current speed (against desired direction)
+     * @return velocity change
+     */
+    private static double maxDecel( double speed )
+    {
+        double decelTime = speed / Rules.DECELERATION;
+        double accelTime = ( 1 - decelTime );
+
+        return Math.min( 1, decelTime ) * Rules.DECELERATION
+                        + Math.max( 0, accelTime ) * Rules.ACCELERATION;
+    }
+}
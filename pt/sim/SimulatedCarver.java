@@ -0,0 +1,106 @@
+package pt.sim;
+
+import pt.ProfileFiles;
+import pt.ProfileStore;
+import pt.RobotDataFiles;
+import pt.TheCarver;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Random;
+
+
+/**
+ * TheCarver hosted by the offline simulator
+ * <p/>
+ * Instead of looping forever in run(), the simulator calls doTurn once per
+ * tick, which moves parts until the robot executes its turn. Profiles
+ * belong to the battle rather than the JVM, so battles running side by side
+ * do not share what they learn.
+ *
+ * @author Pranav Prakash
+ * @author Period - 7
+ * @author Assignment - TheCarver
+ * @author Sources
+ * @version 10/18/26
+ */
+public class SimulatedCarver extends TheCarver
+{
+    ///Console that throws away everything written to it
+    private static final PrintStream NO_OUTPUT = new PrintStream(
+                    new OutputStream()
+                    {
+                        public void write( int b )
+                        {
+                            //Discard
+                        }
+
+
+                        public void write( byte[] b, int off, int len )
+                        {
+                            //Discard
+                        }
+                    } );
+
+    ///Peer connecting this robot to its simulated body
+    private final SimPeer peer;
+
+
+    /**
+     * Constructor for SimulatedCarver
+     *
+     * @param peer     peer connecting the robot to its body
+     * @param profiles profile store for this battle
+     * @param random   random numbers for the parts (seeded by the battle)
+     */
+    public SimulatedCarver( SimPeer peer, ProfileStore profiles,
+                    Random random )
+    {
+        super( profiles, random );
+        this.peer = peer;
+        setPeer( peer );
+        setOut( NO_OUTPUT );
+    }
+
+
+    /**
+     * Sets up parts at the start of a round (what run() does first)
+     */
+    public void startRound()
+    {
+        setUpParts();
+    }
+
+
+    /**
+     * Gets the simulated data directory, written with plain file streams
+     * since there is no game to hand out RobocodeFileOutputStreams
+     *
+     * @return data files
+     */
+    protected ProfileFiles createDataFiles()
+    {
+        return new RobotDataFiles( this )
+        {
+            protected OutputStream createOutput( File file )
+                            throws IOException
+            {
+                file.getParentFile().mkdirs();
+                return new FileOutputStream( file );
+            }
+        };
+    }
+
+
+    /**
+     * Runs the robot's pipeline for one turn
+     */
+    public void doTurn()
+    {
+        peer.beginTurn();
+        runTick();
+    }
+}